@@ -0,0 +1,85 @@
+package alp.analysis;
+
+import java.io.File;
+import java.util.Arrays;
+
+import alp.io.InstanceReader;
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.solver.ALPModel;
+import alp.solver.FormulationSelector;
+import alp.solver.ModelOptions;
+import alp.solver.ObjectiveModule;
+import alp.solver.ObjectiveType;
+
+/**
+ * Benchmarks the separation formulations of {@link ALPModel} on the
+ * OR-Library instances with 1 to 5 runways: model size, build time, solve
+ * time and objective value for each formulation. The estimated memory of
+ * each formulation is reported as well, and formulations over the default
+ * memory budget (the time-indexed one on wide windows) are not built. The
+ * formulation the automatic selector would pick is marked with '*'.
+ * 
+ * Usage: FormulationBenchmark [WEIGHTED_DELAY|MAKESPAN|TOTAL_LATENESS] [maxRunways]
+ */
+public class FormulationBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        ObjectiveType type = args.length > 0 ? ObjectiveType.valueOf(args[0]) : ObjectiveType.WEIGHTED_DELAY;
+        int maxRunways = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        File[] files = new File("instances").listFiles((dir, name) -> name.endsWith(".txt"));
+        if (files == null) {
+            System.err.println("No instances directory found");
+            return;
+        }
+        Arrays.sort(files);
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-10s %3s %-16s %8s %8s %9s %9s %9s %12s%n",
+                "Instance", "m", "Formulation", "Rows", "Cols", "Est(MB)", "Build(s)", "Solve(s)", "Objective"));
+
+        for (File file : files) {
+            for (int runways = 1; runways <= maxRunways; runways++) {
+                ALPInstance instance = InstanceReader.readInstance(file.getPath(), runways);
+                FormulationSelector selector = new FormulationSelector(instance);
+                ModelOptions.Formulation selected = selector.select(new ModelOptions());
+
+                for (ModelOptions.Formulation formulation : ModelOptions.Formulation.values()) {
+                    String label = formulation + (formulation == selected ? "*" : "");
+                    FormulationSelector.Estimate estimate = selector.estimate(formulation);
+                    if (estimate.getMemoryMB() > new ModelOptions().getMemoryBudgetMB()) {
+                        report.append(String.format("%-10s %3d %-16s %8d %8d %9.1f %9s %9s %12s%n",
+                                instance.getInstanceName(), runways, label, estimate.getRows(),
+                                estimate.getColumns(), estimate.getMemoryMB(), "-", "-", "skipped"));
+                        continue;
+                    }
+                    ALPModel model = new ALPModel(instance, new ModelOptions().setFormulation(formulation));
+                    try {
+                        int rows = model.getCplex().getNrows();
+                        int cols = model.getCplex().getNcols();
+                        String objective;
+                        double solveTime;
+                        try {
+                            ALPSolution solution = model.solve(ObjectiveModule.of(type));
+                            objective = String.valueOf(solution.getObjectiveValue());
+                            solveTime = solution.getSolveTime();
+                        } catch (RuntimeException e) {
+                            objective = "failed";
+                            solveTime = Double.NaN;
+                        }
+                        report.append(String.format("%-10s %3d %-16s %8d %8d %9.1f %9.3f %9.3f %12s%n",
+                                instance.getInstanceName(), runways, label, rows, cols,
+                                estimate.getMemoryMB(), model.getBuildTime(), solveTime, objective));
+                    } finally {
+                        model.end();
+                    }
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.println("=== Formulation benchmark: " + type.getLabel() + " ===");
+        System.out.print(report);
+    }
+}
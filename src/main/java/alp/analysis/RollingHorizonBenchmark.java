@@ -0,0 +1,112 @@
+package alp.analysis;
+
+import java.io.File;
+import java.util.Arrays;
+
+import alp.io.InstanceReader;
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.solver.ALPSolver;
+import alp.solver.GeneticAlgorithmSolver;
+import alp.solver.ObjectiveType;
+import alp.solver.Problem1Solver;
+import alp.solver.Problem2Solver;
+import alp.solver.Problem3Solver;
+import alp.solver.RollingHorizonSolver;
+import alp.solver.SimulatedAnnealingSolver;
+import alp.solver.TabuSearchSolver;
+
+/**
+ * Compares {@link RollingHorizonSolver} with a full solve by the same inner
+ * solver on the OR-Library instances with 1 to 5 runways: objective values,
+ * solve times and the relative quality loss of the decomposition.
+ *
+ * Usage: RollingHorizonBenchmark [WEIGHTED_DELAY|MAKESPAN|TOTAL_LATENESS]
+ * [CPLEX|ANNEALING|TABU|GENETIC] [maxRunways] [windowSize] [commitLength]
+ */
+public class RollingHorizonBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        ObjectiveType type = args.length > 0 ? ObjectiveType.valueOf(args[0]) : ObjectiveType.WEIGHTED_DELAY;
+        String inner = args.length > 1 ? args[1] : "CPLEX";
+        int maxRunways = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        int windowSize = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+        int commitLength = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+
+        File[] files = new File("instances").listFiles((dir, name) -> name.endsWith(".txt"));
+        if (files == null) {
+            System.err.println("No instances directory found");
+            return;
+        }
+        Arrays.sort(files);
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-10s %3s %12s %9s %12s %9s %8s%n",
+                "Instance", "m", "Full", "Full(s)", "Rolling", "Roll(s)", "Loss"));
+
+        for (File file : files) {
+            for (int runways = 1; runways <= maxRunways; runways++) {
+                ALPInstance instance = InstanceReader.readInstance(file.getPath(), runways);
+
+                ALPSolution full = solveOrNull(createSolver(inner, type), instance);
+                RollingHorizonSolver rolling = new RollingHorizonSolver(createSolver(inner, type), type);
+                rolling.setWindowSize(windowSize);
+                rolling.setCommitLength(commitLength);
+                ALPSolution decomposed = solveOrNull(rolling, instance);
+
+                String loss = "-";
+                if (full != null && decomposed != null) {
+                    double gap = decomposed.getObjectiveValue() - full.getObjectiveValue();
+                    loss = Math.abs(full.getObjectiveValue()) > 1e-9
+                            ? String.format("%+.1f%%", 100.0 * gap / Math.abs(full.getObjectiveValue()))
+                            : String.format("%+.0f", gap);
+                }
+                report.append(String.format("%-10s %3d %12s %9s %12s %9s %8s%n",
+                        instance.getInstanceName(), runways, value(full), time(full), value(decomposed),
+                        time(decomposed), loss));
+            }
+        }
+
+        System.out.println();
+        System.out.println("=== Rolling horizon benchmark: " + type.getLabel() + ", " + inner + ", windows of "
+                + windowSize + ", commit " + commitLength + " ===");
+        System.out.print(report);
+    }
+
+    private static ALPSolver createSolver(String name, ObjectiveType type) {
+        switch (name) {
+            case "ANNEALING":
+                return new SimulatedAnnealingSolver(type);
+            case "TABU":
+                return new TabuSearchSolver(type);
+            case "GENETIC":
+                return new GeneticAlgorithmSolver(type);
+            default:
+                switch (type) {
+                    case WEIGHTED_DELAY:
+                        return new Problem1Solver();
+                    case MAKESPAN:
+                        return new Problem2Solver();
+                    default:
+                        return new Problem3Solver();
+                }
+        }
+    }
+
+    private static ALPSolution solveOrNull(ALPSolver solver, ALPInstance instance) {
+        try {
+            return solver.solve(instance);
+        } catch (RuntimeException e) {
+            System.err.println(solver.getName() + " failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String value(ALPSolution solution) {
+        return solution == null ? "failed" : String.valueOf(solution.getObjectiveValue());
+    }
+
+    private static String time(ALPSolution solution) {
+        return solution == null ? "-" : String.format("%.3f", solution.getSolveTime());
+    }
+}
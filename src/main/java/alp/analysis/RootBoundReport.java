@@ -0,0 +1,79 @@
+package alp.analysis;
+
+import java.io.File;
+import java.util.Arrays;
+
+import alp.io.InstanceReader;
+import alp.model.ALPInstance;
+import alp.solver.ALPModel;
+import alp.solver.ModelOptions;
+import alp.solver.ObjectiveModule;
+import alp.solver.ObjectiveType;
+import ilog.concert.IloException;
+
+/**
+ * Compares the LP relaxation bound of the model built with the original
+ * global big-M and open variable bounds against the one built with per-pair
+ * big-M coefficients and tight bounds.
+ */
+public class RootBoundReport {
+
+    /**
+     * Prints the comparison for every instance of the "instances" directory,
+     * every objective and 1 to 5 runways.
+     */
+    public static void main(String[] args) throws Exception {
+        File[] files = new File("instances").listFiles((dir, name) -> name.endsWith(".txt"));
+        if (files == null) {
+            System.err.println("No instances directory found");
+            return;
+        }
+        Arrays.sort(files);
+
+        for (File file : files) {
+            for (int runways = 1; runways <= 5; runways++) {
+                ALPInstance instance = InstanceReader.readInstance(file.getPath(), runways);
+                for (ObjectiveType type : ObjectiveType.values()) {
+                    System.out.println(compare(instance, type));
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds both variants of the model for the given objective and returns a
+     * one-line summary of their root LP bounds.
+     * 
+     * @param instance The ALP instance
+     * @param type     The objective to compare
+     * @return A human-readable comparison
+     */
+    public static String compare(ALPInstance instance, ObjectiveType type) throws IloException {
+        double globalBound = rootBound(instance, type, new ModelOptions().setTightBounds(false));
+        double tightBound = rootBound(instance, type, new ModelOptions().setTightBounds(true));
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(instance.getInstanceName()).append(" (").append(instance.getNumRunways())
+                .append(" runways) ").append(type.getLabel()).append(": root LP bound ")
+                .append(globalBound).append(" with global big-M, ")
+                .append(tightBound).append(" with per-pair big-M");
+        if (Math.abs(globalBound) > 1e-9) {
+            sb.append(" (").append(String.format("%+.1f%%", 100.0 * (tightBound - globalBound) / Math.abs(globalBound)))
+                    .append(")");
+        } else {
+            sb.append(" (+").append(tightBound - globalBound).append(")");
+        }
+        return sb.toString();
+    }
+
+    private static double rootBound(ALPInstance instance, ObjectiveType type, ModelOptions options)
+            throws IloException {
+        ALPModel model = new ALPModel(instance, options);
+        try {
+            model.setObjective(ObjectiveModule.of(type));
+            return model.solveRootRelaxation();
+        } finally {
+            model.end();
+        }
+    }
+}
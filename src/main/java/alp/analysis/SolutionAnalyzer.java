@@ -27,7 +27,20 @@ public class SolutionAnalyzer {
         writer.println("Number of aircraft: " + n);
         writer.println("Number of runways: " + m);
         writer.println("Objective value: " + solution.getObjectiveValue());
+        writer.println("Model build time: " + solution.getModelBuildTime() + " seconds");
         writer.println("Solve time: " + solution.getSolveTime() + " seconds");
+        if (!Double.isNaN(solution.getRootBound())) {
+            writer.println("Root LP bound: " + solution.getRootBound());
+        }
+        if (!Double.isNaN(solution.getTimeToFirstIncumbent())) {
+            writer.println("Time to first incumbent: " + solution.getTimeToFirstIncumbent() + " seconds");
+        }
+        if (!Double.isNaN(solution.getMipGap())) {
+            writer.println("Final MIP gap: " + String.format("%.4f%%", 100 * solution.getMipGap()));
+        }
+        if (solution.getLazyConstraints() > 0) {
+            writer.println("Lazy separation rows: " + solution.getLazyConstraints());
+        }
         
         // Analyze runway utilization
         int[] runwayCount = new int[m];
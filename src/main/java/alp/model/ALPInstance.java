@@ -1,5 +1,6 @@
 package alp.model;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -21,6 +22,22 @@ public class ALPInstance {
         // Generate runway transfer times for problem 3
         generateRunwayTransferTimes();
     }
+
+    /**
+     * Creates an instance whose transfer times are given rather than drawn,
+     * as for the sub-instances of the decomposition solvers: row i holds
+     * the transfer times of aircraft i, one per runway, and is used as is.
+     */
+    public ALPInstance(List<AircraftData> aircraft, int[][] separationTimes, int numRunways, String instanceName,
+            int[][] runwayTransferTimes) {
+        this.aircraft = aircraft;
+        this.separationTimes = separationTimes;
+        this.numRunways = numRunways;
+        this.instanceName = instanceName;
+        for (int i = 0; i < aircraft.size(); i++) {
+            aircraft.get(i).setRunwayTransferTimes(runwayTransferTimes[i]);
+        }
+    }
     
     private void generateRunwayTransferTimes() {
         Random random = new Random(42); // Fixed seed for reproducibility
@@ -61,6 +78,21 @@ public class ALPInstance {
         return instanceName;
     }
     
+    /**
+     * Returns a copy of this instance with another number of runways. The
+     * aircraft data is copied (transfer times are regenerated for the new
+     * runway count, exactly as when the file is read again) and the separation
+     * matrix is shared.
+     */
+    public ALPInstance withRunways(int numRunways) {
+        List<AircraftData> copies = new ArrayList<>();
+        for (AircraftData a : aircraft) {
+            copies.add(new AircraftData(a.getId(), a.getEarliestLandingTime(), a.getTargetLandingTime(),
+                    a.getLatestLandingTime(), a.getEarlyPenalty(), a.getLatePenalty()));
+        }
+        return new ALPInstance(copies, separationTimes, numRunways, instanceName);
+    }
+
     public int getSeparationTime(int i, int j) {
         return separationTimes[i][j];
     }
@@ -10,6 +10,12 @@ public class ALPSolution {
     private double objectiveValue;
     private double solveTime;
     private String problemVariant;
+    private double rootBound = Double.NaN; // LP relaxation bound, NaN if not computed
+    private int lazyConstraints; // separation rows generated by the lazy callback
+    private double modelBuildTime; // seconds spent building the model, not included in solveTime
+    private double mipGap = Double.NaN; // final relative gap, NaN if unknown
+    private double lowerBound = Double.NaN; // best known lower bound, NaN if unknown
+    private double timeToFirstIncumbent = Double.NaN; // seconds, NaN if unknown
 
     public ALPSolution(ALPInstance instance, int[] landingTimes, int[] runwayAssignments, 
                      double objectiveValue, double solveTime, String problemVariant) {
@@ -45,6 +51,58 @@ public class ALPSolution {
         return problemVariant;
     }
     
+    public void setSolveTime(double solveTime) {
+        this.solveTime = solveTime;
+    }
+
+    public double getMipGap() {
+        return mipGap;
+    }
+
+    public void setMipGap(double mipGap) {
+        this.mipGap = mipGap;
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public void setLowerBound(double lowerBound) {
+        this.lowerBound = lowerBound;
+    }
+
+    public double getTimeToFirstIncumbent() {
+        return timeToFirstIncumbent;
+    }
+
+    public void setTimeToFirstIncumbent(double timeToFirstIncumbent) {
+        this.timeToFirstIncumbent = timeToFirstIncumbent;
+    }
+
+    public double getModelBuildTime() {
+        return modelBuildTime;
+    }
+
+    public void setModelBuildTime(double modelBuildTime) {
+        this.modelBuildTime = modelBuildTime;
+    }
+
+    public double getRootBound() {
+        return rootBound;
+    }
+
+    public void setRootBound(double rootBound) {
+        this.rootBound = rootBound;
+    }
+
+    public int getLazyConstraints() {
+        return lazyConstraints;
+    }
+
+    public void setLazyConstraints(int lazyConstraints) {
+        this.lazyConstraints = lazyConstraints;
+    }
+
     public int getLandingTime(int aircraftIndex) {
         return landingTimes[aircraftIndex];
     }
@@ -59,6 +117,13 @@ public class ALPSolution {
         sb.append("Problem Variant: ").append(problemVariant).append("\n");
         sb.append("Instance: ").append(instance.getInstanceName()).append("\n");
         sb.append("Objective Value: ").append(objectiveValue).append("\n");
+        if (!Double.isNaN(lowerBound)) {
+            sb.append("Lower Bound: ").append(lowerBound).append("\n");
+        }
+        if (!Double.isNaN(mipGap)) {
+            sb.append("Gap: ").append(String.format("%.2f%%", 100 * mipGap)).append("\n");
+        }
+        sb.append("Model Build Time: ").append(modelBuildTime).append(" seconds\n");
         sb.append("Solve Time: ").append(solveTime).append(" seconds\n");
         sb.append("Schedule:\n");
         
@@ -0,0 +1,1125 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+import ilog.concert.IloConversion;
+import ilog.concert.IloException;
+import ilog.concert.IloLPMatrix;
+import ilog.concert.IloLinearNumExpr;
+import ilog.concert.IloNumExpr;
+import ilog.concert.IloNumVar;
+import ilog.concert.IloNumVarType;
+import ilog.concert.IloObjective;
+import ilog.concert.IloRange;
+import ilog.cplex.IloCplex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CPLEX model shared by the three problem variants.
+ * 
+ * The model holds the landing time (x), runway assignment (z) and precedence
+ * (y) variables together with the time window, runway assignment, ordering
+ * and separation constraints. It is built once per instance and runway
+ * count; objectives are plugged in as {@link ObjectiveModule}s and can be
+ * swapped on the live {@link IloCplex} object without rebuilding the core.
+ * 
+ * Pairs whose order is decided by their time windows (see
+ * {@link PairAnalysis}) get no precedence variable, and separation rows that
+ * can never bind are not generated.
+ * 
+ * By default every big-M coefficient is computed from the windows of the
+ * aircraft involved and all variables get the tightest bounds implied by the
+ * windows (see {@link ModelOptions#isTightBounds()}).
+ * 
+ * The core rows are written as coefficient arrays into an {@link IloLPMatrix}
+ * in batches, so that no Concert expression is allocated per term; only the
+ * objective modules and lazily generated rows use expressions.
+ * 
+ * When the active objective does not depend on the runway (Problems 1 and
+ * 2), runways are interchangeable and symmetry-breaking rows are added; they
+ * are removed again when switching to Problem 3. Precedence binaries of
+ * interchangeable aircraft are fixed per objective by dominance.
+ * 
+ * The time-indexed formulation replaces the precedence variables and big-M
+ * separation rows by binaries w_irt (aircraft i lands on runway r at time t,
+ * created only inside the window of i) and conflict rows forbidding every
+ * pair of landings closer than their separation. x_i and z_ir are then
+ * linked to the w_irt, so that the objective modules apply unchanged; the
+ * modules of Problems 1 and 3 put their costs directly on the w_irt
+ * instead. The formulation can be chosen per instance by
+ * {@link FormulationSelector}.
+ */
+public class ALPModel {
+
+    // Global big-M constant, only used when tight bounds are disabled
+    static final int BIG_M = 100000;
+
+    // Maximum time limit for CPLEX in seconds
+    private static final int TIME_LIMIT_SECONDS = 60;
+
+    // MIP gap tolerance (relative gap between best integer and best bound)
+    private static final double MIP_GAP = 0.05; // 5% gap tolerance
+
+    // Relative tolerance added to the objective cutoff of a known schedule
+    private static final double CUTOFF_TOLERANCE = 1e-6;
+
+    // x_j, x_i, y_ij and two runway terms
+    private static final int MAX_SEPARATION_TERMS = 5;
+
+    private final ALPInstance instance;
+    private final ModelOptions options;
+    private final IloCplex cplex;
+
+    private final IloNumVar[] landingTimes; // x_i: landing time for aircraft i
+    private final IloNumVar[][] runwayAssignment; // z_ir: 1 if aircraft i is assigned to runway r
+    private final IloNumVar[][] precedence; // y_ij: 1 if aircraft i lands before j (null if fixed)
+    private final IloNumVar[][] sameRunway; // delta_ij: 1 if i and j share a runway (same-runway formulation)
+    private final PairAnalysis pairs;
+    private final IloNumVar[] columns; // all core variables in LP matrix column order
+    private final IloNumVar[] binaries;
+    private final int[][] precedenceCol; // column of y_ij, -1 if fixed
+    private final int[][] sameRunwayCol; // column of delta_ij, -1 if absent
+    private final int[][] slotCol; // column of w_irt for t = E_i (time-indexed formulation), -1 otherwise
+    private final ModelOptions.Formulation formulation;
+    private final boolean lazySeparation;
+    private final IloLPMatrix matrix;
+    private double buildTime;
+    private SeparationCallback separationCallback;
+    private IncumbentTimer incumbentTimer;
+
+    private IloObjective objective;
+    private ObjectiveModule activeModule;
+    private IloRange[] symmetryRows; // present while the active objective ignores runways
+    private DominanceAnalysis dominance;
+    private final List<IloNumVar> dominanceFixed = new ArrayList<>();
+
+    /**
+     * Builds the shared model for the given instance with default options.
+     * 
+     * @param instance The ALP instance (its runway count is used for the model)
+     */
+    public ALPModel(ALPInstance instance) throws IloException {
+        this(instance, new ModelOptions());
+    }
+
+    /**
+     * Builds the shared model for the given instance.
+     * 
+     * @param instance The ALP instance (its runway count is used for the model)
+     * @param options  Formulation and solve options
+     */
+    public ALPModel(ALPInstance instance, ModelOptions options) throws IloException {
+        this.instance = instance;
+        this.options = options;
+        boolean tight = options.isTightBounds();
+
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+
+        System.out.println("Building shared ALP model: " + n + " aircraft, " + m + " runways");
+        long startTime = System.currentTimeMillis();
+
+        pairs = new PairAnalysis(instance);
+        System.out.println(pairs);
+
+        // Choose the formulation and estimate its size before building it
+        FormulationSelector selector = new FormulationSelector(instance, pairs);
+        formulation = options.isAutomaticFormulation() ? selector.select(options) : options.getFormulation();
+        boolean timeIndexed = formulation == ModelOptions.Formulation.TIME_INDEXED;
+        FormulationSelector.Estimate estimate = selector.estimate(formulation);
+        System.out.println(formulation + " formulation, estimated " + estimate);
+        if (timeIndexed && estimate.getMemoryMB() > options.getMemoryBudgetMB()) {
+            System.out.println("⚠️ Estimated model memory exceeds the budget of " + options.getMemoryBudgetMB()
+                    + " MB");
+        }
+        lazySeparation = options.isLazySeparation() && !timeIndexed;
+        if (options.isLazySeparation() && timeIndexed) {
+            System.out.println("Lazy separation is not used by the time-indexed formulation");
+        }
+        if (options.isDominanceFixing() && timeIndexed) {
+            System.out.println("Dominance fixing is not used by the time-indexed formulation");
+        }
+
+        // Create the CPLEX model
+        cplex = new IloCplex();
+
+        // Configure CPLEX parameters
+        cplex.setParam(IloCplex.Param.MIP.Display, 2); // Level of display output
+        cplex.setParam(IloCplex.Param.TimeLimit, TIME_LIMIT_SECONDS); // Time limit
+        cplex.setParam(IloCplex.Param.MIP.Tolerances.MIPGap, MIP_GAP); // MIP gap tolerance
+
+        // Create decision variables; they are numbered as the columns of the LP matrix:
+        // x_i first, then z_ir, then y_ij, then delta_ij
+        if (tight) {
+            // 1. Time window constraints become bounds: E_i <= x_i <= L_i
+            double[] earliest = new double[n];
+            double[] latest = new double[n];
+            for (int i = 0; i < n; i++) {
+                AircraftData aircraft = instance.getAircraft().get(i);
+                earliest[i] = aircraft.getEarliestLandingTime();
+                latest[i] = aircraft.getLatestLandingTime();
+            }
+            landingTimes = cplex.numVarArray(n, earliest, latest);
+        } else {
+            landingTimes = cplex.numVarArray(n, 0, Double.MAX_VALUE);
+        }
+
+        // z_ir: Aircraft i is assigned to runway r
+        runwayAssignment = new IloNumVar[n][m];
+        IloNumVar[] z = cplex.boolVarArray(n * m);
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(z, i * m, runwayAssignment[i], 0, m);
+        }
+
+        // y_ij: Aircraft i lands before aircraft j (ambiguous pairs only)
+        precedence = new IloNumVar[n][n];
+        precedenceCol = new int[n][n];
+        int numPrecedence = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                precedenceCol[i][j] = (!timeIndexed && i != j && pairs.isAmbiguous(i, j))
+                        ? n + n * m + numPrecedence++
+                        : -1;
+            }
+        }
+        IloNumVar[] y = cplex.boolVarArray(numPrecedence);
+
+        // delta_ij: aircraft i and j use the same runway (same-runway formulation only)
+        boolean sameRunwayFormulation = formulation == ModelOptions.Formulation.SAME_RUNWAY;
+        sameRunway = new IloNumVar[n][n];
+        sameRunwayCol = new int[n][n];
+        int numSameRunway = 0;
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(sameRunwayCol[i], -1);
+        }
+        if (sameRunwayFormulation && m > 1) {
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    if (pairs.needsSeparation(i, j) || pairs.needsSeparation(j, i)) {
+                        sameRunwayCol[i][j] = n + n * m + numPrecedence + numSameRunway++;
+                        sameRunwayCol[j][i] = sameRunwayCol[i][j];
+                    }
+                }
+            }
+        }
+        IloNumVar[] delta = cplex.boolVarArray(numSameRunway);
+
+        // w_irt: aircraft i lands on runway r at time t (time-indexed formulation only)
+        slotCol = new int[n][m];
+        int numSlots = 0;
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(slotCol[i], -1);
+        }
+        if (timeIndexed) {
+            for (int i = 0; i < n; i++) {
+                for (int r = 0; r < m; r++) {
+                    slotCol[i][r] = n + n * m + numPrecedence + numSameRunway + numSlots;
+                    numSlots += windowWidth(i);
+                }
+            }
+        }
+        IloNumVar[] w = cplex.boolVarArray(numSlots);
+
+        columns = new IloNumVar[n + n * m + numPrecedence + numSameRunway + numSlots];
+        System.arraycopy(landingTimes, 0, columns, 0, n);
+        System.arraycopy(z, 0, columns, n, n * m);
+        System.arraycopy(y, 0, columns, n + n * m, numPrecedence);
+        System.arraycopy(delta, 0, columns, n + n * m + numPrecedence, numSameRunway);
+        System.arraycopy(w, 0, columns, n + n * m + numPrecedence + numSameRunway, numSlots);
+        binaries = Arrays.copyOfRange(columns, n, columns.length);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (precedenceCol[i][j] >= 0) {
+                    precedence[i][j] = columns[precedenceCol[i][j]];
+                }
+                if (sameRunwayCol[i][j] >= 0) {
+                    sameRunway[i][j] = columns[sameRunwayCol[i][j]];
+                }
+            }
+        }
+        if (options.isNameVariables()) {
+            nameVariables();
+        }
+
+        matrix = cplex.addLPMatrix();
+        matrix.addCols(columns);
+        RowBatch rows = new RowBatch(matrix);
+
+        // CONSTRAINTS
+
+        // 1. Time window constraints: Each aircraft must land within its time window
+        if (!tight) {
+            for (int i = 0; i < n; i++) {
+                AircraftData aircraft = instance.getAircraft().get(i);
+                // E_i <= x_i <= L_i
+                rows.add(aircraft.getEarliestLandingTime(), aircraft.getLatestLandingTime(),
+                        new int[] { i }, new double[] { 1 });
+            }
+        }
+
+        // 2. Runway assignment: Each aircraft must be assigned to exactly one runway
+        double[] ones = new double[m];
+        Arrays.fill(ones, 1);
+        for (int i = 0; i < n; i++) {
+            int[] ind = new int[m];
+            for (int r = 0; r < m; r++) {
+                ind[r] = zCol(i, r);
+            }
+            rows.add(1, 1, ind, ones); // Σ_r z_ir = 1
+        }
+
+        // 3. Precedence constraints (each ambiguous pair must have an order)
+        double[] pairOnes = { 1, 1 };
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (pairs.isAmbiguous(i, j) && !timeIndexed) {
+                    // Either i lands before j or j lands before i (not both)
+                    rows.add(1, 1, new int[] { precedenceCol[i][j], precedenceCol[j][i] }, pairOnes);
+                } else if (pairs.isIncompatible(i, j)) {
+                    // Neither order fits the windows: i and j never share a runway
+                    for (int r = 0; r < m; r++) {
+                        rows.add(-Double.MAX_VALUE, 1, new int[] { zCol(i, r), zCol(j, r) }, pairOnes);
+                    }
+                }
+            }
+        }
+
+        // 4. Separation time constraints for aircraft on the same runway
+        if (sameRunwayFormulation) {
+            // Link delta to the assignment: z_ir + z_jr - delta_ij <= 1
+            double[] link = { 1, 1, -1 };
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    if (sameRunwayCol[i][j] >= 0) {
+                        for (int r = 0; r < m; r++) {
+                            rows.add(-Double.MAX_VALUE, 1,
+                                    new int[] { zCol(i, r), zCol(j, r), sameRunwayCol[i][j] }, link);
+                        }
+                    }
+                }
+            }
+        }
+        if (timeIndexed) {
+            addTimeIndexedRows(rows);
+        } else if (!lazySeparation) {
+            int[] ind = new int[MAX_SEPARATION_TERMS];
+            double[] val = new double[MAX_SEPARATION_TERMS];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (i != j && pairs.needsSeparation(i, j)) {
+                        int runwayRows = sameRunwayFormulation ? 1 : m;
+                        for (int r = 0; r < runwayRows; r++) {
+                            int nnz = separationTerms(i, j, r, ind, val);
+                            rows.add(separationRhs(i, j, nnz), Double.MAX_VALUE,
+                                    Arrays.copyOf(ind, nnz), Arrays.copyOf(val, nnz));
+                        }
+                    }
+                }
+            }
+        }
+        // Otherwise separation rows are generated on demand by SeparationCallback
+        rows.flush();
+
+        buildTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        System.out.println("Model built in " + buildTime + " seconds (" + cplex.getNrows() + " rows, "
+                + cplex.getNcols() + " columns)");
+    }
+
+    /**
+     * Gives readable names to the model variables (useful when exporting the
+     * model, but costly on large instances).
+     */
+    private void nameVariables() throws IloException {
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+        for (int i = 0; i < n; i++) {
+            landingTimes[i].setName("x_" + i);
+            for (int r = 0; r < m; r++) {
+                runwayAssignment[i][r].setName("z_" + i + "_" + r);
+                if (slotCol[i][r] >= 0) {
+                    int earliest = instance.getAircraft().get(i).getEarliestLandingTime();
+                    for (int k = 0; k < windowWidth(i); k++) {
+                        columns[slotCol[i][r] + k].setName("w_" + i + "_" + r + "_" + (earliest + k));
+                    }
+                }
+            }
+            for (int j = 0; j < n; j++) {
+                if (precedence[i][j] != null) {
+                    precedence[i][j].setName("y_" + i + "_" + j);
+                }
+                if (j > i && sameRunway[i][j] != null) {
+                    sameRunway[i][j].setName("d_" + i + "_" + j);
+                }
+            }
+        }
+    }
+
+    private int zCol(int i, int r) {
+        return instance.getNumAircraft() + i * instance.getNumRunways() + r;
+    }
+
+    private int windowWidth(int i) {
+        AircraftData aircraft = instance.getAircraft().get(i);
+        return aircraft.getLatestLandingTime() - aircraft.getEarliestLandingTime() + 1;
+    }
+
+    /**
+     * Adds the rows of the time-indexed formulation:
+     * 
+     * z_ir - Σ_t w_irt = 0 (i lands at one time of its window on its runway)
+     * x_i - Σ_rt t*w_irt = 0 (the landing time is the chosen time)
+     * w_irt + Σ_{t'=t}^{t+s_ij-1} w_jrt' <= 1 (j does not land within s_ij
+     * after i; the times t' outside the window of j are left out, and rows
+     * without any t' are not generated)
+     */
+    private void addTimeIndexedRows(RowBatch rows) throws IloException {
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+
+        for (int i = 0; i < n; i++) {
+            AircraftData aircraft = instance.getAircraft().get(i);
+            int earliest = aircraft.getEarliestLandingTime();
+            int width = windowWidth(i);
+            int[] timeInd = new int[m * width + 1];
+            double[] timeVal = new double[m * width + 1];
+            timeInd[0] = i;
+            timeVal[0] = 1;
+            for (int r = 0; r < m; r++) {
+                int[] ind = new int[width + 1];
+                double[] val = new double[width + 1];
+                ind[0] = zCol(i, r);
+                val[0] = 1;
+                for (int k = 0; k < width; k++) {
+                    ind[k + 1] = slotCol[i][r] + k;
+                    val[k + 1] = -1;
+                    timeInd[r * width + k + 1] = slotCol[i][r] + k;
+                    timeVal[r * width + k + 1] = -(earliest + k);
+                }
+                rows.add(0, 0, ind, val);
+            }
+            rows.add(0, 0, timeInd, timeVal);
+        }
+
+        for (int i = 0; i < n; i++) {
+            AircraftData a = instance.getAircraft().get(i);
+            for (int j = 0; j < n; j++) {
+                if (i == j) {
+                    continue;
+                }
+                AircraftData b = instance.getAircraft().get(j);
+                int separation = instance.getSeparationTime(i, j);
+                for (int t = a.getEarliestLandingTime(); t <= a.getLatestLandingTime(); t++) {
+                    int from = Math.max(t, b.getEarliestLandingTime());
+                    int to = Math.min(t + separation - 1, b.getLatestLandingTime());
+                    if (from > to) {
+                        continue;
+                    }
+                    for (int r = 0; r < m; r++) {
+                        int[] ind = new int[to - from + 2];
+                        double[] val = new double[to - from + 2];
+                        Arrays.fill(val, 1);
+                        ind[0] = slotCol[i][r] + t - a.getEarliestLandingTime();
+                        for (int u = from; u <= to; u++) {
+                            ind[u - from + 1] = slotCol[j][r] + u - b.getEarliestLandingTime();
+                        }
+                        rows.add(-Double.MAX_VALUE, 1, ind, val);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Fills the left-hand side of the separation row "j lands at least s_ij
+     * after i when i precedes j on the same runway":
+     * 
+     * runway-indexed: x_j - x_i - M_ij*y_ij - M_ij*z_ir - M_ij*z_jr >= s_ij - 3*M_ij
+     * same-runway: x_j - x_i - M_ij*y_ij - M_ij*delta_ij >= s_ij - 2*M_ij
+     * 
+     * The y_ij term is dropped when the order is fixed by preprocessing, and
+     * the runway r is ignored by the same-runway formulation.
+     * 
+     * @return The number of terms written to ind and val
+     */
+    private int separationTerms(int i, int j, int r, int[] ind, double[] val) {
+        double bigM = options.isTightBounds() ? separationBigM(i, j) : BIG_M;
+        int nnz = 0;
+
+        ind[nnz] = j;
+        val[nnz++] = 1;
+        ind[nnz] = i;
+        val[nnz++] = -1;
+        if (precedenceCol[i][j] >= 0) {
+            ind[nnz] = precedenceCol[i][j];
+            val[nnz++] = -bigM;
+        }
+        if (formulation == ModelOptions.Formulation.SAME_RUNWAY) {
+            if (sameRunwayCol[i][j] >= 0) {
+                ind[nnz] = sameRunwayCol[i][j];
+                val[nnz++] = -bigM;
+            }
+        } else {
+            ind[nnz] = zCol(i, r);
+            val[nnz++] = -bigM;
+            ind[nnz] = zCol(j, r);
+            val[nnz++] = -bigM;
+        }
+        return nnz;
+    }
+
+    /**
+     * Right-hand side of a separation row with nnz terms: every binary term
+     * contributes -M_ij.
+     */
+    private double separationRhs(int i, int j, int nnz) {
+        double bigM = options.isTightBounds() ? separationBigM(i, j) : BIG_M;
+        return instance.getSeparationTime(i, j) - (nnz - 2) * bigM;
+    }
+
+    /**
+     * Creates, without adding it, the separation row of the pair (i, j) on
+     * runway r as a Concert range, for the lazy-constraint callback.
+     */
+    IloRange separationRow(int i, int j, int r) throws IloException {
+        int[] ind = new int[MAX_SEPARATION_TERMS];
+        double[] val = new double[MAX_SEPARATION_TERMS];
+        int nnz = separationTerms(i, j, r, ind, val);
+
+        IloNumVar[] vars = new IloNumVar[nnz];
+        for (int k = 0; k < nnz; k++) {
+            vars[k] = columns[ind[k]];
+        }
+        return cplex.ge(cplex.scalProd(Arrays.copyOf(val, nnz), vars), separationRhs(i, j, nnz));
+    }
+
+    /**
+     * Returns the smallest valid big-M for the separation row "j lands at
+     * least s_ij after i": once the row is relaxed, x_i + s_ij - M_ij must not
+     * exceed the earliest landing time of j for any x_i in i's window.
+     */
+    public double separationBigM(int i, int j) {
+        AircraftData a = instance.getAircraft().get(i);
+        AircraftData b = instance.getAircraft().get(j);
+        return Math.max(0, a.getLatestLandingTime() + instance.getSeparationTime(i, j)
+                - b.getEarliestLandingTime());
+    }
+
+    /**
+     * Replaces the current objective by the one of the given module. The
+     * auxiliary variables and constraints of the previous module are removed.
+     */
+    public void setObjective(ObjectiveModule module) throws IloException {
+        if (module == activeModule) {
+            return;
+        }
+
+        IloNumExpr expr = module.install(this);
+        if (objective == null) {
+            objective = cplex.addMinimize(expr);
+        } else {
+            objective.setExpr(expr);
+        }
+
+        if (activeModule != null) {
+            activeModule.uninstall(this);
+        }
+        activeModule = module;
+
+        // Runways are interchangeable unless the objective depends on them
+        boolean symmetric = options.isSymmetryBreaking() && !module.getType().isRunwayDependent()
+                && instance.getNumRunways() > 1;
+        if (symmetric && symmetryRows == null) {
+            addSymmetryBreaking();
+        } else if (!symmetric && symmetryRows != null) {
+            cplex.remove(symmetryRows);
+            symmetryRows = null;
+        }
+
+        if (options.isDominanceFixing() && !isTimeIndexed()) { // no y_ij to fix
+            fixDominatedPairs(module.getType());
+        }
+    }
+
+    /**
+     * Fixes y_ij = 1 for the pairs of interchangeable aircraft that can be
+     * landed in a fixed order under the given objective (see
+     * {@link DominanceAnalysis}). Fixings of a previous objective are undone
+     * first.
+     */
+    private void fixDominatedPairs(ObjectiveType type) throws IloException {
+        for (IloNumVar var : dominanceFixed) {
+            var.setLB(0);
+        }
+        dominanceFixed.clear();
+
+        if (dominance == null) {
+            dominance = new DominanceAnalysis(instance);
+        }
+        for (int[] pair : dominance.dominatedPairs(type)) {
+            IloNumVar var = precedence[pair[0]][pair[1]];
+            if (var != null) { // pairs without y_ij are already ordered by their time windows
+                var.setLB(1);
+                dominanceFixed.add(var);
+            }
+        }
+        System.out.println("Dominance: " + dominanceFixed.size() + " precedence binaries fixed");
+    }
+
+    /**
+     * Adds constraints that order the runways by the lowest aircraft index
+     * they receive, which removes the m! relabelings of every schedule when
+     * runways are interchangeable:
+     * 
+     * z_ir = 0 for r > i (aircraft i can only open one of the first i+1 runways)
+     * z_ir <= Σ_{k<i} z_k,r-1 (runway r is used by i only if a lower-indexed
+     * aircraft already uses runway r-1)
+     */
+    private void addSymmetryBreaking() throws IloException {
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+        List<IloRange> rows = new ArrayList<>();
+
+        for (int i = 0; i < n; i++) {
+            for (int r = 1; r < m; r++) {
+                if (r > i) {
+                    rows.add(cplex.addLe(runwayAssignment[i][r], 0));
+                } else {
+                    IloLinearNumExpr row = cplex.linearNumExpr();
+                    row.addTerm(1, runwayAssignment[i][r]);
+                    for (int k = 0; k < i; k++) {
+                        row.addTerm(-1, runwayAssignment[k][r - 1]);
+                    }
+                    rows.add(cplex.addLe(row, 0));
+                }
+            }
+        }
+
+        symmetryRows = rows.toArray(new IloRange[0]);
+        System.out.println("Runway symmetry breaking: " + symmetryRows.length + " rows");
+    }
+
+    /**
+     * Solves the model with the given objective and extracts a validated
+     * solution.
+     * 
+     * @param module The objective to minimise
+     * @return The computed solution
+     */
+    public ALPSolution solve(ObjectiveModule module) throws IloException {
+        return solve(module, null);
+    }
+
+    /**
+     * Solves the model with the given objective, starting from a known
+     * schedule in addition to the heuristic one.
+     * 
+     * @param module    The objective to minimise
+     * @param warmStart A feasible schedule for this instance (may be null); its
+     *                  objective value must be the one of this instance
+     * @return The computed solution
+     */
+    public ALPSolution solve(ObjectiveModule module, ALPSolution warmStart) throws IloException {
+        setObjective(module);
+
+        String variant = module.getType().getLabel();
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+
+        if (lazySeparation) {
+            if (separationCallback == null) {
+                separationCallback = new SeparationCallback();
+                cplex.use(separationCallback);
+            }
+            separationCallback.reset();
+        }
+
+        double rootBound = Double.NaN;
+        if (options.isComputeRootBound()) {
+            rootBound = solveRootRelaxation();
+            System.out.println("Root LP relaxation bound: " + rootBound);
+        }
+
+        // Warm start from the constructive heuristic (and the given schedule)
+        // and cut off anything worse
+        if (cplex.getNMIPStarts() > 0) {
+            cplex.deleteMIPStarts(0, cplex.getNMIPStarts());
+        }
+        ALPSolution bestStart = null;
+        if (options.isHeuristicStart()) {
+            bestStart = GreedyHeuristic.construct(instance, module.getType());
+            if (bestStart != null) {
+                addMIPStart(bestStart.getLandingTimes(), bestStart.getRunwayAssignments());
+                System.out.println("Heuristic start: objective " + bestStart.getObjectiveValue());
+            } else {
+                System.out.println("Heuristic start: no feasible schedule found");
+            }
+        }
+        if (options.isBeamSearchStart()) {
+            try {
+                ALPSolution beamStart = new BeamSearchSolver(module.getType()).solve(instance);
+                addMIPStart(beamStart.getLandingTimes(), beamStart.getRunwayAssignments());
+                System.out.println("Beam search start: objective " + beamStart.getObjectiveValue());
+                if (bestStart == null || beamStart.getObjectiveValue() < bestStart.getObjectiveValue()) {
+                    bestStart = beamStart;
+                }
+            } catch (RuntimeException e) {
+                System.out.println("Beam search start: no feasible schedule found");
+            }
+        }
+        if (warmStart != null) {
+            addMIPStart(warmStart.getLandingTimes(), warmStart.getRunwayAssignments());
+            System.out.println("Warm start: objective " + warmStart.getObjectiveValue());
+            if (bestStart == null || warmStart.getObjectiveValue() < bestStart.getObjectiveValue()) {
+                bestStart = warmStart;
+            }
+        }
+        setCutoff(bestStart != null ? bestStart.getObjectiveValue() : Double.NaN);
+
+        if (incumbentTimer == null) {
+            incumbentTimer = new IncumbentTimer();
+            cplex.use(incumbentTimer);
+        }
+        incumbentTimer.reset();
+
+        // Solve the model
+        System.out.println("Starting CPLEX solver for " + variant + "...");
+        long startTime = System.currentTimeMillis();
+        boolean solved = cplex.solve();
+        long endTime = System.currentTimeMillis();
+        double solveTime = (endTime - startTime) / 1000.0;
+
+        if (!solved) {
+            if (bestStart != null) {
+                // Nothing at least as good as the start was accepted under the cutoff.
+                // Keep a copy of the start: the caller's warm start is left untouched
+                ALPSolution kept = new ALPSolution(instance, bestStart.getLandingTimes().clone(),
+                        bestStart.getRunwayAssignments().clone(), bestStart.getObjectiveValue(), solveTime, variant);
+                kept.setRootBound(rootBound);
+                kept.setModelBuildTime(buildTime);
+                kept.setMipGap(startGap(kept.getObjectiveValue()));
+                System.out.println("CPLEX found no better schedule (status " + cplex.getStatus()
+                        + "), keeping the best start");
+                return kept;
+            }
+            System.out.println("❌ CPLEX could not find a solution");
+            throw new RuntimeException("CPLEX could not find a solution");
+        }
+
+        double mipGap = cplex.getMIPRelativeGap();
+        double firstIncumbent = incumbentTimer.getFirstIncumbentTime();
+        System.out.println("CPLEX found a solution in " + solveTime + " seconds (first incumbent after "
+                + firstIncumbent + " s, final gap " + String.format("%.2f%%", 100 * mipGap) + ")");
+        int lazyRows = separationCallback != null ? separationCallback.getGeneratedRows() : 0;
+        if (separationCallback != null) {
+            System.out.println("Lazy separation rows generated: " + lazyRows);
+        }
+
+        // Extract solution
+        int[] finalLandingTimes = new int[n];
+        int[] finalRunwayAssignments = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            finalLandingTimes[i] = (int) Math.round(cplex.getValue(landingTimes[i]));
+
+            // Find the assigned runway
+            for (int r = 0; r < m; r++) {
+                if (Math.round(cplex.getValue(runwayAssignment[i][r])) == 1) {
+                    finalRunwayAssignments[i] = r;
+                    break;
+                }
+            }
+        }
+
+        double objectiveValue = cplex.getObjValue();
+
+        // Validate solution
+        if (ScheduleValidator.validate(instance, finalLandingTimes, finalRunwayAssignments)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("CPLEX solution validation failed");
+        }
+
+        ALPSolution solution = new ALPSolution(instance, finalLandingTimes, finalRunwayAssignments,
+                objectiveValue, solveTime, variant);
+        solution.setRootBound(rootBound);
+        solution.setLazyConstraints(lazyRows);
+        solution.setModelBuildTime(buildTime);
+        solution.setMipGap(mipGap);
+        solution.setTimeToFirstIncumbent(firstIncumbent);
+        return solution;
+    }
+
+    /**
+     * Returns the gap of a start that CPLEX could not beat. An infeasible
+     * search under the cutoff proves the start optimal; a search stopped
+     * early only gives the gap to its best bound, if any.
+     */
+    private double startGap(double startValue) throws IloException {
+        IloCplex.Status status = cplex.getStatus();
+        if (status == IloCplex.Status.Infeasible || status == IloCplex.Status.InfeasibleOrUnbounded) {
+            return 0;
+        }
+        try {
+            double bound = cplex.getBestObjValue();
+            if (bound <= -1e74) {
+                return Double.NaN;
+            }
+            return Math.max(0, (startValue - bound) / (1e-10 + Math.abs(startValue)));
+        } catch (IloException e) {
+            // No bound available, e.g. stopped before the root was solved
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Adds a complete schedule as MIP start. Integer variables are set from
+     * the schedule and CPLEX recomputes the continuous ones, so the start may
+     * come out better than the given landing times. When runway symmetry is
+     * broken, the runways are relabeled to satisfy the symmetry rows first.
+     * 
+     * @param times   Landing times for each aircraft
+     * @param runways Runway assignments for each aircraft
+     */
+    public void addMIPStart(int[] times, int[] runways) throws IloException {
+        int n = instance.getNumAircraft();
+        if (symmetryRows != null) {
+            runways = relabelRunways(runways);
+        }
+
+        double[] values = new double[columns.length];
+        for (int i = 0; i < n; i++) {
+            values[i] = times[i];
+            values[zCol(i, runways[i])] = 1;
+            if (slotCol[i][runways[i]] >= 0) {
+                values[slotCol[i][runways[i]] + times[i] - instance.getAircraft().get(i).getEarliestLandingTime()] = 1;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (precedenceCol[i][j] >= 0) {
+                    boolean before;
+                    if (runways[i] == runways[j]) {
+                        before = times[i] < times[j];
+                    } else if (precedence[i][j].getLB() > 0.5 || precedence[j][i].getLB() > 0.5) {
+                        // Free on different runways: follow the dominance fixing
+                        before = precedence[i][j].getLB() > 0.5;
+                    } else {
+                        before = times[i] < times[j] || (times[i] == times[j] && i < j);
+                    }
+                    values[precedenceCol[i][j]] = before ? 1 : 0;
+                }
+                if (sameRunwayCol[i][j] >= 0) {
+                    values[sameRunwayCol[i][j]] = runways[i] == runways[j] ? 1 : 0;
+                }
+            }
+        }
+
+        cplex.addMIPStart(columns, values, IloCplex.MIPStartEffort.SolveFixed);
+    }
+
+    /**
+     * Sets the objective cutoff to the given value of a known schedule (with a
+     * small tolerance so that the schedule itself is not cut off), or clears
+     * it when the value is NaN.
+     */
+    public void setCutoff(double value) throws IloException {
+        double cutoff = Double.isNaN(value) ? 1e75 : value + CUTOFF_TOLERANCE * Math.max(1, Math.abs(value));
+        cplex.setParam(IloCplex.Param.MIP.Tolerances.UpperCutoff, cutoff);
+    }
+
+    /**
+     * Renumbers runways by the lowest aircraft index they receive, as
+     * required by the symmetry-breaking rows; unused runways come last.
+     */
+    private int[] relabelRunways(int[] runways) {
+        int m = instance.getNumRunways();
+        int[] label = new int[m];
+        Arrays.fill(label, -1);
+        int next = 0;
+        for (int runway : runways) {
+            if (label[runway] < 0) {
+                label[runway] = next++;
+            }
+        }
+
+        int[] relabeled = new int[runways.length];
+        for (int i = 0; i < runways.length; i++) {
+            relabeled[i] = label[runways[i]];
+        }
+        return relabeled;
+    }
+
+    /**
+     * Solves the LP relaxation of the model with the current objective. The
+     * integrality of the binaries is restored afterwards.
+     * 
+     * @return The LP bound, or NaN if the relaxation could not be solved
+     */
+    public double solveRootRelaxation() throws IloException {
+        IloConversion relaxation = cplex.conversion(binaries, IloNumVarType.Float);
+        cplex.add(relaxation);
+        try {
+            return cplex.solve() ? cplex.getObjValue() : Double.NaN;
+        } finally {
+            cplex.remove(relaxation);
+        }
+    }
+
+    /**
+     * Releases the CPLEX environment. The model cannot be used afterwards.
+     */
+    public void end() {
+        cplex.end();
+    }
+
+    public ALPInstance getInstance() {
+        return instance;
+    }
+
+    public ModelOptions getOptions() {
+        return options;
+    }
+
+    /**
+     * Returns the formulation the model was built with, which differs from
+     * the one of the options when it is chosen automatically.
+     */
+    public ModelOptions.Formulation getFormulation() {
+        return formulation;
+    }
+
+    public boolean isTimeIndexed() {
+        return formulation == ModelOptions.Formulation.TIME_INDEXED;
+    }
+
+    /**
+     * Returns the time-indexed variable w_irt, or null if t is outside the
+     * window of aircraft i or the model is not time-indexed.
+     */
+    public IloNumVar getSlot(int i, int r, int t) {
+        AircraftData aircraft = instance.getAircraft().get(i);
+        if (slotCol[i][r] < 0 || t < aircraft.getEarliestLandingTime() || t > aircraft.getLatestLandingTime()) {
+            return null;
+        }
+        return columns[slotCol[i][r] + t - aircraft.getEarliestLandingTime()];
+    }
+
+    /**
+     * Returns the LP matrix holding the core rows of the model.
+     */
+    public IloLPMatrix getMatrix() {
+        return matrix;
+    }
+
+    public IloCplex getCplex() {
+        return cplex;
+    }
+
+    public IloNumVar[] getLandingTimes() {
+        return landingTimes;
+    }
+
+    public IloNumVar[][] getRunwayAssignment() {
+        return runwayAssignment;
+    }
+
+    /**
+     * Returns the precedence variables. Entries of pairs whose order is fixed
+     * by preprocessing are null.
+     */
+    public IloNumVar[][] getPrecedence() {
+        return precedence;
+    }
+
+    /**
+     * Returns the same-runway variables of the same-runway formulation
+     * (symmetric, null where not needed), or a matrix of nulls otherwise.
+     */
+    public IloNumVar[][] getSameRunway() {
+        return sameRunway;
+    }
+
+    /**
+     * Returns the time spent building the core model, in seconds.
+     */
+    public double getBuildTime() {
+        return buildTime;
+    }
+
+    public PairAnalysis getPairAnalysis() {
+        return pairs;
+    }
+
+    /**
+     * Buffers rows and pushes them into the LP matrix with a single addRows
+     * call per batch.
+     */
+    private static class RowBatch {
+
+        private static final int BATCH_SIZE = 10000;
+
+        private final IloLPMatrix matrix;
+        private final double[] lower = new double[BATCH_SIZE];
+        private final double[] upper = new double[BATCH_SIZE];
+        private final int[][] indices = new int[BATCH_SIZE][];
+        private final double[][] values = new double[BATCH_SIZE][];
+        private int size;
+
+        RowBatch(IloLPMatrix matrix) {
+            this.matrix = matrix;
+        }
+
+        void add(double lb, double ub, int[] ind, double[] val) throws IloException {
+            lower[size] = lb;
+            upper[size] = ub;
+            indices[size] = ind;
+            values[size] = val;
+            if (++size == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws IloException {
+            if (size == 0) {
+                return;
+            }
+            if (size == BATCH_SIZE) {
+                matrix.addRows(lower, upper, indices, values);
+            } else {
+                matrix.addRows(Arrays.copyOf(lower, size), Arrays.copyOf(upper, size),
+                        Arrays.copyOf(indices, size), Arrays.copyOf(values, size));
+            }
+            Arrays.fill(indices, null);
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Records when the first incumbent of a solve becomes available.
+     */
+    private static class IncumbentTimer extends IloCplex.MIPInfoCallback {
+
+        private volatile double firstIncumbentTime = Double.NaN;
+
+        void reset() {
+            firstIncumbentTime = Double.NaN;
+        }
+
+        double getFirstIncumbentTime() {
+            return firstIncumbentTime;
+        }
+
+        @Override
+        protected void main() throws IloException {
+            if (Double.isNaN(firstIncumbentTime) && hasIncumbent()) {
+                firstIncumbentTime = getCplexTime() - getStartTime();
+            }
+        }
+    }
+
+    /**
+     * Lazy-constraint callback of the lazy separation mode. Each candidate
+     * incumbent is checked with a sweep over the aircraft of every runway in
+     * landing time order; for each violated pair the separation rows of both
+     * orders are added (the one matching the candidate's precedence value is
+     * the one that cuts it off).
+     */
+    private class SeparationCallback extends IloCplex.LazyConstraintCallback {
+
+        private static final double EPSILON = 1e-6;
+
+        private final int maxSeparation;
+        private final boolean[][] generated; // [i][j * m + r]: row already counted during this solve
+        private int generatedRows;
+
+        SeparationCallback() {
+            int n = instance.getNumAircraft();
+            int m = instance.getNumRunways();
+            int max = 0;
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (i != j) {
+                        max = Math.max(max, instance.getSeparationTime(i, j));
+                    }
+                }
+            }
+            maxSeparation = max;
+            generated = new boolean[n][n * m];
+        }
+
+        synchronized void reset() {
+            for (boolean[] row : generated) {
+                Arrays.fill(row, false);
+            }
+            generatedRows = 0;
+        }
+
+        synchronized int getGeneratedRows() {
+            return generatedRows;
+        }
+
+        @Override
+        protected void main() throws IloException {
+            int n = instance.getNumAircraft();
+            int m = instance.getNumRunways();
+
+            double[] x = getValues(landingTimes);
+            List<List<Integer>> byRunway = new ArrayList<>();
+            for (int r = 0; r < m; r++) {
+                byRunway.add(new ArrayList<>());
+            }
+            for (int i = 0; i < n; i++) {
+                double[] z = getValues(runwayAssignment[i]);
+                int runway = 0;
+                for (int r = 1; r < m; r++) {
+                    if (z[r] > z[runway]) {
+                        runway = r;
+                    }
+                }
+                byRunway.get(runway).add(i);
+            }
+
+            for (int r = 0; r < m; r++) {
+                List<Integer> sequence = byRunway.get(r);
+                sequence.sort((a, b) -> Double.compare(x[a], x[b]));
+
+                for (int p = 0; p < sequence.size(); p++) {
+                    int a = sequence.get(p);
+                    for (int q = p + 1; q < sequence.size(); q++) {
+                        int b = sequence.get(q);
+                        if (x[b] - x[a] >= maxSeparation) {
+                            break; // no later aircraft can be too close to a
+                        }
+                        if (x[b] < x[a] + instance.getSeparationTime(a, b) - EPSILON) {
+                            addSeparation(a, b, r);
+                            addSeparation(b, a, r);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void addSeparation(int i, int j, int r) throws IloException {
+            if (!pairs.needsSeparation(i, j)) {
+                return;
+            }
+            int m = instance.getNumRunways();
+            int key = formulation == ModelOptions.Formulation.SAME_RUNWAY ? j * m : j * m + r;
+            synchronized (this) {
+                // A row may be cut again by another thread before it reaches
+                // the shared pool; it is added again but counted once
+                if (!generated[i][key]) {
+                    generated[i][key] = true;
+                    generatedRows++;
+                }
+            }
+            add(separationRow(i, j, r));
+        }
+    }
+}
@@ -0,0 +1,604 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ant colony optimisation for the three objectives, in the MAX-MIN variant,
+ * aimed at the joint runway assignment and sequencing of Problem 3.
+ *
+ * Each ant builds a schedule landing one aircraft at a time. The candidates
+ * of a step are the first few aircraft not yet landed in target order, on
+ * any runway, landing as early as separation allows (not before their
+ * target time for Problem 1). A candidate (i, r) is chosen with a
+ * probability that grows with the pheromone on the pair (last aircraft of
+ * r, i), the pheromone on the pair (i, r), and a target-time heuristic that
+ * favours landings close to the earliest possible one of the step and
+ * aircraft with an early target. Landings after the latest time are
+ * penalised as in {@link GeneticAlgorithmSolver}.
+ *
+ * The ants of an iteration are built in parallel on a fork-join pool. The
+ * pheromone matrices are flat double arrays; they are only read while the
+ * ants are built, then the best ants of the iteration and the best schedule
+ * so far deposit pheromone in parallel, each entry updated under one of a
+ * few striped locks. Pheromone stays between fixed bounds so that the
+ * search does not stagnate.
+ *
+ * The best value after each iteration is recorded as a convergence curve.
+ * The best schedule is finally retimed by the {@link TimingEngine}.
+ */
+public class AntColonySolver implements ALPSolver {
+
+    // Default wall-clock budget
+    private static final double DEFAULT_TIME_LIMIT_SECONDS = 10;
+
+    // Default number of ants per iteration
+    private static final int DEFAULT_ANTS = 32;
+
+    // Aircraft considered at each construction step, in target order
+    private static final int CANDIDATES = 8;
+
+    // Weight of the heuristic against the pheromone
+    private static final double BETA = 2;
+
+    // Probability of taking the best candidate instead of sampling
+    private static final double EXPLOITATION = 0.5;
+
+    // Fraction of pheromone evaporated per iteration
+    private static final double EVAPORATION = 0.1;
+
+    // Best ants of an iteration that deposit pheromone
+    private static final int RANKED_ANTS = 4;
+
+    // Pheromone bounds: a deposit is at most 1, so 1 / EVAPORATION is the
+    // steady state of an edge always reinforced
+    private static final double TAU_MAX = 1 / EVAPORATION;
+    private static final double TAU_MIN = TAU_MAX / (2 * CANDIDATES);
+
+    // Number of locks guarding the pheromone arrays (a power of two)
+    private static final int STRIPES = 64;
+
+    // Cost of one time unit after the latest landing time
+    private static final double INFEASIBILITY_PENALTY = 10000;
+
+    private final ObjectiveType objectiveType;
+    private double timeLimit = DEFAULT_TIME_LIMIT_SECONDS;
+    private int ants = DEFAULT_ANTS;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long seed = 42;
+    private final List<ConvergencePoint> convergence = new ArrayList<>();
+
+    public AntColonySolver(ObjectiveType objectiveType) {
+        this.objectiveType = objectiveType;
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        long startTime = System.currentTimeMillis();
+        long deadline = startTime + (long) (timeLimit * 1000);
+        int m = instance.getNumRunways();
+        SeparationAnalysis separations = new SeparationAnalysis(instance);
+        Colony colony = new Colony(instance, separations);
+        convergence.clear();
+
+        Ant[] colonyAnts = new Ant[ants];
+        for (int k = 0; k < ants; k++) {
+            colonyAnts[k] = new Ant(colony, new Random(seed + k));
+        }
+        Ant best = new Ant(colony, null);
+        best.fitness = Double.POSITIVE_INFINITY;
+
+        // The greedy schedule is the first best one
+        ALPSolution greedy = GreedyHeuristic.construct(instance, objectiveType);
+        if (greedy != null) {
+            best.load(greedy.getLandingTimes(), greedy.getRunwayAssignments(),
+                    objectiveType.evaluate(instance, greedy.getLandingTimes(), greedy.getRunwayAssignments()));
+        }
+
+        System.out.println("Starting ant colony optimisation for " + objectiveType.getLabel() + " (" + ants
+                + " ants, budget " + timeLimit + " s)...");
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        int iteration = 0;
+        try {
+            while (iteration == 0 || System.currentTimeMillis() < deadline) {
+                iteration++;
+                pool.invoke(new ConstructTask(colonyAnts, 0, ants));
+
+                Ant[] ranked = colonyAnts.clone();
+                Arrays.sort(ranked, Comparator.comparingDouble(a -> a.fitness));
+                if (ranked[0].fitness < best.fitness) {
+                    best.copyFrom(ranked[0]);
+                    System.out.println("  iteration " + iteration + ": best " + best.fitness);
+                }
+                convergence.add(new ConvergencePoint(iteration,
+                        (System.currentTimeMillis() - startTime) / 1000.0, ranked[0].fitness, best.fitness));
+
+                // Evaporation, then deposits of the ranked ants and the best schedule
+                colony.evaporate();
+                List<Ant> depositing = new ArrayList<>();
+                for (int k = 0; k < Math.min(RANKED_ANTS, ants); k++) {
+                    depositing.add(ranked[k]);
+                }
+                if (best.fitness < Double.POSITIVE_INFINITY) {
+                    depositing.add(best);
+                }
+                pool.invoke(new DepositTask(depositing, 0, depositing.size(), best.fitness));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        if (best.fitness == Double.POSITIVE_INFINITY || !colony.isFeasible(best.times)) {
+            throw new RuntimeException("Ant colony optimisation found no schedule within the time windows");
+        }
+        int[] landingTimes = best.times.clone();
+        int[] runwayAssignments = best.runways.clone();
+
+        // Retimes the runway sequences of the best schedule, keeping the
+        // constructed times if the engine does not improve them
+        RunwaySequences retimed = new RunwaySequences(instance, objectiveType, separations);
+        retimed.load(landingTimes, runwayAssignments);
+        if (retimed.objective() < objectiveType.evaluate(instance, landingTimes, runwayAssignments)) {
+            retimed.copyTo(landingTimes, runwayAssignments);
+        }
+
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        double objectiveValue = objectiveType.evaluate(instance, landingTimes, runwayAssignments);
+        System.out.println("Ant colony optimisation finished in " + solveTime + " seconds: " + iteration
+                + " iterations of " + ants + " ants on " + m + " runways, objective " + objectiveValue);
+
+        if (ScheduleValidator.validate(instance, landingTimes, runwayAssignments)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Ant colony optimisation schedule validation failed");
+        }
+        return new ALPSolution(instance, landingTimes, runwayAssignments, objectiveValue, solveTime,
+                objectiveType.getLabel());
+    }
+
+    @Override
+    public String getName() {
+        return "Ant Colony Optimisation: " + objectiveType.getLabel();
+    }
+
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    public void setTimeLimit(double timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    public int getAnts() {
+        return ants;
+    }
+
+    public void setAnts(int ants) {
+        if (ants < 1) {
+            throw new IllegalArgumentException("Ant colony needs at least one ant, got " + ants);
+        }
+        this.ants = ants;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the convergence curve of the last solve, one point per
+     * iteration. Values include the penalty of landings after the latest
+     * time and are taken before the final retiming.
+     */
+    public List<ConvergencePoint> getConvergence() {
+        return Collections.unmodifiableList(convergence);
+    }
+
+    /**
+     * Best values after one iteration.
+     */
+    public static final class ConvergencePoint {
+        private final int iteration;
+        private final double seconds;
+        private final double iterationBest;
+        private final double best;
+
+        ConvergencePoint(int iteration, double seconds, double iterationBest, double best) {
+            this.iteration = iteration;
+            this.seconds = seconds;
+            this.iterationBest = iterationBest;
+            this.best = best;
+        }
+
+        public int getIteration() {
+            return iteration;
+        }
+
+        public double getSeconds() {
+            return seconds;
+        }
+
+        /**
+         * Returns the best value built by the ants of this iteration.
+         */
+        public double getIterationBest() {
+            return iterationBest;
+        }
+
+        /**
+         * Returns the best value found up to this iteration.
+         */
+        public double getBest() {
+            return best;
+        }
+
+        @Override
+        public String toString() {
+            return iteration + "\t" + seconds + "\t" + iterationBest + "\t" + best;
+        }
+    }
+
+    /**
+     * Instance data as primitive arrays and the pheromone matrices.
+     *
+     * Sequence pheromone on (i, j) is at i * n + j, with i = n for the first
+     * landing of a runway; runway pheromone on (i, r) is at i * m + r.
+     */
+    private final class Colony {
+        final int n;
+        final int m;
+        final int[] earliest;
+        final int[] target;
+        final int[] latest;
+        final double[] earlyPenalty;
+        final double[] latePenalty;
+        final int[][] transfer;
+        final int[][] separation;
+        final int lookback;
+        final int[] targetOrder;
+
+        final double[] sequencePheromone;
+        final double[] runwayPheromone;
+        private final Object[] stripes = new Object[STRIPES];
+
+        Colony(ALPInstance instance, SeparationAnalysis separations) {
+            n = instance.getNumAircraft();
+            m = instance.getNumRunways();
+            earliest = new int[n];
+            target = new int[n];
+            latest = new int[n];
+            earlyPenalty = new double[n];
+            latePenalty = new double[n];
+            transfer = new int[n][];
+            for (int i = 0; i < n; i++) {
+                AircraftData a = instance.getAircraft().get(i);
+                earliest[i] = a.getEarliestLandingTime();
+                target[i] = a.getTargetLandingTime();
+                latest[i] = a.getLatestLandingTime();
+                earlyPenalty[i] = a.getEarlyPenalty();
+                latePenalty[i] = a.getLatePenalty();
+                transfer[i] = a.getRunwayTransferTimes();
+            }
+            separation = instance.getSeparationTimes();
+            lookback = separations.getLookback();
+
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                order.add(i);
+            }
+            order.sort(Comparator.comparingInt((Integer i) -> target[i]).thenComparingInt(i -> earliest[i])
+                    .thenComparingInt(i -> i));
+            targetOrder = order.stream().mapToInt(Integer::intValue).toArray();
+
+            sequencePheromone = new double[(n + 1) * n];
+            runwayPheromone = new double[n * m];
+            Arrays.fill(sequencePheromone, TAU_MAX);
+            Arrays.fill(runwayPheromone, TAU_MAX);
+            for (int s = 0; s < STRIPES; s++) {
+                stripes[s] = new Object();
+            }
+        }
+
+        /**
+         * Objective contribution of i landing at t on r, for the sums.
+         */
+        double cost(int i, int t, int r) {
+            switch (objectiveType) {
+                case WEIGHTED_DELAY:
+                    return ObjectiveType.delayCost(t, target[i], earlyPenalty[i], latePenalty[i]);
+                case MAKESPAN:
+                    return 0;
+                default:
+                    return ObjectiveType.latenessCost(t, transfer[i][r], target[i]);
+            }
+        }
+
+        void evaporate() {
+            for (int e = 0; e < sequencePheromone.length; e++) {
+                sequencePheromone[e] = Math.max(TAU_MIN, (1 - EVAPORATION) * sequencePheromone[e]);
+            }
+            for (int e = 0; e < runwayPheromone.length; e++) {
+                runwayPheromone[e] = Math.max(TAU_MIN, (1 - EVAPORATION) * runwayPheromone[e]);
+            }
+        }
+
+        void deposit(double[] pheromone, int e, double amount) {
+            synchronized (stripes[e & (STRIPES - 1)]) {
+                pheromone[e] = Math.min(TAU_MAX, pheromone[e] + amount);
+            }
+        }
+
+        boolean isFeasible(int[] times) {
+            for (int i = 0; i < n; i++) {
+                if (times[i] > latest[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * One ant: its schedule, its random generator and scratch arrays.
+     */
+    private final class Ant {
+        private final Colony colony;
+        private final Random random;
+        final int[] times;
+        final int[] runways;
+        final int[] predecessor; // previous aircraft on the same runway, or n
+        double fitness;
+
+        // Scratch arrays
+        private final boolean[] landed;
+        private final int[] recent;
+        private final int[] recentTimes;
+        private final int[] counts;
+        private final int[] candidates;
+        private final int[] candidateTimes;
+        private final double[] weights;
+
+        Ant(Colony colony, Random random) {
+            this.colony = colony;
+            this.random = random;
+            int n = colony.n;
+            int m = colony.m;
+            times = new int[n];
+            runways = new int[n];
+            predecessor = new int[n];
+            landed = new boolean[n];
+            recent = new int[m * colony.lookback];
+            recentTimes = new int[m * colony.lookback];
+            counts = new int[m];
+            candidates = new int[CANDIDATES];
+            candidateTimes = new int[CANDIDATES * m];
+            weights = new double[CANDIDATES * m];
+        }
+
+        /**
+         * Builds a schedule from the current pheromone.
+         */
+        void construct() {
+            Colony c = colony;
+            int n = c.n;
+            int m = c.m;
+            int lookback = c.lookback;
+            Arrays.fill(landed, false);
+            Arrays.fill(counts, 0);
+
+            double cost = 0;
+            double violation = 0;
+            int head = 0;
+            for (int step = 0; step < n; step++) {
+                while (landed[c.targetOrder[head]]) {
+                    head++;
+                }
+                int size = 0;
+                for (int p = head; p < n && size < CANDIDATES; p++) {
+                    if (!landed[c.targetOrder[p]]) {
+                        candidates[size++] = c.targetOrder[p];
+                    }
+                }
+
+                // Landing time of every candidate on every runway
+                int soonest = Integer.MAX_VALUE;
+                for (int k = 0; k < size; k++) {
+                    int i = candidates[k];
+                    for (int r = 0; r < m; r++) {
+                        int t = c.earliest[i];
+                        int count = counts[r];
+                        for (int back = 1; back <= lookback && back <= count; back++) {
+                            int slot = r * lookback + (count - back) % lookback;
+                            t = Math.max(t, recentTimes[slot] + c.separation[recent[slot]][i]);
+                        }
+                        if (objectiveType == ObjectiveType.WEIGHTED_DELAY) {
+                            t = Math.max(t, Math.min(c.target[i], c.latest[i]));
+                        }
+                        candidateTimes[k * m + r] = t;
+                        soonest = Math.min(soonest, t);
+                    }
+                }
+
+                // Pheromone times heuristic, then the best or a sampled choice.
+                // The heuristic only looks at times: favouring the cheapest
+                // landing instead would keep postponing an aircraft already
+                // late in favour of ones not late yet.
+                double total = 0;
+                int argmax = 0;
+                double argmaxWeight = -1;
+                for (int k = 0; k < size; k++) {
+                    int i = candidates[k];
+                    for (int r = 0; r < m; r++) {
+                        int t = candidateTimes[k * m + r];
+                        int last = counts[r] == 0 ? n : recent[r * lookback + (counts[r] - 1) % lookback];
+                        double heuristic = 1.0 / (1 + (t - soonest) + (c.target[i] - c.target[candidates[0]]));
+                        double w = c.sequencePheromone[last * n + i] * c.runwayPheromone[i * m + r]
+                                * Math.pow(heuristic, BETA);
+                        weights[k * m + r] = w;
+                        total += w;
+                        if (w > argmaxWeight) {
+                            argmax = k * m + r;
+                            argmaxWeight = w;
+                        }
+                    }
+                }
+                int choice = argmax;
+                if (random.nextDouble() >= EXPLOITATION) {
+                    double u = random.nextDouble() * total;
+                    for (choice = 0; choice < size * m - 1; choice++) {
+                        u -= weights[choice];
+                        if (u <= 0) {
+                            break;
+                        }
+                    }
+                }
+
+                int i = candidates[choice / m];
+                int r = choice % m;
+                int t = candidateTimes[choice];
+                int count = counts[r];
+                predecessor[i] = count == 0 ? n : recent[r * lookback + (count - 1) % lookback];
+                int slot = r * lookback + count % lookback;
+                recent[slot] = i;
+                recentTimes[slot] = t;
+                counts[r] = count + 1;
+                landed[i] = true;
+                times[i] = t;
+                runways[i] = r;
+
+                if (objectiveType == ObjectiveType.MAKESPAN) {
+                    cost = Math.max(cost, t);
+                } else {
+                    cost += c.cost(i, t, r);
+                }
+                violation += Math.max(0, t - c.latest[i]);
+            }
+            fitness = cost + INFEASIBILITY_PENALTY * violation;
+        }
+
+        /**
+         * Deposits pheromone on the pairs of this schedule.
+         */
+        void deposit(double amount) {
+            int n = colony.n;
+            int m = colony.m;
+            for (int i = 0; i < n; i++) {
+                colony.deposit(colony.sequencePheromone, predecessor[i] * n + i, amount);
+                colony.deposit(colony.runwayPheromone, i * m + runways[i], amount);
+            }
+        }
+
+        void copyFrom(Ant other) {
+            System.arraycopy(other.times, 0, times, 0, times.length);
+            System.arraycopy(other.runways, 0, runways, 0, runways.length);
+            System.arraycopy(other.predecessor, 0, predecessor, 0, predecessor.length);
+            fitness = other.fitness;
+        }
+
+        /**
+         * Takes a schedule given by its landing times and runways.
+         */
+        void load(int[] landingTimes, int[] runwayAssignments, double value) {
+            int n = colony.n;
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt((Integer i) -> landingTimes[i]).thenComparingInt(i -> i));
+            int[] last = new int[colony.m];
+            Arrays.fill(last, n);
+            for (int i : order) {
+                int r = runwayAssignments[i];
+                predecessor[i] = last[r];
+                last[r] = i;
+            }
+            System.arraycopy(landingTimes, 0, times, 0, n);
+            System.arraycopy(runwayAssignments, 0, runways, 0, n);
+            fitness = value;
+        }
+    }
+
+    /**
+     * Builds the ants of a range, splitting it between workers.
+     */
+    private static final class ConstructTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Ant[] ants;
+        private final int from;
+        private final int to;
+
+        ConstructTask(Ant[] ants, int from, int to) {
+            this.ants = ants;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                ants[from].construct();
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ConstructTask(ants, from, middle), new ConstructTask(ants, middle, to));
+        }
+    }
+
+    /**
+     * Deposits the pheromone of a range of schedules. A schedule deposits
+     * the ratio of the best value to its own, at most 1.
+     */
+    private static final class DepositTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<Ant> schedules;
+        private final int from;
+        private final int to;
+        private final double best;
+
+        DepositTask(List<Ant> schedules, int from, int to, double best) {
+            this.schedules = schedules;
+            this.from = from;
+            this.to = to;
+            this.best = best;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                Ant ant = schedules.get(from);
+                ant.deposit((best + 1) / (ant.fitness + 1));
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new DepositTask(schedules, from, middle, best), new DepositTask(schedules, middle, to, best));
+        }
+    }
+}
@@ -0,0 +1,586 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Deterministic beam search building landing sequences position by position
+ * across runways, for the three objectives.
+ *
+ * A state is a partial schedule: the aircraft already landed, and for each
+ * runway its last landings and their times, so that appending an aircraft
+ * checks separation in constant time (one landing back when the separation
+ * times satisfy the triangle inequality, a few otherwise). A state is
+ * expanded by landing one of the next few unscheduled aircraft in target
+ * order, as early as possible (not before its target for Problem 1), on each
+ * runway. Children are ranked by their cost plus a cheap lower bound on the
+ * cost of the next candidates; those whose bound reaches the greedy schedule
+ * are pruned, children dominated by a kept state with the same landed set
+ * are dropped, and the best beamWidth children form the next level.
+ *
+ * Dominance rules are pluggable (see {@link DominanceRule}). Expansion runs
+ * in parallel on a fork-join pool; children are collected and ranked in a
+ * fixed order, so the result does not depend on the thread count. The best
+ * complete sequence is finally retimed by the {@link TimingEngine}.
+ */
+public class BeamSearchSolver implements ALPSolver {
+
+    private static final int DEFAULT_BEAM_WIDTH = 100;
+
+    // Unscheduled aircraft (in target order) considered for the next landing
+    private static final int DEFAULT_CANDIDATES = 5;
+
+    // Beam states per fork-join task
+    private static final int TASK_SIZE = 8;
+
+    // Tolerance used when pruning against the incumbent
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * A dominance rule between two states that have landed the same set of
+     * aircraft. Rules are only applied when every landing depends on the last
+     * landing of its runway alone (triangle inequality).
+     */
+    public interface DominanceRule {
+
+        /**
+         * Returns true if every completion of b is matched, at no higher
+         * cost, by a completion of a.
+         */
+        boolean dominates(State a, State b);
+    }
+
+    /**
+     * Same last aircraft on every runway, each landing no later, and no
+     * higher cost.
+     */
+    public static final DominanceRule SAME_LAST_AIRCRAFT = (a, b) -> {
+        if (a.cost > b.cost + EPSILON) {
+            return false;
+        }
+        for (int r = 0; r < a.lastTime.length; r++) {
+            if (a.lastAircraft[r] != b.lastAircraft[r] || a.lastTime[r] > b.lastTime[r]) {
+                return false;
+            }
+        }
+        return true;
+    };
+
+    /**
+     * Every runway of a is free for any next aircraft no later than the same
+     * runway of b, whatever their last aircraft, and no higher cost.
+     */
+    public static final DominanceRule EARLIER_RELEASE = (a, b) -> {
+        if (a.cost > b.cost + EPSILON) {
+            return false;
+        }
+        for (int r = 0; r < a.lastTime.length; r++) {
+            if (a.releaseLatest(r) > b.releaseEarliest(r)) {
+                return false;
+            }
+        }
+        return true;
+    };
+
+    private final ObjectiveType objectiveType;
+    private int beamWidth = DEFAULT_BEAM_WIDTH;
+    private int candidates = DEFAULT_CANDIDATES;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private List<DominanceRule> dominanceRules = new ArrayList<>(Arrays.asList(SAME_LAST_AIRCRAFT, EARLIER_RELEASE));
+
+    public BeamSearchSolver(ObjectiveType objectiveType) {
+        this.objectiveType = objectiveType;
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        long startTime = System.currentTimeMillis();
+        int n = instance.getNumAircraft();
+        SeparationAnalysis separations = new SeparationAnalysis(instance);
+        Search search = new Search(instance, separations);
+        System.out.println("Starting beam search for " + objectiveType.getLabel() + " (width " + beamWidth
+                + ", " + candidates + " candidates, " + parallelism + " threads)...");
+
+        ALPSolution greedy = GreedyHeuristic.construct(instance, objectiveType);
+        double incumbent = greedy != null ? greedy.getObjectiveValue() : Double.POSITIVE_INFINITY;
+
+        List<State> beam = new ArrayList<>();
+        beam.add(search.root());
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        long generated = 0;
+        try {
+            for (int level = 0; level < n && !beam.isEmpty(); level++) {
+                List<List<State>> children = expandAll(pool, search, beam, incumbent);
+                List<State> next = new ArrayList<>();
+                for (List<State> list : children) {
+                    next.addAll(list);
+                }
+                generated += next.size();
+                beam = select(next, search.lookback == 1);
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        int[] landingTimes = new int[n];
+        int[] runwayAssignments = new int[n];
+        if (beam.isEmpty()) {
+            if (greedy == null) {
+                System.out.println("❌ Beam search could not find a solution");
+                throw new RuntimeException("Beam search found no schedule within the time windows");
+            }
+            System.out.println("Beam search found nothing better than the greedy schedule");
+            System.arraycopy(greedy.getLandingTimes(), 0, landingTimes, 0, n);
+            System.arraycopy(greedy.getRunwayAssignments(), 0, runwayAssignments, 0, n);
+        } else {
+            for (State s = beam.get(0); s.aircraft >= 0; s = s.parent) {
+                landingTimes[s.aircraft] = s.time;
+                runwayAssignments[s.aircraft] = s.runway;
+            }
+        }
+
+        // Retime the runway sequences, keeping the built times if not better
+        RunwaySequences retimed = new RunwaySequences(instance, objectiveType, separations);
+        retimed.load(landingTimes, runwayAssignments);
+        if (retimed.objective() < objectiveType.evaluate(instance, landingTimes, runwayAssignments)) {
+            retimed.copyTo(landingTimes, runwayAssignments);
+        }
+
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        double objectiveValue = objectiveType.evaluate(instance, landingTimes, runwayAssignments);
+        System.out.println("Beam search finished in " + solveTime + " seconds: " + generated
+                + " states, objective " + objectiveValue);
+
+        if (ScheduleValidator.validate(instance, landingTimes, runwayAssignments)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Beam search schedule validation failed");
+        }
+        return new ALPSolution(instance, landingTimes, runwayAssignments, objectiveValue, solveTime,
+                objectiveType.getLabel());
+    }
+
+    /**
+     * Expands every state of the beam in parallel. The children of state k
+     * are in entry k, in a fixed order.
+     */
+    private List<List<State>> expandAll(ForkJoinPool pool, Search search, List<State> beam, double incumbent) {
+        List<List<State>> children = new ArrayList<>(Collections.nCopies(beam.size(), null));
+        pool.invoke(new ExpandTask(search, beam, children, 0, beam.size(), incumbent));
+        return children;
+    }
+
+    /**
+     * Ranks the children and keeps the best beamWidth of them that are not
+     * dominated by a better one with the same landed set.
+     */
+    private List<State> select(List<State> children, boolean applyDominance) {
+        // Stable sort: ties keep the expansion order
+        children.sort(Comparator.comparingDouble((State s) -> s.bound));
+
+        List<State> kept = new ArrayList<>();
+        Map<State, List<State>> groups = new HashMap<>();
+        for (State child : children) {
+            if (kept.size() >= beamWidth) {
+                break;
+            }
+            List<State> group = groups.computeIfAbsent(child, k -> new ArrayList<>());
+            boolean dominated = false;
+            for (State other : group) {
+                if (other.sameSchedule(child)) {
+                    dominated = true; // duplicate
+                } else if (applyDominance) {
+                    for (DominanceRule rule : dominanceRules) {
+                        dominated |= rule.dominates(other, child);
+                    }
+                }
+                if (dominated) {
+                    break;
+                }
+            }
+            if (!dominated) {
+                group.add(child);
+                kept.add(child);
+            }
+        }
+        return kept;
+    }
+
+    @Override
+    public String getName() {
+        return "Beam Search: " + objectiveType.getLabel();
+    }
+
+    public int getBeamWidth() {
+        return beamWidth;
+    }
+
+    public void setBeamWidth(int beamWidth) {
+        this.beamWidth = beamWidth;
+    }
+
+    /**
+     * Returns the number of unscheduled aircraft, in target order, that may
+     * land next in a state.
+     */
+    public int getCandidates() {
+        return candidates;
+    }
+
+    public void setCandidates(int candidates) {
+        this.candidates = candidates;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public List<DominanceRule> getDominanceRules() {
+        return dominanceRules;
+    }
+
+    public void setDominanceRules(List<DominanceRule> dominanceRules) {
+        this.dominanceRules = dominanceRules;
+    }
+
+    /**
+     * A partial schedule. States are immutable once created; the landings
+     * are recovered through the parent chain. Equality and hash code only
+     * consider the set of landed aircraft, to group states for dominance.
+     */
+    public static final class State {
+        private final Search search;
+        final State parent;
+        final int aircraft; // last landed aircraft, -1 for the root
+        final int runway;
+        final int time;
+        final long[] landed;
+        final int front;    // first position in target order not yet landed
+        final int count;
+        final double cost;
+        final double bound;
+        final int[] lastAircraft; // by runway, then lookback slot (most recent first)
+        final int[] lastTime;
+        private final int hash;
+
+        private State(Search search, State parent, int aircraft, int runway, int time, long[] landed, int front,
+                int count, double cost, double bound, int[] lastAircraft, int[] lastTime) {
+            this.search = search;
+            this.parent = parent;
+            this.aircraft = aircraft;
+            this.runway = runway;
+            this.time = time;
+            this.landed = landed;
+            this.front = front;
+            this.count = count;
+            this.cost = cost;
+            this.bound = bound;
+            this.lastAircraft = lastAircraft;
+            this.lastTime = lastTime;
+            this.hash = Arrays.hashCode(landed);
+        }
+
+        /**
+         * Returns the objective value of the landings so far.
+         */
+        public double getCost() {
+            return cost;
+        }
+
+        public int getNumLanded() {
+            return count;
+        }
+
+        /**
+         * Returns the last aircraft landed on a runway, or -1.
+         */
+        public int getLastAircraft(int runway) {
+            return lastAircraft[runway * search.lookback];
+        }
+
+        /**
+         * Returns the time of the last landing on a runway (meaningless if
+         * the runway is empty).
+         */
+        public int getLastTime(int runway) {
+            return lastTime[runway * search.lookback];
+        }
+
+        /**
+         * Latest time from which any aircraft is separated from the last
+         * landing of a runway.
+         */
+        int releaseLatest(int r) {
+            int last = getLastAircraft(r);
+            return last < 0 ? Integer.MIN_VALUE : getLastTime(r) + search.maxSeparationFrom[last];
+        }
+
+        /**
+         * Earliest time at which some aircraft may land after the last
+         * landing of a runway.
+         */
+        int releaseEarliest(int r) {
+            int last = getLastAircraft(r);
+            return last < 0 ? Integer.MIN_VALUE : getLastTime(r) + search.minSeparationFrom[last];
+        }
+
+        boolean sameSchedule(State other) {
+            return cost == other.cost && Arrays.equals(lastAircraft, other.lastAircraft)
+                    && Arrays.equals(lastTime, other.lastTime);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof State && hash == ((State) o).hash && Arrays.equals(landed, ((State) o).landed);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Instance data and state expansion, shared read-only by the threads.
+     */
+    private final class Search {
+        final int n;
+        final int m;
+        final int lookback;
+        final int[] order; // aircraft by target time
+        final int[] earliest;
+        final int[] target;
+        final int[] latest;
+        final double[] earlyPenalty;
+        final double[] latePenalty;
+        final int[][] transfer;
+        final int[][] separation;
+        final int[] maxSeparationFrom;
+        final int[] minSeparationFrom;
+
+        Search(ALPInstance instance, SeparationAnalysis separations) {
+            n = instance.getNumAircraft();
+            m = instance.getNumRunways();
+            lookback = separations.getLookback();
+            List<AircraftData> aircraft = instance.getAircraft();
+            earliest = new int[n];
+            target = new int[n];
+            latest = new int[n];
+            earlyPenalty = new double[n];
+            latePenalty = new double[n];
+            transfer = new int[n][];
+            separation = instance.getSeparationTimes();
+            maxSeparationFrom = new int[n];
+            minSeparationFrom = new int[n];
+            Integer[] sorted = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                AircraftData a = aircraft.get(i);
+                earliest[i] = a.getEarliestLandingTime();
+                target[i] = a.getTargetLandingTime();
+                latest[i] = a.getLatestLandingTime();
+                earlyPenalty[i] = a.getEarlyPenalty();
+                latePenalty[i] = a.getLatePenalty();
+                transfer[i] = a.getRunwayTransferTimes();
+                sorted[i] = i;
+                minSeparationFrom[i] = Integer.MAX_VALUE;
+                for (int j = 0; j < n; j++) {
+                    if (j != i) {
+                        maxSeparationFrom[i] = Math.max(maxSeparationFrom[i], separation[i][j]);
+                        minSeparationFrom[i] = Math.min(minSeparationFrom[i], separation[i][j]);
+                    }
+                }
+            }
+            Arrays.sort(sorted, Comparator.comparingInt((Integer i) -> target[i])
+                    .thenComparingInt(i -> earliest[i]).thenComparingInt(i -> latest[i]).thenComparingInt(i -> i));
+            order = new int[n];
+            for (int k = 0; k < n; k++) {
+                order[k] = sorted[k];
+            }
+        }
+
+        State root() {
+            int[] lastAircraft = new int[m * lookback];
+            Arrays.fill(lastAircraft, -1);
+            return new State(this, null, -1, -1, 0, new long[(n + 63) / 64], 0, 0, 0, 0, lastAircraft,
+                    new int[m * lookback]);
+        }
+
+        /**
+         * Earliest landing time of aircraft j appended to runway r, given the
+         * last landings of every runway.
+         */
+        int earliestOn(int[] lastAircraft, int[] lastTime, int j, int r) {
+            int t = earliest[j];
+            for (int k = 0; k < lookback; k++) {
+                int last = lastAircraft[r * lookback + k];
+                if (last < 0) {
+                    break;
+                }
+                t = Math.max(t, lastTime[r * lookback + k] + separation[last][j]);
+            }
+            return objectiveType == ObjectiveType.WEIGHTED_DELAY ? Math.max(t, Math.min(target[j], latest[j])) : t;
+        }
+
+        double landingCost(int j, int t, int r) {
+            switch (objectiveType) {
+                case WEIGHTED_DELAY:
+                    return ObjectiveType.delayCost(t, target[j], earlyPenalty[j], latePenalty[j]);
+                case MAKESPAN:
+                    return t;
+                default:
+                    return ObjectiveType.latenessCost(t, transfer[j][r], target[j]);
+            }
+        }
+
+        double add(double cost, double landing) {
+            return objectiveType == ObjectiveType.MAKESPAN ? Math.max(cost, landing) : cost + landing;
+        }
+
+        /**
+         * Returns the children of a state whose bound is below the incumbent.
+         */
+        List<State> expand(State s, double incumbent) {
+            List<State> children = new ArrayList<>();
+            int[] next = nextCandidates(s, candidates + 1);
+            for (int c = 0; c < next.length && c < candidates; c++) {
+                int j = next[c];
+                for (int r = 0; r < m; r++) {
+                    if (objectiveType != ObjectiveType.TOTAL_LATENESS && sameRunwayAsEarlier(s, r)) {
+                        continue; // identical runways give identical children
+                    }
+                    int t = earliestOn(s.lastAircraft, s.lastTime, j, r);
+                    if (t > latest[j]) {
+                        continue;
+                    }
+                    State child = child(s, j, r, t, next);
+                    if (child != null && child.bound < incumbent - EPSILON) {
+                        children.add(child);
+                    }
+                }
+            }
+            return children;
+        }
+
+        private boolean sameRunwayAsEarlier(State s, int r) {
+            for (int q = 0; q < r; q++) {
+                boolean same = true;
+                for (int k = 0; k < lookback && same; k++) {
+                    same = s.lastAircraft[q * lookback + k] == s.lastAircraft[r * lookback + k]
+                            && (s.lastAircraft[r * lookback + k] < 0
+                                    || s.lastTime[q * lookback + k] == s.lastTime[r * lookback + k]);
+                }
+                if (same) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns up to k unscheduled aircraft in target order.
+         */
+        private int[] nextCandidates(State s, int k) {
+            int[] result = new int[k];
+            int found = 0;
+            for (int p = s.front; p < n && found < k; p++) {
+                int j = order[p];
+                if ((s.landed[j >>> 6] & (1L << j)) == 0) {
+                    result[found++] = j;
+                }
+            }
+            return Arrays.copyOf(result, found);
+        }
+
+        private State child(State s, int j, int r, int t, int[] next) {
+            long[] landed = s.landed.clone();
+            landed[j >>> 6] |= 1L << j;
+            int front = s.front;
+            while (front < n && (landed[order[front] >>> 6] & (1L << order[front])) != 0) {
+                front++;
+            }
+
+            int[] lastAircraft = s.lastAircraft.clone();
+            int[] lastTime = s.lastTime.clone();
+            int base = r * lookback;
+            System.arraycopy(s.lastAircraft, base, lastAircraft, base + 1, lookback - 1);
+            System.arraycopy(s.lastTime, base, lastTime, base + 1, lookback - 1);
+            lastAircraft[base] = j;
+            lastTime[base] = t;
+
+            double cost = add(s.cost, landingCost(j, t, r));
+
+            // Bound: each other candidate lands on its best runway after this state
+            double bound = cost;
+            for (int k : next) {
+                if (k == j) {
+                    continue;
+                }
+                double best = Double.POSITIVE_INFINITY;
+                for (int q = 0; q < m; q++) {
+                    int time = earliestOn(lastAircraft, lastTime, k, q);
+                    if (time <= latest[k]) {
+                        best = Math.min(best, landingCost(k, time, q));
+                    }
+                }
+                if (best == Double.POSITIVE_INFINITY) {
+                    return null; // a candidate can no longer land
+                }
+                bound = add(bound, best);
+            }
+            return new State(this, s, j, r, t, landed, front, s.count + 1, cost, bound, lastAircraft, lastTime);
+        }
+    }
+
+    /**
+     * Expands a range of beam states, splitting it across the pool.
+     */
+    private final class ExpandTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final List<State> beam;
+        private final List<List<State>> children;
+        private final int from;
+        private final int to;
+        private final double incumbent;
+
+        ExpandTask(Search search, List<State> beam, List<List<State>> children, int from, int to,
+                double incumbent) {
+            this.search = search;
+            this.beam = beam;
+            this.children = children;
+            this.from = from;
+            this.to = to;
+            this.incumbent = incumbent;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TASK_SIZE) {
+                for (int k = from; k < to; k++) {
+                    children.set(k, search.expand(beam.get(k), incumbent));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ExpandTask(search, beam, children, from, mid, incumbent),
+                    new ExpandTask(search, beam, children, mid, to, incumbent));
+        }
+    }
+}
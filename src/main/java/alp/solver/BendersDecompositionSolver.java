@@ -0,0 +1,443 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+import ilog.concert.IloException;
+import ilog.concert.IloLinearNumExpr;
+import ilog.concert.IloNumVar;
+import ilog.cplex.IloCplex;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Logic-based Benders decomposition for Problems 1 and 3, where the cost of
+ * a runway only depends on the aircraft assigned to it.
+ *
+ * A master MIP assigns the aircraft to the runways, with a variable theta_r
+ * estimating the cost of runway r. It starts from relaxations that need no
+ * sequencing: theta_r is at least the sum of the least cost of each
+ * aircraft landing alone on r (for Problem 3, its transfer lateness when
+ * landing at its earliest time), and incompatible pairs (see
+ * {@link PairAnalysis}) never share a runway.
+ *
+ * For a master assignment, the sequencing of each runway is an independent
+ * single-runway instance solved exactly by an {@link ALPModel}, all runways
+ * in parallel with one CPLEX thread each. Removing an aircraft from a runway
+ * never makes it infeasible nor more expensive, so a runway r with aircraft
+ * S feeds back:
+ * <ul>
+ * <li>if S cannot be sequenced, the feasibility cut sum_{i in S} z_ir &lt;=
+ * |S| - 1;</li>
+ * <li>otherwise, with v a proven lower bound on its cost (the optimum when
+ * the subproblem is solved to optimality), the optimality cut theta_r &gt;=
+ * v - v * sum_{i in S} (1 - z_ir).</li>
+ * </ul>
+ * The master optimum is a lower bound and every feasible assignment gives a
+ * schedule and an upper bound. The solver stops when they meet, when the
+ * master repeats an assignment without new cuts, or at the time limit.
+ * Subproblem results are cached by aircraft set, as masters often assign
+ * the same aircraft to a runway again.
+ */
+public class BendersDecompositionSolver implements ALPSolver {
+
+    // Default wall-clock budget
+    private static final double DEFAULT_TIME_LIMIT_SECONDS = 300;
+
+    // Default CPLEX time limit of one runway subproblem
+    private static final double DEFAULT_SUBPROBLEM_TIME_LIMIT_SECONDS = 30;
+
+    // Tolerance on the gap between the bounds
+    private static final double EPSILON = 1e-6;
+
+    private final ObjectiveType objectiveType;
+    private double timeLimit = DEFAULT_TIME_LIMIT_SECONDS;
+    private double subproblemTimeLimit = DEFAULT_SUBPROBLEM_TIME_LIMIT_SECONDS;
+    private int workers = Runtime.getRuntime().availableProcessors();
+
+    public BendersDecompositionSolver() {
+        this(ObjectiveType.TOTAL_LATENESS);
+    }
+
+    /**
+     * @param objectiveType WEIGHTED_DELAY or TOTAL_LATENESS; the makespan is
+     *                      not a sum over the runways
+     */
+    public BendersDecompositionSolver(ObjectiveType objectiveType) {
+        if (objectiveType == ObjectiveType.MAKESPAN) {
+            throw new IllegalArgumentException("Benders decomposition needs an objective summed over the runways");
+        }
+        this.objectiveType = objectiveType;
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        long startTime = System.currentTimeMillis();
+        long deadline = startTime + (long) (timeLimit * 1000);
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+
+        System.out.println("Starting Benders decomposition for " + objectiveType.getLabel() + " on " + m
+                + " runways...");
+
+        List<Map<BitSet, RunwayResult>> cache = new ArrayList<>();
+        for (int r = 0; r < m; r++) {
+            cache.add(new HashMap<>());
+        }
+        int[] bestTimes = null;
+        int[] bestRunways = null;
+        double upperBound = Double.POSITIVE_INFINITY;
+        double lowerBound = 0;
+        int iterations = 0;
+        int cuts = 0;
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, m)));
+        IloCplex master = null;
+        try {
+            master = new IloCplex();
+            master.setParam(IloCplex.Param.MIP.Display, 0);
+            master.setParam(IloCplex.Param.MIP.Tolerances.MIPGap, 0.0);
+            IloNumVar[][] z = new IloNumVar[n][];
+            IloNumVar[] theta = master.numVarArray(m, 0, Double.MAX_VALUE);
+            buildMaster(master, instance, z, theta);
+
+            // The greedy assignment gives the first cuts and upper bound
+            ALPSolution greedy = GreedyHeuristic.construct(instance, objectiveType);
+            int[] assignment = greedy != null ? greedy.getRunwayAssignments().clone() : null;
+
+            while (true) {
+                if (assignment != null) {
+                    iterations++;
+                    RunwayResult[] results = solveRunways(instance, assignment, cache, executor, deadline);
+
+                    boolean feasible = true;
+                    boolean newCut = false;
+                    double value = 0;
+                    for (int r = 0; r < m; r++) {
+                        RunwayResult result = results[r];
+                        feasible &= result.feasible;
+                        value += result.value;
+                        if (!result.cut) {
+                            result.cut = true;
+                            newCut = true;
+                            addCut(master, z, theta, r, result);
+                            cuts++;
+                        }
+                    }
+                    if (feasible && value < upperBound - EPSILON) {
+                        upperBound = value;
+                        bestTimes = new int[n];
+                        bestRunways = new int[n];
+                        for (int r = 0; r < m; r++) {
+                            results[r].merge(r, bestTimes, bestRunways);
+                        }
+                    }
+                    System.out.println("Benders iteration " + iterations + ": lower bound " + lowerBound
+                            + ", upper bound " + upperBound + ", " + cuts + " cuts");
+                    if (!newCut) {
+                        System.out.println("Master repeated an assignment without new cuts");
+                        break;
+                    }
+                }
+                if (upperBound - lowerBound <= EPSILON * Math.max(1, Math.abs(upperBound))) {
+                    break;
+                }
+                double remaining = (deadline - System.currentTimeMillis()) / 1000.0;
+                if (remaining <= 0) {
+                    System.out.println("Benders decomposition reached its time limit");
+                    break;
+                }
+
+                // Next master assignment
+                master.setParam(IloCplex.Param.TimeLimit, remaining);
+                if (!master.solve()) {
+                    if (master.getStatus() == IloCplex.Status.Infeasible) {
+                        lowerBound = upperBound;
+                        if (bestTimes == null) {
+                            throw new RuntimeException("No runway assignment can be sequenced");
+                        }
+                    }
+                    break;
+                }
+                lowerBound = Math.max(lowerBound, master.getBestObjValue());
+                assignment = new int[n];
+                for (int i = 0; i < n; i++) {
+                    for (int r = 0; r < m; r++) {
+                        if (Math.round(master.getValue(z[i][r])) == 1) {
+                            assignment[i] = r;
+                        }
+                    }
+                }
+            }
+        } catch (IloException e) {
+            System.err.println("❌ CPLEX Error: " + e.getMessage());
+            throw new RuntimeException("CPLEX error: " + e.getMessage(), e);
+        } finally {
+            executor.shutdownNow();
+            if (master != null) {
+                master.end();
+            }
+        }
+
+        if (bestTimes == null) {
+            throw new RuntimeException("Benders decomposition found no feasible schedule");
+        }
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        double objectiveValue = objectiveType.evaluate(instance, bestTimes, bestRunways);
+        double gap = objectiveValue > EPSILON ? Math.max(0, (objectiveValue - lowerBound) / objectiveValue) : 0;
+        System.out.println("Benders decomposition finished in " + solveTime + " seconds: " + iterations
+                + " iterations, " + cuts + " cuts, objective " + objectiveValue + ", lower bound " + lowerBound);
+
+        if (ScheduleValidator.validate(instance, bestTimes, bestRunways)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Benders decomposition schedule validation failed");
+        }
+        ALPSolution solution = new ALPSolution(instance, bestTimes, bestRunways, objectiveValue, solveTime,
+                objectiveType.getLabel());
+        solution.setMipGap(gap);
+        return solution;
+    }
+
+    /**
+     * Assignment variables and rows, theta_r and its relaxation rows, and
+     * the objective.
+     */
+    private void buildMaster(IloCplex master, ALPInstance instance, IloNumVar[][] z, IloNumVar[] theta)
+            throws IloException {
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+        for (int i = 0; i < n; i++) {
+            z[i] = master.boolVarArray(m);
+            master.addEq(master.sum(z[i]), 1);
+        }
+
+        // theta_r >= sum_i (least cost of i alone on r) z_ir
+        for (int r = 0; r < m; r++) {
+            IloLinearNumExpr row = master.linearNumExpr();
+            row.addTerm(1, theta[r]);
+            for (int i = 0; i < n; i++) {
+                double alone = aloneCost(instance.getAircraft().get(i), r);
+                if (alone > 0) {
+                    row.addTerm(-alone, z[i][r]);
+                }
+            }
+            master.addGe(row, 0);
+        }
+
+        // Incompatible pairs use different runways
+        PairAnalysis pairs = new PairAnalysis(instance);
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (pairs.isIncompatible(i, j)) {
+                    for (int r = 0; r < m; r++) {
+                        master.addLe(master.sum(z[i][r], z[j][r]), 1);
+                    }
+                }
+            }
+        }
+        master.addMinimize(master.sum(theta));
+    }
+
+    /**
+     * Least cost of an aircraft landing alone on runway r.
+     */
+    private double aloneCost(AircraftData aircraft, int r) {
+        if (objectiveType == ObjectiveType.TOTAL_LATENESS) {
+            return Math.max(0, aircraft.getEarliestLandingTime() + aircraft.getTransferTime(r)
+                    - aircraft.getTargetLandingTime());
+        }
+        return 0; // Problem 1: at its target time
+    }
+
+    private void addCut(IloCplex master, IloNumVar[][] z, IloNumVar[] theta, int r, RunwayResult result)
+            throws IloException {
+        if (result.aircraft.length == 0) {
+            return;
+        }
+        IloLinearNumExpr row = master.linearNumExpr();
+        if (!result.feasible) {
+            for (int i : result.aircraft) {
+                row.addTerm(1, z[i][r]);
+            }
+            master.addLe(row, result.aircraft.length - 1);
+        } else if (result.bound > EPSILON) {
+            // theta_r - v * sum_{i in S} z_ir >= v - v |S|
+            row.addTerm(1, theta[r]);
+            for (int i : result.aircraft) {
+                row.addTerm(-result.bound, z[i][r]);
+            }
+            master.addGe(row, result.bound * (1 - result.aircraft.length));
+        }
+    }
+
+    /**
+     * Sequences every runway of an assignment in parallel, reusing cached
+     * results.
+     */
+    private RunwayResult[] solveRunways(ALPInstance instance, int[] assignment, List<Map<BitSet, RunwayResult>> cache,
+            ExecutorService executor, long deadline) {
+        int m = instance.getNumRunways();
+        RunwayResult[] results = new RunwayResult[m];
+        List<Future<RunwayResult>> futures = new ArrayList<>();
+        for (int r = 0; r < m; r++) {
+            BitSet members = new BitSet();
+            for (int i = 0; i < assignment.length; i++) {
+                if (assignment[i] == r) {
+                    members.set(i);
+                }
+            }
+            results[r] = cache.get(r).get(members);
+            if (results[r] == null) {
+                int runway = r;
+                futures.add(executor.submit(() -> solveRunway(instance, members, runway, deadline)));
+            } else {
+                futures.add(null);
+            }
+        }
+        try {
+            for (int r = 0; r < m; r++) {
+                if (futures.get(r) != null) {
+                    results[r] = futures.get(r).get();
+                    cache.get(r).put(results[r].members, results[r]);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Benders decomposition interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Runway subproblem failed: " + e.getCause().getMessage(), e.getCause());
+        }
+        return results;
+    }
+
+    /**
+     * Sequences the given aircraft alone on runway r with CPLEX.
+     */
+    private RunwayResult solveRunway(ALPInstance full, BitSet members, int r, long deadline) {
+        RunwayResult result = new RunwayResult(members);
+        int size = result.aircraft.length;
+        if (size == 0) {
+            return result;
+        }
+
+        List<AircraftData> data = new ArrayList<>();
+        int[][] separation = new int[size][size];
+        int[][] transfer = new int[size][];
+        for (int k = 0; k < size; k++) {
+            AircraftData a = full.getAircraft().get(result.aircraft[k]);
+            data.add(new AircraftData(a.getId(), a.getEarliestLandingTime(), a.getTargetLandingTime(),
+                    a.getLatestLandingTime(), a.getEarlyPenalty(), a.getLatePenalty()));
+            transfer[k] = new int[] { a.getTransferTime(r) }; // the single runway is r
+            for (int l = 0; l < size; l++) {
+                separation[k][l] = full.getSeparationTime(result.aircraft[k], result.aircraft[l]);
+            }
+        }
+        ALPInstance sub = new ALPInstance(data, separation, 1, full.getInstanceName(), transfer);
+
+        double limit = Math.min(subproblemTimeLimit, (deadline - System.currentTimeMillis()) / 1000.0);
+        ModelOptions options = new ModelOptions().setBeamSearchStart(true);
+        ALPModel model = null;
+        try {
+            model = new ALPModel(sub, options);
+            IloCplex cplex = model.getCplex();
+            cplex.setParam(IloCplex.Param.Threads, 1);
+            cplex.setParam(IloCplex.Param.MIP.Display, 0);
+            cplex.setParam(IloCplex.Param.TimeLimit, Math.max(limit, 1));
+            cplex.setParam(IloCplex.Param.MIP.Tolerances.MIPGap, 0.0);
+            try {
+                ALPSolution solution = model.solve(ObjectiveModule.of(objectiveType));
+                result.feasible = true;
+                result.value = solution.getObjectiveValue();
+                result.times = solution.getLandingTimes();
+                // A start kept under the cutoff is optimal only if the search finished
+                IloCplex.Status status = cplex.getStatus();
+                if (status == IloCplex.Status.Optimal || status == IloCplex.Status.Infeasible) {
+                    result.bound = result.value;
+                } else {
+                    result.bound = Math.max(0, Math.min(result.value, cplex.getBestObjValue()));
+                }
+            } catch (RuntimeException e) {
+                if (cplex.getStatus() != IloCplex.Status.Infeasible) {
+                    throw new RuntimeException("Runway " + r + " subproblem of " + size
+                            + " aircraft not solved within its time limit", e);
+                }
+                result.feasible = false;
+            }
+        } catch (IloException e) {
+            System.err.println("❌ CPLEX Error: " + e.getMessage());
+            throw new RuntimeException("CPLEX error: " + e.getMessage(), e);
+        } finally {
+            if (model != null) {
+                model.end();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String getName() {
+        return "Benders Decomposition: " + objectiveType.getLabel();
+    }
+
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    public void setTimeLimit(double timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    public double getSubproblemTimeLimit() {
+        return subproblemTimeLimit;
+    }
+
+    public void setSubproblemTimeLimit(double subproblemTimeLimit) {
+        this.subproblemTimeLimit = subproblemTimeLimit;
+    }
+
+    /**
+     * Returns the largest number of runway subproblems solved at once.
+     */
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Sequencing result of a set of aircraft on one runway.
+     */
+    private static final class RunwayResult {
+        final BitSet members;
+        final int[] aircraft;
+        boolean feasible = true;
+        double value;  // cost of the schedule found
+        double bound;  // proven lower bound on the cost
+        int[] times;   // landing times, by position in aircraft
+        boolean cut;   // already added to the master
+
+        RunwayResult(BitSet members) {
+            this.members = members;
+            aircraft = members.stream().toArray();
+        }
+
+        void merge(int r, int[] fullTimes, int[] fullRunways) {
+            for (int k = 0; k < aircraft.length; k++) {
+                fullTimes[aircraft[k]] = times[k];
+                fullRunways[aircraft[k]] = r;
+            }
+        }
+    }
+}
@@ -0,0 +1,864 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exact branch-and-bound for Problem 1 (weighted delay) on a single runway,
+ * without CPLEX.
+ *
+ * Nodes are landing sequences built from the front. For a prefix, the
+ * optimal landing times of the prefix alone are maintained by block
+ * shifting: appending an aircraft that cannot land at its target pushes it
+ * against the last block, which then moves earlier as long as its tardiness
+ * weight exceeds its earliness weight. Adding aircraft behind a prefix can
+ * only constrain it further, so the prefix cost plus the tardiness each
+ * remaining aircraft incurs at its earliest possible time (given the prefix)
+ * is a lower bound.
+ *
+ * A second bound accounts for the crowding of the remaining aircraft among
+ * themselves. Within a run of aircraft consecutive by target, lowering every
+ * penalty to the smallest of the run and every separation to the smallest
+ * of the run gives identical V-shaped costs, for which landing in target
+ * order is optimal; the cost of that relaxation is an isotonic regression.
+ * The costs of the runs are precomputed, and a node adds up the best
+ * partition of its remaining aircraft into runs. The node bound is the
+ * larger of the two; children are still explored by the first one, which
+ * follows the prefix.
+ *
+ * Only aircraft whose forced predecessors (time windows, see
+ * {@link PairAnalysis}) and dominating aircraft (see
+ * {@link DominanceAnalysis}) are already sequenced can be appended. The
+ * greedy schedule is the first incumbent. The top levels of the tree are
+ * explored in parallel on a fork-join pool, the rest depth-first.
+ *
+ * When the separation times violate the triangle inequality, each aircraft
+ * is separated from the previous aircraft up to the lookback of
+ * {@link SeparationAnalysis}, and a landing can be held by a non-consecutive
+ * one, so the blocks are no longer runs of consecutive positions. The prefix
+ * is then retimed by steepest descent: the set of landings moved earlier at
+ * each step is a maximum-gain set closed under tight separations, found by
+ * a minimum cut. The prefix times stay optimal, so the bound and the leaves
+ * are exact in both cases.
+ */
+public class BranchAndBoundSolver implements ALPSolver {
+
+    // Same limit as the CPLEX model
+    private static final double TIME_LIMIT_SECONDS = 60;
+
+    // Nodes above this depth are forked as separate tasks
+    private static final int SPLIT_DEPTH = 3;
+
+    // Tolerance used when pruning against the incumbent
+    private static final double EPSILON = 1e-9;
+
+    // Gain of a landing later than its latest time, which must move earlier
+    private static final double EXCESS_GAIN = 1e12;
+
+    // Longest run of aircraft, by target, whose crowding cost is precomputed
+    private static final int MAX_RUN = 30;
+
+    private double timeLimit = TIME_LIMIT_SECONDS;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        if (instance.getNumRunways() != 1) {
+            throw new IllegalArgumentException("Branch-and-bound handles a single runway, instance has "
+                    + instance.getNumRunways());
+        }
+
+        long startTime = System.currentTimeMillis();
+        Search search = new Search(instance, startTime + (long) (timeLimit * 1000));
+        System.out.println("Starting branch-and-bound for " + getName() + " (" + parallelism + " threads, "
+                + (search.triangle ? "" : "no ") + "triangle inequality)...");
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            Node root = search.root();
+            if (root != null) {
+                search.rootBound = root.bound;
+                pool.invoke(new NodeTask(search, root));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        if (search.bestTimes == null) {
+            throw new RuntimeException("Branch-and-bound found no feasible schedule"
+                    + (search.timedOut ? " within the time limit" : ""));
+        }
+
+        int[] runwayAssignments = new int[instance.getNumAircraft()];
+        double objectiveValue = ObjectiveType.WEIGHTED_DELAY.evaluate(instance, search.bestTimes, runwayAssignments);
+        double bound = Math.min(objectiveValue, Math.max(search.rootBound, search.openBound));
+        double gap = Math.abs(objectiveValue - bound) / (1e-10 + Math.abs(objectiveValue));
+
+        System.out.println("Branch-and-bound finished in " + solveTime + " seconds: " + search.nodes.get()
+                + " nodes, objective " + objectiveValue + ", bound " + bound
+                + (search.timedOut ? " (time limit reached)" : ""));
+
+        ALPSolution solution = new ALPSolution(instance, search.bestTimes, runwayAssignments,
+                objectiveValue, solveTime, ObjectiveType.WEIGHTED_DELAY.getLabel());
+        solution.setRootBound(search.rootBound);
+        solution.setLowerBound(bound);
+        solution.setMipGap(gap);
+        solution.setTimeToFirstIncumbent(search.firstIncumbentTime);
+
+        if (ScheduleValidator.validate(instance, search.bestTimes, runwayAssignments)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Branch-and-bound schedule validation failed");
+        }
+        return solution;
+    }
+
+    @Override
+    public String getName() {
+        return "Branch-and-Bound: " + ObjectiveType.WEIGHTED_DELAY.getLabel();
+    }
+
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    public void setTimeLimit(double timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Instance data and shared search state.
+     */
+    private static final class Search {
+        final int n;
+        final int[] earliest;
+        final int[] target;
+        final int[] latest;
+        final double[] earlyPenalty;
+        final double[] latePenalty;
+        final int[][] separation;
+        final int[][] predecessors; // aircraft that must be sequenced before each aircraft
+        final int[] byTarget;       // aircraft by increasing target time
+        final double[][] runCost;   // crowding cost of each run of byTarget, by first position and length
+        final boolean triangle;
+        final int lookback; // previous positions each landing is separated from
+        final ThreadLocal<TimingEngine> engines; // block shifting of the triangle case
+        final long deadline;
+        final long startTime;
+
+        final AtomicLong nodes = new AtomicLong();
+        volatile double bestCost = Double.MAX_VALUE;
+        volatile int[] bestTimes;
+        volatile boolean timedOut;
+        double firstIncumbentTime = Double.NaN;
+        double rootBound = Double.NaN;
+        double openBound = Double.MAX_VALUE; // smallest bound of a node left unexplored
+
+        Search(ALPInstance instance, long deadline) {
+            this.deadline = deadline;
+            this.startTime = System.currentTimeMillis();
+            n = instance.getNumAircraft();
+            earliest = new int[n];
+            target = new int[n];
+            latest = new int[n];
+            earlyPenalty = new double[n];
+            latePenalty = new double[n];
+            separation = new int[n][n];
+            for (int i = 0; i < n; i++) {
+                AircraftData a = instance.getAircraft().get(i);
+                earliest[i] = a.getEarliestLandingTime();
+                target[i] = a.getTargetLandingTime();
+                latest[i] = a.getLatestLandingTime();
+                earlyPenalty[i] = a.getEarlyPenalty();
+                latePenalty[i] = a.getLatePenalty();
+                for (int j = 0; j < n; j++) {
+                    separation[i][j] = i == j ? 0 : instance.getSeparationTime(i, j);
+                }
+            }
+
+            SeparationAnalysis separations = new SeparationAnalysis(instance);
+            triangle = separations.isTriangle();
+            lookback = separations.getLookback();
+            engines = ThreadLocal.withInitial(
+                    () -> new TimingEngine(instance, ObjectiveType.WEIGHTED_DELAY, separations));
+
+            PairAnalysis pairs = new PairAnalysis(instance);
+            DominanceAnalysis dominance = new DominanceAnalysis(instance);
+            predecessors = new int[n][];
+            for (int j = 0; j < n; j++) {
+                List<Integer> before = new ArrayList<>();
+                for (int i = 0; i < n; i++) {
+                    if (i != j && (pairs.mustPrecede(i, j) || dominance.dominates(i, j, ObjectiveType.WEIGHTED_DELAY))) {
+                        before.add(i);
+                    }
+                }
+                predecessors[j] = before.stream().mapToInt(Integer::intValue).toArray();
+            }
+
+            byTarget = new int[n];
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                order.add(i);
+            }
+            order.sort((x, y) -> Integer.compare(target[x], target[y]));
+            for (int k = 0; k < n; k++) {
+                byTarget[k] = order.get(k);
+            }
+            runCost = new double[n][];
+            for (int from = 0; from < n; from++) {
+                runCost[from] = new double[Math.min(MAX_RUN, n - from) + 1];
+                for (int length = 2; length < runCost[from].length; length++) {
+                    runCost[from][length] = crowdingCost(from, length);
+                }
+            }
+
+            ALPSolution greedy = GreedyHeuristic.construct(instance, ObjectiveType.WEIGHTED_DELAY);
+            if (greedy != null) {
+                offer(greedy.getLandingTimes().clone(), greedy.getObjectiveValue());
+            }
+        }
+
+        double cost(int aircraft, int time) {
+            return ObjectiveType.delayCost(time, target[aircraft], earlyPenalty[aircraft], latePenalty[aircraft]);
+        }
+
+        /**
+         * Returns the root node, or null if some aircraft has an empty window.
+         */
+        Node root() {
+            Node root = new Node(n);
+            System.arraycopy(earliest, 0, root.release, 0, n);
+            for (int j = 0; j < n; j++) {
+                if (earliest[j] > latest[j]) {
+                    return null;
+                }
+            }
+            root.bound = Math.max(remainingBound(root), crowdingBound(root));
+            return root;
+        }
+
+        /**
+         * Returns the child obtained by appending aircraft a, or null if it
+         * cannot be completed within the windows.
+         */
+        Node append(Node parent, int a) {
+            Node child = parent.copy();
+            int k = child.depth;
+            child.sequence[k] = a;
+            child.scheduled[a] = true;
+            child.depth = k + 1;
+
+            // Earliest possible times of the remaining aircraft
+            int release = child.release[a];
+            for (int j = 0; j < n; j++) {
+                if (!child.scheduled[j]) {
+                    child.release[j] = Math.max(child.release[j], release + separation[a][j]);
+                    if (child.release[j] > latest[j]) {
+                        return null;
+                    }
+                }
+            }
+
+            // Optimal times of the prefix
+            int desired = Math.max(earliest[a], Math.min(target[a], latest[a]));
+            int lower = Integer.MIN_VALUE;
+            for (int q = Math.max(0, k - lookback); q < k; q++) {
+                lower = Math.max(lower, child.times[q] + separation[child.sequence[q]][a]);
+            }
+            if (desired >= lower) {
+                child.times[k] = desired;
+                child.blockStart[child.blocks++] = k;
+            } else {
+                child.times[k] = lower;
+                if (triangle) {
+                    child.blocks = engines.get().shiftLastBlock(child.sequence, child.times, child.blockStart, k,
+                            child.blocks, 1);
+                    if (child.blocks < 0) {
+                        return null;
+                    }
+                } else if (Double.isNaN(descend(child.sequence, child.times, k, null))) {
+                    return null;
+                }
+            }
+
+            double prefixCost = 0;
+            for (int p = 0; p <= k; p++) {
+                prefixCost += cost(child.sequence[p], child.times[p]);
+            }
+            child.prefixCost = prefixCost;
+            if (child.depth == n) {
+                child.bound = prefixCost;
+                child.lookahead = prefixCost;
+            } else {
+                double lookahead;
+                if (triangle) {
+                    lookahead = lookaheadBound(child);
+                } else {
+                    int[] times = Arrays.copyOf(child.times, child.depth);
+                    lookahead = prefixCost + pushedTardiness(child, times) - descend(child.sequence, times, k, child);
+                }
+                child.lookahead = lookahead;
+                child.bound = Math.max(lookahead, prefixCost + crowdingBound(child));
+            }
+            return child;
+        }
+
+        /**
+         * Lower bound of the cost of the remaining aircraft of a node among
+         * themselves: the best partition of the runs of byTarget made of
+         * remaining aircraft into precomputed runs.
+         */
+        double crowdingBound(Node node) {
+            double[] best = new double[n + 1];
+            for (int b = 1; b <= n; b++) {
+                best[b] = best[b - 1];
+                if (node.scheduled[byTarget[b - 1]]) {
+                    continue;
+                }
+                for (int a = b - 2; a >= Math.max(0, b - MAX_RUN); a--) {
+                    if (node.scheduled[byTarget[a]]) {
+                        break;
+                    }
+                    best[b] = Math.max(best[b], best[a] + runCost[a][b - a]);
+                }
+            }
+            return best[n];
+        }
+
+        /**
+         * Cost of landing the given run of byTarget with the smallest
+         * penalties and separation of the run, without time windows. The
+         * costs are then the same V shape around each target, so landing in
+         * target order is optimal, and with u_k = t_k - k * separation the
+         * times are an isotonic regression of the targets shifted the same
+         * way, solved by pooling adjacent violators.
+         */
+        double crowdingCost(int from, int length) {
+            double early = Double.MAX_VALUE;
+            double late = Double.MAX_VALUE;
+            int gap = Integer.MAX_VALUE;
+            for (int k = 0; k < length; k++) {
+                int j = byTarget[from + k];
+                early = Math.min(early, earlyPenalty[j]);
+                late = Math.min(late, latePenalty[j]);
+                for (int l = 0; l < k; l++) {
+                    int i = byTarget[from + l];
+                    gap = Math.min(gap, Math.min(separation[i][j], separation[j][i]));
+                }
+            }
+            if (early + late <= 0) {
+                return 0;
+            }
+
+            long[] shifted = new long[length];
+            for (int k = 0; k < length; k++) {
+                shifted[k] = target[byTarget[from + k]] - (long) k * gap;
+            }
+            return CrowdingBound.isotonicCost(shifted, early, late);
+        }
+
+        /**
+         * Earliest landing time of remaining aircraft j behind the landings
+         * of a node timed by times: after its release and separated from the
+         * landings within the lookback of the end of the prefix.
+         */
+        int pushedTime(Node node, int[] times, int j) {
+            int t = node.release[j];
+            for (int q = Math.max(0, node.depth - lookback); q < node.depth; q++) {
+                t = Math.max(t, times[q] + separation[node.sequence[q]][j]);
+            }
+            return t;
+        }
+
+        /**
+         * Tardiness of the remaining aircraft of a node at their pushed
+         * times.
+         */
+        double pushedTardiness(Node node, int[] times) {
+            double tardiness = 0;
+            for (int j = 0; j < n; j++) {
+                if (!node.scheduled[j]) {
+                    int t = pushedTime(node, times, j);
+                    if (t > target[j]) {
+                        tardiness += latePenalty[j] * (t - target[j]);
+                    }
+                }
+            }
+            return tardiness;
+        }
+
+        /**
+         * Moves landings of the prefix ending at position last earlier while
+         * this decreases the weighted delay, without the triangle
+         * inequality. The prefix before last must be optimally timed and
+         * every separation within the lookback satisfied; landings later than
+         * their latest time are moved back into their window.
+         *
+         * Each step moves earlier the set of landings with the largest total
+         * gain among the sets that contain, with every landing, the landings
+         * it is tightly separated from, until a landing reaches a breakpoint
+         * of its cost or a new separation becomes tight. Costs are convex and
+         * separations are differences of times, so the times are optimal once
+         * no set has a positive gain.
+         *
+         * @param lookahead If not null, the node whose remaining aircraft
+         *                  are pushed by the end of the prefix (see
+         *                  {@link #pushedTime}): a remaining aircraft pushed
+         *                  beyond its target moves with the landings holding
+         *                  it and adds its tardiness weight to the gain
+         * @return The decrease of the weighted delay (plus the pushed
+         *         tardiness with a lookahead node), or NaN if some landing
+         *         cannot be moved back into its window
+         */
+        double descend(int[] sequence, int[] times, int last, Node lookahead) {
+            int size = last + 1;
+            int tail = Math.max(0, size - lookback); // first position that can hold a remaining aircraft
+            int[] local = new int[size];      // index of each position in the graph, -1 outside
+            int[] members = new int[size];    // positions of the graph
+            int[] pushed = new int[n];        // remaining aircraft pushed beyond their target
+            int[] pushedAt = new int[n];      // their pushed times
+            double decrease = 0;
+
+            while (true) {
+                int pushedCount = 0;
+                if (lookahead != null) {
+                    for (int j = 0; j < n; j++) {
+                        if (!lookahead.scheduled[j]) {
+                            int t = pushedTime(lookahead, times, j);
+                            if (t > Math.max(lookahead.release[j], target[j])) {
+                                pushed[pushedCount] = j;
+                                pushedAt[pushedCount++] = t;
+                            }
+                        }
+                    }
+                }
+
+                // Positions connected to the last one or to a pushed aircraft
+                // by tight separations
+                Arrays.fill(local, -1);
+                int count = 0;
+                members[count] = last;
+                local[last] = count++;
+                for (int h = 0; h < pushedCount; h++) {
+                    for (int q = tail; q < size; q++) {
+                        if (local[q] < 0 && holds(sequence, times, q, pushed[h], pushedAt[h])) {
+                            members[count] = q;
+                            local[q] = count++;
+                        }
+                    }
+                }
+                for (int head = 0; head < count; head++) {
+                    int p = members[head];
+                    for (int r = Math.max(0, p - lookback); r <= Math.min(last, p + lookback); r++) {
+                        if (local[r] < 0 && r != p && tight(sequence, times, Math.min(p, r), Math.max(p, r))) {
+                            members[count] = r;
+                            local[r] = count++;
+                        }
+                    }
+                }
+
+                // Maximum-gain closed set, as the source side of a minimum
+                // cut; pushed aircraft follow the positions
+                int nodes = count + pushedCount;
+                int source = nodes;
+                int sink = nodes + 1;
+                double[][] capacity = new double[nodes + 2][nodes + 2];
+                double[] gain = new double[nodes]; // cost decrease per unit of left shift
+                boolean excess = false;
+                for (int v = 0; v < count; v++) {
+                    int p = members[v];
+                    int j = sequence[p];
+                    if (times[p] > latest[j]) {
+                        gain[v] = EXCESS_GAIN;
+                        excess = true;
+                    } else if (times[p] == earliest[j]) {
+                        gain[v] = Double.NEGATIVE_INFINITY;
+                    } else {
+                        gain[v] = times[p] > target[j] ? latePenalty[j] : -earlyPenalty[j];
+                    }
+                    for (int q = Math.max(0, p - lookback); q < p; q++) {
+                        if (local[q] >= 0 && tight(sequence, times, q, p)) {
+                            capacity[v][local[q]] = Double.POSITIVE_INFINITY;
+                        }
+                    }
+                }
+                for (int h = 0; h < pushedCount; h++) {
+                    int v = count + h;
+                    gain[v] = latePenalty[pushed[h]];
+                    for (int q = tail; q < size; q++) {
+                        if (holds(sequence, times, q, pushed[h], pushedAt[h])) {
+                            capacity[v][local[q]] = Double.POSITIVE_INFINITY;
+                        }
+                    }
+                }
+                for (int v = 0; v < nodes; v++) {
+                    if (gain[v] > 0) {
+                        capacity[source][v] = gain[v];
+                    } else {
+                        capacity[v][sink] = -gain[v];
+                    }
+                }
+                boolean[] moved = minimumCut(capacity, nodes + 2, source, sink);
+
+                double total = 0;
+                for (int v = 0; v < nodes; v++) {
+                    if (moved[v]) {
+                        total += gain[v];
+                    } else if (gain[v] == EXCESS_GAIN) {
+                        return Double.NaN;
+                    }
+                }
+                if (total <= EPSILON) {
+                    return decrease;
+                }
+
+                // Largest shift before a breakpoint or a new tight separation
+                int step = Integer.MAX_VALUE;
+                for (int v = 0; v < count; v++) {
+                    if (!moved[v]) {
+                        continue;
+                    }
+                    int p = members[v];
+                    int j = sequence[p];
+                    step = Math.min(step, times[p] - earliest[j]);
+                    if (times[p] > target[j]) {
+                        step = Math.min(step, times[p] - target[j]);
+                    }
+                    if (times[p] > latest[j]) {
+                        step = Math.min(step, times[p] - latest[j]);
+                    }
+                    for (int q = Math.max(0, p - lookback); q < p; q++) {
+                        if (local[q] < 0 || !moved[local[q]]) {
+                            step = Math.min(step, times[p] - times[q] - separation[sequence[q]][sequence[p]]);
+                        }
+                    }
+                }
+                for (int h = 0; h < pushedCount; h++) {
+                    if (!moved[count + h]) {
+                        continue;
+                    }
+                    int j = pushed[h];
+                    step = Math.min(step, pushedAt[h] - Math.max(lookahead.release[j], target[j]));
+                    for (int q = tail; q < size; q++) {
+                        if (local[q] < 0 || !moved[local[q]]) {
+                            step = Math.min(step, pushedAt[h] - times[q] - separation[sequence[q]][j]);
+                        }
+                    }
+                }
+                for (int v = 0; v < count; v++) {
+                    if (moved[v]) {
+                        times[members[v]] -= step;
+                    }
+                }
+                if (!excess) {
+                    decrease += total * step;
+                }
+            }
+        }
+
+        boolean tight(int[] sequence, int[] times, int q, int p) {
+            return times[p] - times[q] == separation[sequence[q]][sequence[p]];
+        }
+
+        /**
+         * Returns true if the landing at position q pushes remaining
+         * aircraft j to time t.
+         */
+        boolean holds(int[] sequence, int[] times, int q, int j, int t) {
+            return times[q] + separation[sequence[q]][j] == t;
+        }
+
+        /**
+         * Computes a maximum flow by shortest augmenting paths on a dense
+         * residual graph, updated in place.
+         *
+         * @return The nodes on the source side of a minimum cut, the
+         *         smallest such side
+         */
+        static boolean[] minimumCut(double[][] residual, int size, int source, int sink) {
+            boolean[] reached = new boolean[size];
+            int[] parent = new int[size];
+            int[] queue = new int[size];
+            while (true) {
+                Arrays.fill(reached, false);
+                reached[source] = true;
+                queue[0] = source;
+                int end = 1;
+                for (int head = 0; head < end && !reached[sink]; head++) {
+                    int u = queue[head];
+                    for (int v = 0; v < size; v++) {
+                        if (!reached[v] && residual[u][v] > EPSILON) {
+                            reached[v] = true;
+                            parent[v] = u;
+                            queue[end++] = v;
+                        }
+                    }
+                }
+                if (!reached[sink]) {
+                    return reached;
+                }
+
+                double flow = Double.POSITIVE_INFINITY;
+                for (int v = sink; v != source; v = parent[v]) {
+                    flow = Math.min(flow, residual[parent[v]][v]);
+                }
+                for (int v = sink; v != source; v = parent[v]) {
+                    residual[parent[v]][v] -= flow;
+                    residual[v][parent[v]] += flow;
+                }
+            }
+        }
+
+        /**
+         * Lower bound of a prefix with at least one remaining aircraft. Every
+         * remaining aircraft j lands at least s_lj after the last aircraft l
+         * of the prefix, so the bound is the minimum, over the landing time x
+         * of l, of the prefix cost with l landing at x and the tardiness of
+         * the remaining aircraft landing at max(release, x + s_lj). The last
+         * block is moved earlier as long as this decreases the sum.
+         */
+        double lookaheadBound(Node node) {
+            int last = node.depth - 1;
+            int l = node.sequence[last];
+            int[] times = Arrays.copyOf(node.times, node.depth);
+            int x = times[last];
+
+            double bound = node.prefixCost;
+            for (int j = 0; j < n; j++) {
+                if (!node.scheduled[j]) {
+                    int t = Math.max(node.release[j], x + separation[l][j]);
+                    if (t > target[j]) {
+                        bound += latePenalty[j] * (t - target[j]);
+                    }
+                }
+            }
+
+            int blocks = node.blocks;
+            while (true) {
+                int start = node.blockStart[blocks - 1];
+                double gain = 0;
+                int toEarliest = Integer.MAX_VALUE;
+                int toBreakpoint = Integer.MAX_VALUE;
+                for (int p = start; p <= last; p++) {
+                    int j = node.sequence[p];
+                    toEarliest = Math.min(toEarliest, times[p] - earliest[j]);
+                    if (times[p] > target[j]) {
+                        gain += latePenalty[j];
+                        toBreakpoint = Math.min(toBreakpoint, times[p] - target[j]);
+                    } else {
+                        gain -= earlyPenalty[j];
+                    }
+                }
+                for (int j = 0; j < n; j++) {
+                    if (!node.scheduled[j]) {
+                        int pushed = x + separation[l][j] - Math.max(node.release[j], target[j]);
+                        if (pushed > 0) {
+                            gain += latePenalty[j];
+                            toBreakpoint = Math.min(toBreakpoint, pushed);
+                        }
+                    }
+                }
+                if (gain <= 0 || toEarliest == 0) {
+                    return bound;
+                }
+
+                int gap = Integer.MAX_VALUE;
+                if (start > 0) {
+                    gap = times[start] - times[start - 1] - separation[node.sequence[start - 1]][node.sequence[start]];
+                }
+                if (gap == 0) {
+                    blocks--;
+                    continue;
+                }
+
+                int step = Math.min(Math.min(toEarliest, toBreakpoint), gap);
+                for (int p = start; p <= last; p++) {
+                    times[p] -= step;
+                }
+                x -= step;
+                bound -= gain * step;
+                if (step == gap) {
+                    blocks--;
+                }
+            }
+        }
+
+        /**
+         * Tardiness of each remaining aircraft at its earliest possible time.
+         */
+        double remainingBound(Node node) {
+            double bound = 0;
+            for (int j = 0; j < n; j++) {
+                if (!node.scheduled[j] && node.release[j] > target[j]) {
+                    bound += latePenalty[j] * (node.release[j] - target[j]);
+                }
+            }
+            return bound;
+        }
+
+        /**
+         * Evaluates a complete sequence and updates the incumbent.
+         */
+        void evaluateLeaf(Node node) {
+            int[] times = new int[n];
+            for (int p = 0; p < n; p++) {
+                times[node.sequence[p]] = node.times[p];
+            }
+            offer(times, node.prefixCost);
+        }
+
+        synchronized void offer(int[] times, double value) {
+            if (value < bestCost) {
+                if (bestTimes == null) {
+                    firstIncumbentTime = (System.currentTimeMillis() - startTime) / 1000.0;
+                }
+                bestCost = value;
+                bestTimes = times;
+            }
+        }
+
+        synchronized void abandon(Node node) {
+            timedOut = true;
+            openBound = Math.min(openBound, node.bound);
+        }
+
+        boolean pruned(Node node) {
+            return node.bound >= bestCost - EPSILON * Math.max(1, Math.abs(bestCost));
+        }
+
+        /**
+         * Returns the feasible children of a node, by increasing lookahead
+         * bound.
+         */
+        List<Node> children(Node node) {
+            List<Node> result = new ArrayList<>();
+            for (int a = 0; a < n; a++) {
+                if (node.scheduled[a] || !predecessorsDone(node, a)) {
+                    continue;
+                }
+                Node child = append(node, a);
+                if (child != null && !pruned(child)) {
+                    result.add(child);
+                }
+            }
+            result.sort((x, y) -> Double.compare(x.lookahead, y.lookahead));
+            return result;
+        }
+
+        boolean predecessorsDone(Node node, int a) {
+            for (int i : predecessors[a]) {
+                if (!node.scheduled[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void depthFirst(Node node) {
+            nodes.incrementAndGet();
+            if (pruned(node)) {
+                return;
+            }
+            if (node.depth == n) {
+                evaluateLeaf(node);
+                return;
+            }
+            if (timedOut || System.currentTimeMillis() > deadline) {
+                abandon(node);
+                return;
+            }
+            for (Node child : children(node)) {
+                depthFirst(child);
+            }
+        }
+    }
+
+    /**
+     * A landing sequence prefix with its optimal times.
+     */
+    private static final class Node {
+        int depth;
+        final int[] sequence;    // aircraft by position
+        final boolean[] scheduled;
+        final int[] times;       // landing times by position
+        final int[] blockStart;  // first position of each block of tight landings
+        int blocks;
+        final int[] release;     // earliest possible time of each remaining aircraft
+        double prefixCost;
+        double bound;
+        double lookahead; // bound from the prefix alone, orders the children
+
+        Node(int n) {
+            sequence = new int[n];
+            scheduled = new boolean[n];
+            times = new int[n];
+            blockStart = new int[n];
+            release = new int[n];
+        }
+
+        Node copy() {
+            Node copy = new Node(sequence.length);
+            copy.depth = depth;
+            copy.blocks = blocks;
+            copy.prefixCost = prefixCost;
+            copy.bound = bound;
+            copy.lookahead = lookahead;
+            System.arraycopy(sequence, 0, copy.sequence, 0, depth);
+            System.arraycopy(scheduled, 0, copy.scheduled, 0, scheduled.length);
+            System.arraycopy(times, 0, copy.times, 0, depth);
+            System.arraycopy(blockStart, 0, copy.blockStart, 0, blocks);
+            System.arraycopy(release, 0, copy.release, 0, release.length);
+            return copy;
+        }
+    }
+
+    /**
+     * Explores the subtree of a node, forking its children near the root.
+     */
+    private static final class NodeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Search search;
+        private final Node node;
+
+        NodeTask(Search search, Node node) {
+            this.search = search;
+            this.node = node;
+        }
+
+        @Override
+        protected void compute() {
+            if (node.depth >= SPLIT_DEPTH || node.depth == search.n) {
+                search.depthFirst(node);
+                return;
+            }
+            search.nodes.incrementAndGet();
+            if (search.pruned(node)) {
+                return;
+            }
+            List<NodeTask> tasks = new ArrayList<>();
+            for (Node child : search.children(node)) {
+                tasks.add(new NodeTask(search, child));
+            }
+            invokeAll(tasks);
+        }
+    }
+}
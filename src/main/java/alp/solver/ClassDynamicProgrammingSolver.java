@@ -0,0 +1,450 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Exact dynamic programming for Problems 1 and 2 on a single runway when the
+ * separation times are driven by a few aircraft classes.
+ *
+ * Aircraft with the same separation row and column (see
+ * {@link DominanceAnalysis#isSameClass(int, int)}) form a class. If within
+ * each class the aircraft are ordered by dominance (nested windows, and for
+ * Problem 1 the same penalties), some optimal sequence lands each class in
+ * that order, and a state only needs the number of aircraft landed from
+ * each class and the class of the last landing. With the triangle
+ * inequality the last landing is the only one constraining the next.
+ *
+ * For Problem 2 a state stores the earliest time of its last landing. For
+ * Problem 1 it stores the least cost for every possible time of its last
+ * landing, over the window of that aircraft; transitions use prefix minima
+ * over the predecessor times. States are numbered in mixed radix over the
+ * class counts, so that every transition goes to a higher index and the
+ * tables are plain arrays filled in index order.
+ *
+ * The work is polynomial in n for a fixed number of classes. When the
+ * instance does not have this structure (several runways, Problem 3, no
+ * triangle inequality, too many classes or states, or classes without a
+ * dominance order) the solver says why and delegates to a fallback solver.
+ */
+public class ClassDynamicProgrammingSolver implements ALPSolver {
+
+    // Largest number of classes handled
+    private static final int MAX_CLASSES = 8;
+
+    // Largest number of class-count states
+    private static final int MAX_STATES = 5_000_000;
+
+    // Largest number of (state, time) cells of the Problem 1 table
+    private static final long MAX_CELLS = 20_000_000;
+
+    // Tolerance used when tracing back the optimal costs
+    private static final double EPSILON = 1e-6;
+
+    private final ObjectiveType objectiveType;
+    private ALPSolver fallback;
+
+    public ClassDynamicProgrammingSolver(ObjectiveType objectiveType) {
+        this.objectiveType = objectiveType;
+        this.fallback = new BeamSearchSolver(objectiveType);
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        long startTime = System.currentTimeMillis();
+        Structure structure = new Structure(instance);
+        if (structure.reason != null) {
+            System.out.println("Class dynamic programming not applicable (" + structure.reason + "), using "
+                    + fallback.getName());
+            return fallback.solve(instance);
+        }
+        System.out.println("Starting class dynamic programming for " + objectiveType.getLabel() + " ("
+                + structure.classes.length + " classes, " + structure.states + " states)...");
+
+        int[] landingTimes = objectiveType == ObjectiveType.MAKESPAN ? solveMakespan(structure)
+                : solveWeightedDelay(structure);
+        if (landingTimes == null) {
+            System.out.println("❌ Class dynamic programming found no feasible sequence");
+            throw new RuntimeException("No landing sequence satisfies the time windows");
+        }
+
+        int n = instance.getNumAircraft();
+        int[] runwayAssignments = new int[n];
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        double objectiveValue = objectiveType.evaluate(instance, landingTimes, runwayAssignments);
+        System.out.println("Class dynamic programming finished in " + solveTime + " seconds: optimal objective "
+                + objectiveValue);
+
+        if (ScheduleValidator.validate(instance, landingTimes, runwayAssignments)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Class dynamic programming schedule validation failed");
+        }
+        ALPSolution solution = new ALPSolution(instance, landingTimes, runwayAssignments, objectiveValue,
+                solveTime, objectiveType.getLabel());
+        solution.setMipGap(0);
+        return solution;
+    }
+
+    /**
+     * Earliest last landing time of every state and last class.
+     */
+    private int[] solveMakespan(Structure s) {
+        int k = s.classes.length;
+        int[] table = new int[s.states * k];
+        Arrays.fill(table, Integer.MAX_VALUE);
+
+        int[] counts = new int[k];
+        for (int c = 1; c < s.states; c++) {
+            s.decode(c, counts);
+            for (int a = 0; a < k; a++) {
+                if (counts[a] == 0) {
+                    continue;
+                }
+                int j = s.classes[a][counts[a] - 1];
+                int p = c - s.stride[a];
+                int t = p == 0 ? s.earliest[j] : earliestAfter(s, table, p, counts, a, j);
+                if (t <= s.latest[j]) {
+                    table[c * k + a] = t;
+                }
+            }
+        }
+
+        // Trace back from the best last class
+        int c = s.states - 1;
+        int last = -1;
+        for (int a = 0; a < k; a++) {
+            if (table[c * k + a] != Integer.MAX_VALUE && (last < 0 || table[c * k + a] < table[c * k + last])) {
+                last = a;
+            }
+        }
+        if (last < 0) {
+            return null;
+        }
+        int[] times = new int[s.n];
+        while (true) {
+            s.decode(c, counts);
+            int j = s.classes[last][counts[last] - 1];
+            int t = table[c * k + last];
+            times[j] = t;
+            int p = c - s.stride[last];
+            if (p == 0) {
+                return times;
+            }
+            counts[last]--;
+            int previous = -1;
+            for (int b = 0; b < k && previous < 0; b++) {
+                int before = table[p * k + b];
+                if (counts[b] > 0 && before != Integer.MAX_VALUE
+                        && Math.max(s.earliest[j], before + s.separation[b][last]) == t) {
+                    previous = b;
+                }
+            }
+            c = p;
+            last = previous;
+        }
+    }
+
+    private static int earliestAfter(Structure s, int[] table, int p, int[] counts, int a, int j) {
+        int k = s.classes.length;
+        int best = Integer.MAX_VALUE;
+        for (int b = 0; b < k; b++) {
+            int previousCount = b == a ? counts[b] - 1 : counts[b];
+            int before = table[p * k + b];
+            if (previousCount > 0 && before != Integer.MAX_VALUE) {
+                best = Math.min(best, Math.max(s.earliest[j], before + s.separation[b][a]));
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Least cost of every state and last class for each time of the last
+     * landing (over the window of the last aircraft).
+     */
+    private int[] solveWeightedDelay(Structure s) {
+        int k = s.classes.length;
+        double[][] table = new double[s.states * k][];
+        int[] counts = new int[k];
+        double[] prefix = new double[s.maxWindow];
+
+        for (int c = 1; c < s.states; c++) {
+            s.decode(c, counts);
+            for (int a = 0; a < k; a++) {
+                if (counts[a] == 0) {
+                    continue;
+                }
+                int j = s.classes[a][counts[a] - 1];
+                int p = c - s.stride[a];
+                int length = s.latest[j] - s.earliest[j] + 1;
+                double[] values = new double[length];
+                boolean feasible = false;
+
+                if (p == 0) {
+                    for (int u = 0; u < length; u++) {
+                        values[u] = cost(s, j, s.earliest[j] + u);
+                    }
+                    feasible = true;
+                } else {
+                    Arrays.fill(values, Double.POSITIVE_INFINITY);
+                    for (int b = 0; b < k; b++) {
+                        int previousCount = b == a ? counts[b] - 1 : counts[b];
+                        double[] before = previousCount > 0 ? table[p * k + b] : null;
+                        if (before == null) {
+                            continue;
+                        }
+                        int i = s.classes[b][previousCount - 1];
+                        prefix[0] = before[0];
+                        for (int u = 1; u < before.length; u++) {
+                            prefix[u] = Math.min(prefix[u - 1], before[u]);
+                        }
+                        // Landing at t needs the previous one at or before t - s_ba
+                        for (int u = 0; u < length; u++) {
+                            int latestBefore = s.earliest[j] + u - s.separation[b][a] - s.earliest[i];
+                            if (latestBefore < 0) {
+                                continue;
+                            }
+                            double value = prefix[Math.min(latestBefore, before.length - 1)];
+                            if (value != Double.POSITIVE_INFINITY) {
+                                values[u] = Math.min(values[u], value + cost(s, j, s.earliest[j] + u));
+                                feasible = true;
+                            }
+                        }
+                    }
+                }
+                if (feasible) {
+                    table[c * k + a] = values;
+                }
+            }
+        }
+
+        // Best last class and time
+        int c = s.states - 1;
+        int last = -1;
+        int lastU = -1;
+        double best = Double.POSITIVE_INFINITY;
+        for (int a = 0; a < k; a++) {
+            double[] values = table[c * k + a];
+            for (int u = 0; values != null && u < values.length; u++) {
+                if (values[u] < best) {
+                    best = values[u];
+                    last = a;
+                    lastU = u;
+                }
+            }
+        }
+        if (last < 0) {
+            return null;
+        }
+
+        int[] times = new int[s.n];
+        while (true) {
+            s.decode(c, counts);
+            int j = s.classes[last][counts[last] - 1];
+            int t = s.earliest[j] + lastU;
+            times[j] = t;
+            int p = c - s.stride[last];
+            if (p == 0) {
+                return times;
+            }
+            double remaining = table[c * k + last][lastU] - cost(s, j, t);
+            counts[last]--;
+            int previous = -1;
+            int previousU = -1;
+            for (int b = 0; b < k && previous < 0; b++) {
+                double[] before = counts[b] > 0 ? table[p * k + b] : null;
+                if (before == null) {
+                    continue;
+                }
+                int i = s.classes[b][counts[b] - 1];
+                int latestBefore = Math.min(t - s.separation[b][last] - s.earliest[i], before.length - 1);
+                for (int u = 0; u <= latestBefore; u++) {
+                    if (Math.abs(before[u] - remaining) <= EPSILON * Math.max(1, Math.abs(remaining))) {
+                        previous = b;
+                        previousU = u;
+                        break;
+                    }
+                }
+            }
+            c = p;
+            last = previous;
+            lastU = previousU;
+        }
+    }
+
+    private static double cost(Structure s, int j, int t) {
+        return ObjectiveType.delayCost(t, s.target[j], s.earlyPenalty[j], s.latePenalty[j]);
+    }
+
+    @Override
+    public String getName() {
+        return "Class Dynamic Programming: " + objectiveType.getLabel();
+    }
+
+    /**
+     * Returns the solver used when the instance has no suitable class
+     * structure.
+     */
+    public ALPSolver getFallback() {
+        return fallback;
+    }
+
+    public void setFallback(ALPSolver fallback) {
+        this.fallback = fallback;
+    }
+
+    /**
+     * Returns null if the class dynamic programming applies to the instance
+     * for this objective, or the reason why it does not.
+     */
+    public String checkApplicable(ALPInstance instance) {
+        return new Structure(instance).reason;
+    }
+
+    /**
+     * Class structure of an instance, or the reason it cannot be used.
+     */
+    private final class Structure {
+        final int n;
+        int[][] classes;    // aircraft of each class, in dominance order
+        int[][] separation; // separation between classes
+        int[] stride;
+        int states;
+        int maxWindow;
+        final int[] earliest;
+        final int[] target;
+        final int[] latest;
+        final double[] earlyPenalty;
+        final double[] latePenalty;
+        String reason;
+
+        Structure(ALPInstance instance) {
+            n = instance.getNumAircraft();
+            earliest = new int[n];
+            target = new int[n];
+            latest = new int[n];
+            earlyPenalty = new double[n];
+            latePenalty = new double[n];
+            for (int i = 0; i < n; i++) {
+                AircraftData a = instance.getAircraft().get(i);
+                earliest[i] = a.getEarliestLandingTime();
+                target[i] = a.getTargetLandingTime();
+                latest[i] = a.getLatestLandingTime();
+                earlyPenalty[i] = a.getEarlyPenalty();
+                latePenalty[i] = a.getLatePenalty();
+                maxWindow = Math.max(maxWindow, latest[i] - earliest[i] + 1);
+            }
+            reason = analyse(instance);
+        }
+
+        private String analyse(ALPInstance instance) {
+            if (instance.getNumRunways() != 1) {
+                return instance.getNumRunways() + " runways";
+            }
+            if (objectiveType == ObjectiveType.TOTAL_LATENESS) {
+                return "Problem 3";
+            }
+            if (!TimingEngine.satisfiesTriangleInequality(instance.getSeparationTimes())) {
+                return "no triangle inequality";
+            }
+
+            // Group aircraft into classes
+            DominanceAnalysis dominance = new DominanceAnalysis(instance);
+            List<List<Integer>> groups = new ArrayList<>();
+            boolean[] assigned = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                if (assigned[i]) {
+                    continue;
+                }
+                List<Integer> group = new ArrayList<>();
+                for (int j = i; j < n; j++) {
+                    if (!assigned[j] && (j == i || dominance.isSameClass(i, j))) {
+                        assigned[j] = true;
+                        group.add(j);
+                    }
+                }
+                groups.add(group);
+                if (groups.size() > MAX_CLASSES) {
+                    return "more than " + MAX_CLASSES + " separation classes";
+                }
+            }
+
+            int k = groups.size();
+            classes = new int[k][];
+            separation = new int[k][k];
+            stride = new int[k];
+            long stateCount = 1;
+            for (int a = 0; a < k; a++) {
+                List<Integer> group = groups.get(a);
+                group.sort(Comparator.comparingInt((Integer i) -> earliest[i]).thenComparingInt(i -> target[i])
+                        .thenComparingInt(i -> latest[i]).thenComparingInt(i -> i));
+                for (int p = 0; p < group.size(); p++) {
+                    for (int q = p + 1; q < group.size(); q++) {
+                        if (!dominance.isSameClass(group.get(p), group.get(q))) {
+                            return "separation classes are not consistent";
+                        }
+                    }
+                    if (p > 0 && !ordered(dominance, group.get(p - 1), group.get(p))) {
+                        return "aircraft of a class are not ordered by dominance";
+                    }
+                }
+                classes[a] = group.stream().mapToInt(Integer::intValue).toArray();
+                stride[a] = (int) stateCount;
+                stateCount *= group.size() + 1;
+                if (stateCount > MAX_STATES) {
+                    return "more than " + MAX_STATES + " states";
+                }
+            }
+            states = (int) stateCount;
+            for (int a = 0; a < k; a++) {
+                for (int b = 0; b < k; b++) {
+                    int i = classes[a][0];
+                    int j = a == b ? (classes[b].length > 1 ? classes[b][1] : -1) : classes[b][0];
+                    separation[a][b] = j < 0 ? 0 : instance.getSeparationTime(i, j);
+                }
+            }
+
+            if (objectiveType == ObjectiveType.WEIGHTED_DELAY) {
+                // Every state with q aircraft of class a ending with a stores the window of the q-th one
+                long cells = 0;
+                for (int a = 0; a < k; a++) {
+                    long perCount = states / (classes[a].length + 1);
+                    for (int j : classes[a]) {
+                        cells += perCount * (latest[j] - earliest[j] + 1);
+                    }
+                }
+                if (cells > MAX_CELLS) {
+                    return "more than " + MAX_CELLS + " table cells";
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns true if some optimal sequence lands i before j.
+         */
+        private boolean ordered(DominanceAnalysis dominance, int i, int j) {
+            if (objectiveType == ObjectiveType.MAKESPAN) {
+                // Nested windows suffice, the targets do not matter
+                return earliest[i] <= earliest[j] && latest[i] <= latest[j];
+            }
+            return dominance.dominates(i, j, objectiveType);
+        }
+
+        /**
+         * Decodes a state index into the number of aircraft landed per class.
+         */
+        void decode(int state, int[] counts) {
+            for (int a = 0; a < classes.length; a++) {
+                counts[a] = state / stride[a] % (classes[a].length + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,706 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+import ilog.concert.IloColumn;
+import ilog.concert.IloException;
+import ilog.concert.IloLinearNumExpr;
+import ilog.concert.IloNumVar;
+import ilog.concert.IloObjective;
+import ilog.concert.IloRange;
+import ilog.cplex.IloCplex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Column generation over per-runway landing sequences, for Problems 1 and 3
+ * (objectives summed over the runways).
+ *
+ * The master is a set partitioning model: a column is a landing sequence
+ * for one runway, costing the optimal timing of the sequence by the
+ * {@link TimingEngine}; every aircraft is covered by exactly one column and
+ * every runway used by at most one. Its LP relaxation, solved by CPLEX on a
+ * restricted set of columns, is far stronger than the big-M relaxation of
+ * {@link ALPModel}, as the sequencing is inside the columns.
+ *
+ * New columns come from the duals of the restricted master: for each runway
+ * in parallel, a labelling algorithm builds sequences in landing order,
+ * each label holding its last aircraft, its last landing time, the aircraft
+ * visited and the reduced cost so far. Labels with the same last aircraft
+ * are compared and dominated ones dropped. Aircraft whose dual cannot pay
+ * their least cost alone are never added. For Problem 3 every aircraft
+ * lands as early as possible, and under the triangle inequality the labels
+ * time their sequence exactly, so the pricing is exact unless too many
+ * labels are kept for one last aircraft. For Problem 1 labels land each
+ * aircraft at its target time or as soon as possible after it, an upper
+ * estimate of the optimal timing, and the pricing is a heuristic.
+ *
+ * When no column prices out with exact pricing, the LP value is a lower
+ * bound. Otherwise the solver reports the Lagrangian bound of the aircraft
+ * duals: their sum plus, for every runway, the least reduced cost of a
+ * sequence without the runway dual when negative, taken from the labels
+ * when the pricing is exact and from a relaxed pricing otherwise (each
+ * aircraft at its least cost, no sequencing).
+ * The schedule comes from the master solved as a MIP over all generated
+ * columns.
+ *
+ * Columns are kept in a {@link ColumnPool} independent of the objective, so
+ * that a pool filled for one problem can seed the solver of the other.
+ */
+public class ColumnGenerationSolver implements ALPSolver {
+
+    // Default wall-clock budget
+    private static final double DEFAULT_TIME_LIMIT_SECONDS = 60;
+
+    // Columns added per runway and pricing round
+    private static final int DEFAULT_COLUMNS_PER_RUNWAY = 10;
+
+    // Labels kept per last aircraft before the pricing becomes a heuristic
+    private static final int LABELS_PER_AIRCRAFT = 200;
+
+    // Labels expanded between two deadline checks of the pricing
+    private static final int DEADLINE_CHECK_INTERVAL = 1024;
+
+    // Cost of leaving an aircraft uncovered in the restricted master
+    private static final double ARTIFICIAL_COST = 1e7;
+
+    private static final double EPSILON = 1e-6;
+
+    private final ObjectiveType objectiveType;
+    private double timeLimit = DEFAULT_TIME_LIMIT_SECONDS;
+    private int columnsPerRunway = DEFAULT_COLUMNS_PER_RUNWAY;
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private ColumnPool columnPool = new ColumnPool();
+
+    /**
+     * @param objectiveType WEIGHTED_DELAY or TOTAL_LATENESS; the makespan is
+     *                      not a sum over the runways
+     */
+    public ColumnGenerationSolver(ObjectiveType objectiveType) {
+        if (objectiveType == ObjectiveType.MAKESPAN) {
+            throw new IllegalArgumentException("Column generation needs an objective summed over the runways");
+        }
+        this.objectiveType = objectiveType;
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        long startTime = System.currentTimeMillis();
+        long deadline = startTime + (long) (timeLimit * 1000);
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+        SeparationAnalysis separations = new SeparationAnalysis(instance);
+        TimingEngine engine = new TimingEngine(instance, objectiveType, separations);
+
+        // Initial columns: the runways of the greedy and beam search schedules
+        addSchedule(GreedyHeuristic.construct(instance, objectiveType), m);
+        try {
+            addSchedule(new BeamSearchSolver(objectiveType).solve(instance), m);
+        } catch (RuntimeException e) {
+            System.out.println("Beam search found no initial schedule");
+        }
+
+        System.out.println("Starting column generation for " + objectiveType.getLabel() + " with "
+                + columnPool.size() + " pooled columns...");
+
+        List<int[]> sequences = new ArrayList<>();
+        List<Integer> runways = new ArrayList<>();
+        List<Double> costs = new ArrayList<>();
+        int[] times = new int[n];
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(workers, m)));
+        IloCplex master = null;
+        double lpValue = Double.NaN;
+        double lowerBound = 0;
+        boolean converged = false;
+        int rounds = 0;
+        try {
+            master = new IloCplex();
+            master.setOut(null);
+            IloObjective objective = master.addMinimize();
+            IloRange[] partition = new IloRange[n];
+            for (int i = 0; i < n; i++) {
+                partition[i] = master.addRange(1, 1);
+                master.numVar(master.column(objective, ARTIFICIAL_COST).and(master.column(partition[i], 1)), 0,
+                        Double.MAX_VALUE);
+            }
+            IloRange[] convexity = new IloRange[m];
+            for (int r = 0; r < m; r++) {
+                convexity[r] = master.addRange(-Double.MAX_VALUE, 1);
+            }
+
+            // Pooled columns feasible for this instance and objective
+            for (int c = 0; c < columnPool.size(); c++) {
+                int[] sequence = columnPool.getSequence(c);
+                int r = columnPool.getRunway(c);
+                if (r < m && fits(sequence, n)) {
+                    double cost = engine.timeRunway(sequence, sequence.length, r, times);
+                    if (cost < Double.POSITIVE_INFINITY) {
+                        addColumn(master, objective, partition, convexity, sequence, r, cost);
+                        sequences.add(sequence);
+                        runways.add(r);
+                        costs.add(cost);
+                    }
+                }
+            }
+
+            Pricer pricer = new Pricer(instance, objectiveType, separations);
+            TimingEngine[] engines = new TimingEngine[m];
+            for (int r = 0; r < m; r++) {
+                engines[r] = new TimingEngine(instance, objectiveType, separations);
+            }
+            while (System.currentTimeMillis() < deadline) {
+                rounds++;
+                master.setParam(IloCplex.Param.TimeLimit,
+                        Math.max(1, (deadline - System.currentTimeMillis()) / 1000.0));
+                if (!master.solve()) {
+                    throw new RuntimeException("Column generation master LP not solved: " + master.getStatus());
+                }
+                lpValue = master.getObjValue();
+                double[] duals = master.getDuals(partition);
+                double[] runwayDuals = master.getDuals(convexity);
+
+                // Price every runway in parallel, one timing engine per runway
+                List<Future<Pricing>> futures = new ArrayList<>();
+                for (int r = 0; r < m; r++) {
+                    int runway = r;
+                    futures.add(executor.submit(() -> pricer.price(runway, duals, runwayDuals[runway],
+                            columnsPerRunway, engines[runway], deadline)));
+                }
+                int added = 0;
+                boolean exact = true;
+                double bound = 0;
+                for (double dual : duals) {
+                    bound += dual;
+                }
+                for (int r = 0; r < m; r++) {
+                    Pricing pricing = futures.get(r).get();
+                    exact &= pricing.exact;
+                    bound += Math.min(0, pricing.exact ? pricing.leastReducedCost : pricing.relaxedReducedCost);
+                    for (int k = 0; k < pricing.sequences.size(); k++) {
+                        int[] sequence = pricing.sequences.get(k);
+                        if (columnPool.add(sequence, r)) {
+                            addColumn(master, objective, partition, convexity, sequence, r, pricing.costs.get(k));
+                            sequences.add(sequence);
+                            runways.add(r);
+                            costs.add(pricing.costs.get(k));
+                            added++;
+                        }
+                    }
+                }
+                lowerBound = Math.max(lowerBound, bound);
+                System.out.println("Column generation round " + rounds + ": LP " + lpValue + ", bound " + lowerBound
+                        + ", " + added + " new columns" + (exact ? "" : " (heuristic pricing)"));
+                if (added == 0) {
+                    converged = exact;
+                    if (exact) {
+                        lowerBound = Math.max(lowerBound, lpValue);
+                    }
+                    break;
+                }
+            }
+        } catch (IloException e) {
+            System.err.println("❌ CPLEX Error: " + e.getMessage());
+            throw new RuntimeException("CPLEX error: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Column generation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Pricing failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+            if (master != null) {
+                master.end();
+            }
+        }
+
+        // Integer master over the generated columns
+        int[] chosen = solveInteger(n, m, sequences, runways, costs, deadline);
+        int[] landingTimes = new int[n];
+        int[] runwayAssignments = new int[n];
+        for (int k : chosen) {
+            int[] sequence = sequences.get(k);
+            engine.timeRunway(sequence, sequence.length, runways.get(k), landingTimes);
+            for (int i : sequence) {
+                runwayAssignments[i] = runways.get(k);
+            }
+        }
+
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        double objectiveValue = objectiveType.evaluate(instance, landingTimes, runwayAssignments);
+        if (integral(instance)) {
+            lowerBound = Math.ceil(lowerBound - EPSILON);
+        }
+        lowerBound = Math.max(0, lowerBound);
+        System.out.println("Column generation finished in " + solveTime + " seconds: " + rounds + " rounds, "
+                + sequences.size() + " columns, LP " + lpValue + (converged ? " (optimal)" : "") + ", objective "
+                + objectiveValue + ", lower bound " + lowerBound);
+
+        if (ScheduleValidator.validate(instance, landingTimes, runwayAssignments)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Column generation schedule validation failed");
+        }
+        ALPSolution solution = new ALPSolution(instance, landingTimes, runwayAssignments, objectiveValue, solveTime,
+                objectiveType.getLabel());
+        solution.setRootBound(converged ? lpValue : Double.NaN);
+        solution.setLowerBound(lowerBound);
+        solution.setMipGap(objectiveValue > EPSILON ? (objectiveValue - lowerBound) / objectiveValue : 0);
+        return solution;
+    }
+
+    /**
+     * Solves the set partitioning model over the given columns with binary
+     * variables. Returns the indices of the chosen columns.
+     */
+    private int[] solveInteger(int n, int m, List<int[]> sequences, List<Integer> runways, List<Double> costs,
+            long deadline) {
+        IloCplex cplex = null;
+        try {
+            cplex = new IloCplex();
+            cplex.setParam(IloCplex.Param.MIP.Display, 0);
+            cplex.setParam(IloCplex.Param.TimeLimit,
+                    Math.max(1, (deadline - System.currentTimeMillis()) / 1000.0));
+            int count = sequences.size();
+            IloNumVar[] x = cplex.boolVarArray(count);
+            IloLinearNumExpr[] cover = new IloLinearNumExpr[n];
+            IloLinearNumExpr[] use = new IloLinearNumExpr[m];
+            for (int i = 0; i < n; i++) {
+                cover[i] = cplex.linearNumExpr();
+            }
+            for (int r = 0; r < m; r++) {
+                use[r] = cplex.linearNumExpr();
+            }
+            IloLinearNumExpr objective = cplex.linearNumExpr();
+            for (int k = 0; k < count; k++) {
+                for (int i : sequences.get(k)) {
+                    cover[i].addTerm(1, x[k]);
+                }
+                use[runways.get(k)].addTerm(1, x[k]);
+                objective.addTerm(costs.get(k), x[k]);
+            }
+            for (int i = 0; i < n; i++) {
+                cplex.addEq(cover[i], 1);
+            }
+            for (int r = 0; r < m; r++) {
+                cplex.addLe(use[r], 1);
+            }
+            cplex.addMinimize(objective);
+
+            if (!cplex.solve()) {
+                throw new RuntimeException("No combination of the generated columns covers every aircraft");
+            }
+            List<Integer> chosen = new ArrayList<>();
+            double[] values = cplex.getValues(x);
+            for (int k = 0; k < count; k++) {
+                if (values[k] > 0.5) {
+                    chosen.add(k);
+                }
+            }
+            return chosen.stream().mapToInt(Integer::intValue).toArray();
+        } catch (IloException e) {
+            System.err.println("❌ CPLEX Error: " + e.getMessage());
+            throw new RuntimeException("CPLEX error: " + e.getMessage(), e);
+        } finally {
+            if (cplex != null) {
+                cplex.end();
+            }
+        }
+    }
+
+    private static void addColumn(IloCplex master, IloObjective objective, IloRange[] partition,
+            IloRange[] convexity, int[] sequence, int runway, double cost) throws IloException {
+        IloColumn column = master.column(objective, cost).and(master.column(convexity[runway], 1));
+        for (int i : sequence) {
+            column = column.and(master.column(partition[i], 1));
+        }
+        master.numVar(column, 0, Double.MAX_VALUE);
+    }
+
+    /**
+     * Adds the non-empty runway sequences of a schedule to the pool.
+     */
+    private void addSchedule(ALPSolution schedule, int m) {
+        if (schedule == null) {
+            return;
+        }
+        int[] times = schedule.getLandingTimes();
+        for (int r = 0; r < m; r++) {
+            List<Integer> onRunway = new ArrayList<>();
+            for (int i = 0; i < times.length; i++) {
+                if (schedule.getRunwayAssignment(i) == r) {
+                    onRunway.add(i);
+                }
+            }
+            onRunway.sort(Comparator.comparingInt((Integer i) -> times[i]).thenComparingInt(i -> i));
+            if (!onRunway.isEmpty()) {
+                columnPool.add(onRunway.stream().mapToInt(Integer::intValue).toArray(), r);
+            }
+        }
+    }
+
+    private static boolean fits(int[] sequence, int n) {
+        for (int i : sequence) {
+            if (i >= n) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the objective of any schedule is an integer.
+     */
+    private boolean integral(ALPInstance instance) {
+        if (objectiveType != ObjectiveType.WEIGHTED_DELAY) {
+            return true;
+        }
+        for (AircraftData a : instance.getAircraft()) {
+            if (a.getEarlyPenalty() != Math.rint(a.getEarlyPenalty())
+                    || a.getLatePenalty() != Math.rint(a.getLatePenalty())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "Column Generation: " + objectiveType.getLabel();
+    }
+
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    public void setTimeLimit(double timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    public int getColumnsPerRunway() {
+        return columnsPerRunway;
+    }
+
+    public void setColumnsPerRunway(int columnsPerRunway) {
+        this.columnsPerRunway = columnsPerRunway;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    /**
+     * Returns the pool of columns generated so far, to seed a solver of the
+     * other objective on the same instance.
+     */
+    public ColumnPool getColumnPool() {
+        return columnPool;
+    }
+
+    public void setColumnPool(ColumnPool columnPool) {
+        this.columnPool = columnPool;
+    }
+
+    /**
+     * Runway landing sequences, without costs, so that they can be priced
+     * for any objective.
+     */
+    public static final class ColumnPool {
+        private final List<int[]> sequences = new ArrayList<>();
+        private final List<Integer> runways = new ArrayList<>();
+        private final Set<String> keys = new HashSet<>();
+
+        /**
+         * Adds a sequence for a runway. Returns false if it is already
+         * pooled.
+         */
+        public synchronized boolean add(int[] sequence, int runway) {
+            if (!keys.add(runway + ":" + Arrays.toString(sequence))) {
+                return false;
+            }
+            sequences.add(sequence.clone());
+            runways.add(runway);
+            return true;
+        }
+
+        public synchronized int size() {
+            return sequences.size();
+        }
+
+        public synchronized int[] getSequence(int column) {
+            return sequences.get(column);
+        }
+
+        public synchronized int getRunway(int column) {
+            return runways.get(column);
+        }
+    }
+
+    /**
+     * Columns of negative reduced cost found for one runway.
+     */
+    static final class Pricing {
+        final List<int[]> sequences = new ArrayList<>();
+        final List<Double> costs = new ArrayList<>();
+        boolean exact;
+        double leastReducedCost;   // least label reduced cost, without the runway dual
+        double relaxedReducedCost; // lower bound on the least reduced cost, without the runway dual
+    }
+
+    /**
+     * Labelling algorithm for the columns of one runway. Shared by the
+     * pricing threads: all per-call state is local.
+     */
+    static final class Pricer {
+        private final ObjectiveType type;
+        private final int n;
+        private final int words;
+        private final int[] earliest;
+        private final int[] target;
+        private final int[] latest;
+        private final double[] earlyPenalty;
+        private final double[] latePenalty;
+        private final int[][] transfer;
+        private final int[][] separation;
+        private final boolean triangle;
+
+        Pricer(ALPInstance instance, ObjectiveType type, SeparationAnalysis separations) {
+            this.type = type;
+            n = instance.getNumAircraft();
+            words = (n + 63) / 64;
+            earliest = new int[n];
+            target = new int[n];
+            latest = new int[n];
+            earlyPenalty = new double[n];
+            latePenalty = new double[n];
+            transfer = new int[n][];
+            for (int i = 0; i < n; i++) {
+                AircraftData a = instance.getAircraft().get(i);
+                earliest[i] = a.getEarliestLandingTime();
+                target[i] = a.getTargetLandingTime();
+                latest[i] = a.getLatestLandingTime();
+                earlyPenalty[i] = a.getEarlyPenalty();
+                latePenalty[i] = a.getLatePenalty();
+                transfer[i] = a.getRunwayTransferTimes();
+            }
+            separation = instance.getSeparationTimes();
+            triangle = separations.isTriangle();
+        }
+
+        /**
+         * A partial sequence ending with aircraft last at the given time.
+         */
+        private final class Label {
+            final int last;
+            final int time;
+            final double reduced; // cost minus duals of the visited aircraft
+            final long[] visited;
+            final Label parent;
+            final int length;
+            boolean dominated;
+
+            Label(int last, int time, double reduced, Label parent) {
+                this.last = last;
+                this.time = time;
+                this.reduced = reduced;
+                this.parent = parent;
+                visited = parent == null ? new long[words] : parent.visited.clone();
+                visited[last >>> 6] |= 1L << last;
+                length = parent == null ? 1 : parent.length + 1;
+            }
+
+            boolean contains(int i) {
+                return (visited[i >>> 6] & 1L << i) != 0;
+            }
+
+            /**
+             * Returns true if this label is at least as good as the other:
+             * no later, no more expensive, and with a subset of its aircraft.
+             */
+            boolean dominates(Label other) {
+                if (time > other.time || reduced > other.reduced + EPSILON) {
+                    return false;
+                }
+                for (int w = 0; w < words; w++) {
+                    if ((visited[w] & ~other.visited[w]) != 0) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            int[] sequence() {
+                int[] sequence = new int[length];
+                Label label = this;
+                for (int p = length - 1; p >= 0; p--) {
+                    sequence[p] = label.last;
+                    label = label.parent;
+                }
+                return sequence;
+            }
+        }
+
+        /**
+         * Landing time of aircraft j in a label, or -1 if it misses its
+         * window: as early as possible, not before the target for Problem 1.
+         */
+        private int landingTime(int j, int ready) {
+            int t = Math.max(earliest[j], ready);
+            if (type == ObjectiveType.WEIGHTED_DELAY) {
+                t = Math.max(t, Math.min(target[j], latest[j]));
+            }
+            return t <= latest[j] ? t : -1;
+        }
+
+        private double cost(int j, int t, int r) {
+            if (type == ObjectiveType.WEIGHTED_DELAY) {
+                return ObjectiveType.delayCost(t, target[j], earlyPenalty[j], latePenalty[j]);
+            }
+            return ObjectiveType.latenessCost(t, transfer[j][r], target[j]);
+        }
+
+        /**
+         * Least cost of aircraft j alone on runway r.
+         */
+        private double leastCost(int j, int r) {
+            return type == ObjectiveType.WEIGHTED_DELAY ? 0 : cost(j, earliest[j], r);
+        }
+
+        /**
+         * Prices runway r with the given engine, used by this call only.
+         * Stops at the deadline with the labels found so far, leaving the
+         * pricing inexact.
+         */
+        Pricing price(int r, double[] duals, double runwayDual, int maxColumns, TimingEngine engine,
+                long deadline) {
+            Pricing result = new Pricing();
+            result.exact = triangle && type == ObjectiveType.TOTAL_LATENESS;
+            result.relaxedReducedCost = 0;
+
+            // Aircraft whose dual can pay for their landing
+            List<Integer> eligible = new ArrayList<>();
+            for (int j = 0; j < n; j++) {
+                double gain = duals[j] - leastCost(j, r);
+                if (gain > EPSILON) {
+                    eligible.add(j);
+                    result.relaxedReducedCost -= gain;
+                }
+            }
+
+            List<List<Label>> buckets = new ArrayList<>();
+            for (int j = 0; j < n; j++) {
+                buckets.add(new ArrayList<>());
+            }
+            PriorityQueue<Label> queue = new PriorityQueue<>(Comparator.comparingInt((Label l) -> l.time)
+                    .thenComparingDouble(l -> l.reduced));
+            for (int j : eligible) {
+                int t = landingTime(j, 0);
+                if (t >= 0) {
+                    offer(new Label(j, t, cost(j, t, r) - duals[j], null), buckets, queue, result);
+                }
+            }
+
+            // Best complete labels by reduced cost
+            PriorityQueue<Label> best = new PriorityQueue<>(Comparator.comparingDouble((Label l) -> -l.reduced));
+            result.leastReducedCost = 0;
+            int polled = 0;
+            while (!queue.isEmpty()) {
+                if (++polled % DEADLINE_CHECK_INTERVAL == 0 && System.currentTimeMillis() > deadline) {
+                    result.exact = false;
+                    break;
+                }
+                Label label = queue.poll();
+                if (label.dominated) {
+                    continue;
+                }
+                result.leastReducedCost = Math.min(result.leastReducedCost, label.reduced);
+                if (label.reduced - runwayDual < -EPSILON) {
+                    best.add(label);
+                    if (best.size() > 4 * maxColumns) {
+                        best.poll();
+                    }
+                }
+                for (int j : eligible) {
+                    if (label.contains(j)) {
+                        continue;
+                    }
+                    int t = landingTime(j, label.time + separation[label.last][j]);
+                    if (t >= 0) {
+                        offer(new Label(j, t, label.reduced + cost(j, t, r) - duals[j], label), buckets, queue,
+                                result);
+                    }
+                }
+            }
+
+            // Exact timing of the best labels (never worse than the label timing)
+            List<Label> candidates = new ArrayList<>(best);
+            candidates.sort(Comparator.comparingDouble((Label l) -> l.reduced));
+            int[] times = new int[n];
+            for (Label label : candidates) {
+                if (result.sequences.size() >= maxColumns) {
+                    break;
+                }
+                int[] sequence = label.sequence();
+                double cost = engine.timeRunway(sequence, sequence.length, r, times);
+                double reduced = cost - runwayDual;
+                for (int i : sequence) {
+                    reduced -= duals[i];
+                }
+                if (cost < Double.POSITIVE_INFINITY && reduced < -EPSILON) {
+                    result.sequences.add(sequence);
+                    result.costs.add(cost);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Adds a label unless dominated, removing the labels it dominates.
+         * Over-full buckets drop their worst label and make the pricing a
+         * heuristic.
+         */
+        private void offer(Label label, List<List<Label>> buckets, PriorityQueue<Label> queue, Pricing result) {
+            List<Label> bucket = buckets.get(label.last);
+            for (Label other : bucket) {
+                if (other.dominates(label)) {
+                    return;
+                }
+            }
+            bucket.removeIf(other -> {
+                if (label.dominates(other)) {
+                    other.dominated = true;
+                    return true;
+                }
+                return false;
+            });
+            bucket.add(label);
+            queue.add(label);
+            if (bucket.size() > LABELS_PER_AIRCRAFT) {
+                Label worst = bucket.get(0);
+                for (Label other : bucket) {
+                    if (other.reduced > worst.reduced) {
+                        worst = other;
+                    }
+                }
+                worst.dominated = true;
+                bucket.remove(worst);
+                result.exact = false;
+            }
+        }
+    }
+}
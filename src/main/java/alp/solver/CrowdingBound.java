@@ -0,0 +1,223 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.AircraftData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Lower bounds from the crowding of aircraft with close times, computed in
+ * plain Java. They complement the {@link LagrangianBound}: once the
+ * separation rows are priced out, nothing keeps aircraft with the same
+ * target from landing together, so that bound is often 0 for Problems 1
+ * and 3.
+ *
+ * All bounds rest on the same observation. Sort the landing times of a set
+ * Q of aircraft: with m runways, among any m + 1 consecutive landings two
+ * share a runway, so C_(k) &gt;= C_(k-m) + s_Q, where s_Q is the smallest
+ * separation between aircraft of Q. The k-th landing is also no earlier
+ * than the k-th smallest earliest landing time. Costs of distinct sets add
+ * up, so the bound of a partition of the aircraft into runs (consecutive
+ * aircraft by target or by earliest time, up to MAX_RUN of them) is the sum
+ * of the bounds of its runs, and the best partition is found by dynamic
+ * programming.
+ *
+ * - Problem 1: with the smallest penalties of the run, every aircraft has
+ *   the same V-shaped cost around its target, so matching sorted times to
+ *   sorted targets is optimal. With u_k = C_(k) - (k / m) s_Q each of the m
+ *   chains k, k + m, ... is an isotonic regression of the shifted targets,
+ *   solved by pooling adjacent violators. Time windows are dropped.
+ * - Problem 2: the last of the earliest sorted times.
+ * - Problem 3: the earliest sorted times matched to the sorted targets
+ *   minus the smallest transfer time of each aircraft.
+ */
+public class CrowdingBound {
+
+    // Longest run of aircraft whose bound is computed
+    private static final int MAX_RUN = 30;
+
+    private final ObjectiveType objectiveType;
+    private final int n;
+    private final int m;
+    private final int[][] separation;
+    private final int[] earliest;
+    private final int[] due;          // target, minus the smallest transfer time for Problem 3
+    private final double[] earlyPenalty;
+    private final double[] latePenalty;
+
+    public CrowdingBound(ALPInstance instance, ObjectiveType objectiveType) {
+        this.objectiveType = objectiveType;
+        n = instance.getNumAircraft();
+        m = instance.getNumRunways();
+        separation = instance.getSeparationTimes();
+        earliest = new int[n];
+        due = new int[n];
+        earlyPenalty = new double[n];
+        latePenalty = new double[n];
+        for (int i = 0; i < n; i++) {
+            AircraftData a = instance.getAircraft().get(i);
+            earliest[i] = a.getEarliestLandingTime();
+            earlyPenalty[i] = a.getEarlyPenalty();
+            latePenalty[i] = a.getLatePenalty();
+            int fastest = 0;
+            if (objectiveType == ObjectiveType.TOTAL_LATENESS) {
+                fastest = Integer.MAX_VALUE;
+                for (int r = 0; r < m; r++) {
+                    fastest = Math.min(fastest, a.getTransferTime(r));
+                }
+            }
+            due[i] = a.getTargetLandingTime() - fastest;
+        }
+    }
+
+    /**
+     * Computes the bound of the best partition into runs, and for Problems 2
+     * and 3 also the bound of the whole set of aircraft.
+     */
+    public double compute() {
+        if (n == 0 || m == 0) {
+            return 0;
+        }
+        int[] order = sortedAircraft(objectiveType == ObjectiveType.WEIGHTED_DELAY ? due : earliest);
+        double[] best = new double[n + 1];
+        for (int b = 1; b <= n; b++) {
+            best[b] = best[b - 1];
+            for (int a = b - 2; a >= Math.max(0, b - MAX_RUN); a--) {
+                double run = runBound(Arrays.copyOfRange(order, a, b));
+                best[b] = objectiveType == ObjectiveType.MAKESPAN ? Math.max(best[b], run)
+                        : Math.max(best[b], best[a] + run);
+            }
+        }
+        double bound = best[n];
+        if (objectiveType != ObjectiveType.WEIGHTED_DELAY && n > MAX_RUN) {
+            bound = Math.max(bound, runBound(order));
+        }
+        return bound;
+    }
+
+    /**
+     * Bound of a set of aircraft on its own.
+     */
+    private double runBound(int[] run) {
+        int gap = Integer.MAX_VALUE;
+        for (int i : run) {
+            for (int j : run) {
+                if (i != j) {
+                    gap = Math.min(gap, separation[i][j]);
+                }
+            }
+        }
+        if (gap == Integer.MAX_VALUE) {
+            gap = 0;
+        }
+
+        if (objectiveType == ObjectiveType.WEIGHTED_DELAY) {
+            return delayBound(run, gap);
+        }
+
+        // Earliest sorted times
+        int[] times = new int[run.length];
+        int[] dues = new int[run.length];
+        for (int k = 0; k < run.length; k++) {
+            times[k] = earliest[run[k]];
+            dues[k] = due[run[k]];
+        }
+        Arrays.sort(times);
+        Arrays.sort(dues);
+        for (int k = m; k < run.length; k++) {
+            times[k] = Math.max(times[k], times[k - m] + gap);
+        }
+        if (objectiveType == ObjectiveType.MAKESPAN) {
+            int last = 0;
+            for (int t : times) {
+                last = Math.max(last, t);
+            }
+            return last;
+        }
+        double lateness = 0;
+        for (int k = 0; k < run.length; k++) {
+            lateness += Math.max(0, times[k] - dues[k]);
+        }
+        return lateness;
+    }
+
+    /**
+     * Weighted delay bound of a run sorted by target: one isotonic regression
+     * per chain of positions k, k + m, ...
+     */
+    private double delayBound(int[] run, int gap) {
+        double early = Double.MAX_VALUE;
+        double late = Double.MAX_VALUE;
+        for (int i : run) {
+            early = Math.min(early, earlyPenalty[i]);
+            late = Math.min(late, latePenalty[i]);
+        }
+        if (early + late <= 0) {
+            return 0;
+        }
+
+        double cost = 0;
+        for (int chain = 0; chain < Math.min(m, run.length); chain++) {
+            int length = (run.length - chain + m - 1) / m;
+            long[] shifted = new long[length];
+            for (int k = 0; k < length; k++) {
+                shifted[k] = due[run[chain + k * m]] - (long) k * gap;
+            }
+            cost += isotonicCost(shifted, early, late);
+        }
+        return cost;
+    }
+
+    /**
+     * Minimum of the sum of late * (u_k - v_k) for u_k above v_k and
+     * early * (v_k - u_k) below, over nondecreasing u, by pooling adjacent
+     * violators. Also used by the {@link BranchAndBoundSolver} for the
+     * crowding of the remaining aircraft.
+     */
+    static double isotonicCost(long[] values, double early, double late) {
+        int length = values.length;
+        int[] blockStart = new int[length];
+        long[] level = new long[length];
+        int blocks = 0;
+        for (int k = 0; k < length; k++) {
+            blockStart[blocks] = k;
+            level[blocks++] = values[k];
+            while (blocks > 1 && level[blocks - 2] > level[blocks - 1]) {
+                blocks--;
+                level[blocks - 1] = quantile(values, blockStart[blocks - 1], k + 1, early, late);
+            }
+        }
+
+        double cost = 0;
+        for (int b = 0; b < blocks; b++) {
+            int end = b + 1 < blocks ? blockStart[b + 1] : length;
+            for (int k = blockStart[b]; k < end; k++) {
+                long d = level[b] - values[k];
+                cost += d > 0 ? late * d : -early * d;
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Minimiser of the cost of a block: its value of rank
+     * ceil(count * early / (early + late)).
+     */
+    private static long quantile(long[] values, int from, int to, double early, double late) {
+        long[] sorted = Arrays.copyOfRange(values, from, to);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(sorted.length * early / (early + late) - 1e-9);
+        return sorted[Math.max(1, Math.min(sorted.length, rank)) - 1];
+    }
+
+    private int[] sortedAircraft(int[] key) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            order.add(i);
+        }
+        order.sort((x, y) -> Integer.compare(key[x], key[y]));
+        return order.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,123 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.AircraftData;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detection of aircraft pairs that can be landed in a fixed order.
+ * 
+ * Two aircraft i and j are interchangeable for separation when s_ik = s_jk
+ * and s_ki = s_kj for every other aircraft k, and s_ij = s_ji. If moreover
+ * E_i <= E_j, T_i <= T_j and L_i <= L_j and the cost of a landing has the
+ * same shape for both, swapping i and j in any schedule where j lands first
+ * keeps it feasible and does not increase the objective. Some optimal
+ * schedule therefore lands i before j, and y_ij can be fixed to 1.
+ * 
+ * Ties on all three times are broken by aircraft index, so the fixed pairs
+ * never form a cycle and can all be applied at once.
+ */
+public class DominanceAnalysis {
+
+    private final ALPInstance instance;
+    private final boolean[][] sameClass;
+
+    /**
+     * Compares the separation rows and columns of all pairs of the instance.
+     */
+    public DominanceAnalysis(ALPInstance instance) {
+        this.instance = instance;
+        int n = instance.getNumAircraft();
+        sameClass = new boolean[n][n];
+
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                boolean same = instance.getSeparationTime(i, j) == instance.getSeparationTime(j, i);
+                for (int k = 0; k < n && same; k++) {
+                    if (k != i && k != j) {
+                        same = instance.getSeparationTime(i, k) == instance.getSeparationTime(j, k)
+                                && instance.getSeparationTime(k, i) == instance.getSeparationTime(k, j);
+                    }
+                }
+                sameClass[i][j] = same;
+                sameClass[j][i] = same;
+            }
+        }
+    }
+
+    /**
+     * Returns true if i and j have identical separation requirements with
+     * respect to every other aircraft and to each other.
+     */
+    public boolean isSameClass(int i, int j) {
+        return sameClass[i][j];
+    }
+
+    /**
+     * Returns true if, for the given objective, some optimal schedule lands i
+     * before j whenever they share a runway.
+     */
+    public boolean dominates(int i, int j, ObjectiveType type) {
+        if (i == j || !sameClass[i][j]) {
+            return false;
+        }
+
+        AircraftData a = instance.getAircraft().get(i);
+        AircraftData b = instance.getAircraft().get(j);
+
+        // Nested windows and targets; identical ones are ordered by index
+        if (a.getEarliestLandingTime() > b.getEarliestLandingTime()
+                || a.getTargetLandingTime() > b.getTargetLandingTime()
+                || a.getLatestLandingTime() > b.getLatestLandingTime()) {
+            return false;
+        }
+        if (a.getEarliestLandingTime() == b.getEarliestLandingTime()
+                && a.getTargetLandingTime() == b.getTargetLandingTime()
+                && a.getLatestLandingTime() == b.getLatestLandingTime() && i > j) {
+            return false;
+        }
+
+        switch (type) {
+            case WEIGHTED_DELAY:
+                // Same earliness and tardiness slopes
+                return a.getEarlyPenalty() == b.getEarlyPenalty() && a.getLatePenalty() == b.getLatePenalty();
+            case MAKESPAN:
+                // The set of landing times is unchanged by the swap
+                return true;
+            case TOTAL_LATENESS:
+                // Same transfer time on every runway, so the swap does not change it
+                return hasConstantTransfer(a, b);
+            default:
+                return false;
+        }
+    }
+
+    private boolean hasConstantTransfer(AircraftData a, AircraftData b) {
+        int transfer = a.getTransferTime(0);
+        for (int r = 0; r < instance.getNumRunways(); r++) {
+            if (a.getTransferTime(r) != transfer || b.getTransferTime(r) != transfer) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns all pairs {i, j} such that i can be fixed before j for the given
+     * objective.
+     */
+    public List<int[]> dominatedPairs(ObjectiveType type) {
+        int n = instance.getNumAircraft();
+        List<int[]> result = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (dominates(i, j, type)) {
+                    result.add(new int[] { i, j });
+                }
+            }
+        }
+        return result;
+    }
+}
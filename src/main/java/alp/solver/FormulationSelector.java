@@ -0,0 +1,241 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.AircraftData;
+
+/**
+ * Chooses the formulation of {@link ALPModel} for an instance and estimates
+ * the size of each formulation before it is built.
+ *
+ * The time-indexed formulation has one binary per aircraft, runway and time
+ * unit of the aircraft's window, and one conflict row per ordered pair,
+ * runway and time unit where the pair could land too close. It needs no
+ * big-M and its relaxation is much stronger, but it grows with the window
+ * widths. It is selected when the windows are narrow compared to the
+ * separation times and its estimated memory fits the budget of
+ * {@link ModelOptions#getMemoryBudgetMB()}; otherwise the big-M
+ * formulation of the options is kept. It is not selected either when the
+ * pair preprocessing leaves the big-M model so small that the time-indexed
+ * one would be orders of magnitude larger (instances whose windows barely
+ * overlap).
+ */
+public class FormulationSelector {
+
+    // Time-indexed is chosen when the mean window spans at most this many mean separations
+    private static final double WINDOW_SEPARATIONS = 8;
+
+    // ... and has at most this many times the nonzeros of the big-M model
+    private static final double MAX_GROWTH = 100;
+
+    // Rough memory cost of the model elements in CPLEX and Concert
+    private static final long BYTES_PER_COLUMN = 200;
+    private static final long BYTES_PER_ROW = 100;
+    private static final long BYTES_PER_NONZERO = 24;
+
+    private final ALPInstance instance;
+    private final PairAnalysis pairs;
+
+    public FormulationSelector(ALPInstance instance) {
+        this(instance, new PairAnalysis(instance));
+    }
+
+    FormulationSelector(ALPInstance instance, PairAnalysis pairs) {
+        this.instance = instance;
+        this.pairs = pairs;
+    }
+
+    /**
+     * Size of a formulation: rows, columns and nonzeros of the core model
+     * (without the objective module), and the memory they take.
+     */
+    public static class Estimate {
+        private final long rows;
+        private final long columns;
+        private final long nonzeros;
+
+        Estimate(long rows, long columns, long nonzeros) {
+            this.rows = rows;
+            this.columns = columns;
+            this.nonzeros = nonzeros;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public long getColumns() {
+            return columns;
+        }
+
+        public long getNonzeros() {
+            return nonzeros;
+        }
+
+        /**
+         * Returns the estimated memory of the model, in megabytes.
+         */
+        public double getMemoryMB() {
+            return (columns * BYTES_PER_COLUMN + rows * BYTES_PER_ROW + nonzeros * BYTES_PER_NONZERO)
+                    / (1024.0 * 1024.0);
+        }
+
+        @Override
+        public String toString() {
+            return rows + " rows, " + columns + " columns, " + nonzeros + " nonzeros, ~"
+                    + String.format("%.1f", getMemoryMB()) + " MB";
+        }
+    }
+
+    /**
+     * Returns the formulation to build for the instance: time-indexed when
+     * the windows are narrow and the model fits the memory budget without
+     * dwarfing the big-M model, the big-M formulation of the options
+     * otherwise.
+     */
+    public ModelOptions.Formulation select(ModelOptions options) {
+        ModelOptions.Formulation bigM = options.getFormulation() == ModelOptions.Formulation.TIME_INDEXED
+                ? ModelOptions.Formulation.RUNWAY_INDEXED
+                : options.getFormulation();
+
+        double width = meanWindowWidth();
+        double separation = meanSeparation();
+        if (width > WINDOW_SEPARATIONS * Math.max(1, separation)) {
+            System.out.println("Formulation selector: mean window " + String.format("%.1f", width)
+                    + " is wide for mean separation " + String.format("%.1f", separation) + ", using " + bigM);
+            return bigM;
+        }
+        Estimate estimate = estimate(ModelOptions.Formulation.TIME_INDEXED);
+        if (estimate.getMemoryMB() > options.getMemoryBudgetMB()) {
+            System.out.println("Formulation selector: time-indexed model needs " + estimate + ", over the budget of "
+                    + options.getMemoryBudgetMB() + " MB, using " + bigM);
+            return bigM;
+        }
+        Estimate bigMEstimate = estimate(bigM);
+        if (estimate.getNonzeros() > MAX_GROWTH * bigMEstimate.getNonzeros()) {
+            System.out.println("Formulation selector: time-indexed model has " + estimate.getNonzeros()
+                    + " nonzeros against " + bigMEstimate.getNonzeros() + " for " + bigM + ", using " + bigM);
+            return bigM;
+        }
+        System.out.println("Formulation selector: mean window " + String.format("%.1f", width)
+                + " for mean separation " + String.format("%.1f", separation) + ", using TIME_INDEXED");
+        return ModelOptions.Formulation.TIME_INDEXED;
+    }
+
+    /**
+     * Counts the rows, columns and nonzeros of the given formulation as
+     * {@link ALPModel} would build it (with tight bounds and without lazy
+     * separation).
+     */
+    public Estimate estimate(ModelOptions.Formulation formulation) {
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+        long rows = n;
+        long columns = n + (long) n * m;
+        long nonzeros = (long) n * m;
+
+        // Incompatible pairs: one row per runway
+        long incompatible = pairs.count(PairAnalysis.PairStatus.INCOMPATIBLE);
+        rows += incompatible * m;
+        nonzeros += 2 * incompatible * m;
+
+        if (formulation == ModelOptions.Formulation.TIME_INDEXED) {
+            for (int i = 0; i < n; i++) {
+                long slots = (long) m * windowWidth(i);
+                columns += slots;
+                // z_ir = Σ_t w_irt and x_i = Σ_rt t*w_irt
+                rows += m + 1;
+                nonzeros += 2 * slots + m + 1;
+            }
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (i != j) {
+                        long[] conflicts = conflictCounts(i, j);
+                        rows += conflicts[0] * m;
+                        nonzeros += conflicts[1] * m;
+                    }
+                }
+            }
+            return new Estimate(rows, columns, nonzeros);
+        }
+
+        long ambiguous = pairs.count(PairAnalysis.PairStatus.AMBIGUOUS);
+        columns += 2 * ambiguous;
+        rows += ambiguous;
+        nonzeros += 2 * ambiguous;
+
+        boolean sameRunway = formulation == ModelOptions.Formulation.SAME_RUNWAY;
+        long separationRows = 0;
+        long separationNonzeros = 0;
+        long linked = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && pairs.needsSeparation(i, j)) {
+                    long terms = 2 + (pairs.isAmbiguous(i, j) ? 1 : 0);
+                    if (sameRunway) {
+                        separationRows++;
+                        separationNonzeros += terms + (m > 1 ? 1 : 0);
+                    } else {
+                        separationRows += m;
+                        separationNonzeros += (terms + 2) * m;
+                    }
+                }
+                if (sameRunway && m > 1 && i < j && (pairs.needsSeparation(i, j) || pairs.needsSeparation(j, i))) {
+                    linked++;
+                }
+            }
+        }
+        columns += linked;
+        rows += separationRows + linked * m;
+        nonzeros += separationNonzeros + 3 * linked * m;
+        return new Estimate(rows, columns, nonzeros);
+    }
+
+    /**
+     * Returns the number of conflict rows of the ordered pair (i, j) on one
+     * runway and their number of nonzeros: for every landing time t of i, j
+     * may not land in [t, t + s_ij - 1].
+     */
+    private long[] conflictCounts(int i, int j) {
+        AircraftData a = instance.getAircraft().get(i);
+        AircraftData b = instance.getAircraft().get(j);
+        int separation = instance.getSeparationTime(i, j);
+        long rows = 0;
+        long nonzeros = 0;
+        for (int t = a.getEarliestLandingTime(); t <= a.getLatestLandingTime(); t++) {
+            int overlap = Math.min(t + separation - 1, b.getLatestLandingTime())
+                    - Math.max(t, b.getEarliestLandingTime()) + 1;
+            if (overlap > 0) {
+                rows++;
+                nonzeros += 1 + overlap;
+            }
+        }
+        return new long[] { rows, nonzeros };
+    }
+
+    private int windowWidth(int i) {
+        AircraftData aircraft = instance.getAircraft().get(i);
+        return aircraft.getLatestLandingTime() - aircraft.getEarliestLandingTime() + 1;
+    }
+
+    private double meanWindowWidth() {
+        int n = instance.getNumAircraft();
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            total += windowWidth(i);
+        }
+        return n > 0 ? total / n : 0;
+    }
+
+    private double meanSeparation() {
+        int n = instance.getNumAircraft();
+        double total = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j) {
+                    total += instance.getSeparationTime(i, j);
+                }
+            }
+        }
+        return n > 1 ? total / ((double) n * (n - 1)) : 0;
+    }
+}
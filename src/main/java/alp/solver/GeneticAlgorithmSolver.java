@@ -0,0 +1,539 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Island-model genetic algorithm, for the three objectives and instances far
+ * too large for the MIP models.
+ *
+ * An individual is a priority permutation of the aircraft plus one runway
+ * gene per aircraft. It is decoded greedily: aircraft are taken in priority
+ * order and land on their runway as early as separation allows (not before
+ * their target time for Problem 1). Landings after the latest time are kept
+ * and penalised, so that infeasible individuals can still be ranked.
+ *
+ * Each island evolves its own population on its own thread, with tournament
+ * selection, order crossover on the permutation, uniform crossover on the
+ * runway genes, local insertion and runway mutations, and elitism. Every few
+ * generations an island sends a copy of its best individual to the next
+ * one, where it replaces the worst.
+ *
+ * Populations are stored as flat int arrays and evaluated generation by
+ * generation into a double array, so no object is allocated per individual
+ * during the search. The best schedule is finally retimed by the
+ * {@link TimingEngine}, which for Problem 1 also lets aircraft land before
+ * their target time.
+ */
+public class GeneticAlgorithmSolver implements ALPSolver {
+
+    // Default wall-clock budget
+    private static final double DEFAULT_TIME_LIMIT_SECONDS = 10;
+
+    // Individuals per island
+    private static final int POPULATION_SIZE = 100;
+
+    // Best individuals copied unchanged into the next generation
+    private static final int ELITE_COUNT = 2;
+
+    // Generations between two migrations
+    private static final int MIGRATION_INTERVAL = 50;
+
+    // Probability of each mutation for a child
+    private static final double SEQUENCE_MUTATION_RATE = 0.5;
+    private static final double RUNWAY_MUTATION_RATE = 0.3;
+
+    // Largest position distance of an insertion mutation
+    private static final int MUTATION_DISTANCE = 5;
+
+    // Cost of one time unit after the latest landing time
+    private static final double INFEASIBILITY_PENALTY = 10000;
+
+    private final ObjectiveType objectiveType;
+    private double timeLimit = DEFAULT_TIME_LIMIT_SECONDS;
+    private int islands = Runtime.getRuntime().availableProcessors();
+    private long seed = 42;
+
+    public GeneticAlgorithmSolver(ObjectiveType objectiveType) {
+        this.objectiveType = objectiveType;
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        long startTime = System.currentTimeMillis();
+        int n = instance.getNumAircraft();
+        SeparationAnalysis separations = new SeparationAnalysis(instance);
+        Decoder decoder = new Decoder(instance, separations);
+
+        // Seed individual: the greedy schedule, or target order round robin
+        int[] basePermutation = new int[n];
+        int[] baseRunways = new int[n];
+        ALPSolution greedy = GreedyHeuristic.construct(instance, objectiveType);
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            order.add(i);
+        }
+        if (greedy != null) {
+            int[] times = greedy.getLandingTimes();
+            order.sort((i, j) -> times[i] != times[j] ? Integer.compare(times[i], times[j]) : Integer.compare(i, j));
+            System.arraycopy(greedy.getRunwayAssignments(), 0, baseRunways, 0, n);
+        } else {
+            List<AircraftData> aircraft = instance.getAircraft();
+            order.sort((i, j) -> Integer.compare(aircraft.get(i).getTargetLandingTime(),
+                    aircraft.get(j).getTargetLandingTime()));
+        }
+        for (int k = 0; k < n; k++) {
+            basePermutation[k] = order.get(k);
+            if (greedy == null) {
+                baseRunways[basePermutation[k]] = k % instance.getNumRunways();
+            }
+        }
+
+        System.out.println("Starting genetic algorithm for " + objectiveType.getLabel() + " (" + islands
+                + " islands of " + POPULATION_SIZE + ", budget " + timeLimit + " s)...");
+        long deadline = startTime + (long) (timeLimit * 1000);
+
+        Island[] population = new Island[islands];
+        for (int k = 0; k < islands; k++) {
+            population[k] = new Island(decoder, basePermutation, baseRunways, new Random(seed + k));
+        }
+        for (int k = 0; k < islands; k++) {
+            population[k].next = population[(k + 1) % islands];
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(islands);
+        long generations = 0;
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (Island island : population) {
+                futures.add(executor.submit(() -> island.evolve(deadline)));
+            }
+            for (Future<Long> future : futures) {
+                generations += future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Genetic algorithm island failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Best individual over all islands
+        Island bestIsland = population[0];
+        for (Island island : population) {
+            if (island.bestFitness() < bestIsland.bestFitness()) {
+                bestIsland = island;
+            }
+        }
+        int[] landingTimes = new int[n];
+        int[] runwayAssignments = new int[n];
+        bestIsland.decodeBest(landingTimes, runwayAssignments);
+        if (!decoder.isFeasible(landingTimes)) {
+            throw new RuntimeException("Genetic algorithm found no schedule within the time windows");
+        }
+
+        // Retimes the runway sequences of the best individual, keeping the
+        // decoded times if the engine does not improve them
+        RunwaySequences retimed = new RunwaySequences(instance, objectiveType, separations);
+        retimed.load(landingTimes, runwayAssignments);
+        if (retimed.objective() < objectiveType.evaluate(instance, landingTimes, runwayAssignments)) {
+            retimed.copyTo(landingTimes, runwayAssignments);
+        }
+
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        double objectiveValue = objectiveType.evaluate(instance, landingTimes, runwayAssignments);
+        System.out.println("Genetic algorithm finished in " + solveTime + " seconds: " + generations
+                + " generations, objective " + objectiveValue);
+
+        if (ScheduleValidator.validate(instance, landingTimes, runwayAssignments)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Genetic algorithm schedule validation failed");
+        }
+        return new ALPSolution(instance, landingTimes, runwayAssignments, objectiveValue, solveTime,
+                objectiveType.getLabel());
+    }
+
+    @Override
+    public String getName() {
+        return "Genetic Algorithm: " + objectiveType.getLabel();
+    }
+
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    public void setTimeLimit(double timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    public int getIslands() {
+        return islands;
+    }
+
+    public void setIslands(int islands) {
+        this.islands = islands;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Instance data as primitive arrays and the greedy decoding. Shared
+     * read-only by the islands; the scratch arrays are passed in.
+     */
+    private final class Decoder {
+        final int n;
+        final int m;
+        final int[] earliest;
+        final int[] target;
+        final int[] latest;
+        final double[] earlyPenalty;
+        final double[] latePenalty;
+        final int[][] transfer;
+        final int[][] separation;
+        final int lookback;
+
+        Decoder(ALPInstance instance, SeparationAnalysis separations) {
+            n = instance.getNumAircraft();
+            m = instance.getNumRunways();
+            earliest = new int[n];
+            target = new int[n];
+            latest = new int[n];
+            earlyPenalty = new double[n];
+            latePenalty = new double[n];
+            transfer = new int[n][];
+            for (int i = 0; i < n; i++) {
+                AircraftData a = instance.getAircraft().get(i);
+                earliest[i] = a.getEarliestLandingTime();
+                target[i] = a.getTargetLandingTime();
+                latest[i] = a.getLatestLandingTime();
+                earlyPenalty[i] = a.getEarlyPenalty();
+                latePenalty[i] = a.getLatePenalty();
+                transfer[i] = a.getRunwayTransferTimes();
+            }
+            separation = instance.getSeparationTimes();
+            lookback = separations.getLookback();
+        }
+
+        /**
+         * Decodes individual k of a population and returns its fitness.
+         *
+         * @param permutations Flat priority permutations, n per individual
+         * @param runwayGenes  Flat runway genes, n per individual (by aircraft)
+         * @param k            Index of the individual
+         * @param recent       Scratch: last aircraft of each runway, m * lookback
+         * @param recentTimes  Scratch: their landing times
+         * @param counts       Scratch: number of landings of each runway
+         * @param times        Receives the landing times, or null
+         */
+        double decode(int[] permutations, int[] runwayGenes, int k, int[] recent, int[] recentTimes,
+                int[] counts, int[] times) {
+            int base = k * n;
+            for (int r = 0; r < m; r++) {
+                counts[r] = 0;
+            }
+
+            double cost = 0;
+            double violation = 0;
+            for (int p = 0; p < n; p++) {
+                int i = permutations[base + p];
+                int r = runwayGenes[base + i];
+                int t = earliest[i];
+                int count = counts[r];
+                for (int back = 1; back <= lookback && back <= count; back++) {
+                    int slot = r * lookback + (count - back) % lookback;
+                    t = Math.max(t, recentTimes[slot] + separation[recent[slot]][i]);
+                }
+                if (objectiveType == ObjectiveType.WEIGHTED_DELAY) {
+                    t = Math.max(t, Math.min(target[i], latest[i]));
+                }
+                if (t > latest[i]) {
+                    violation += t - latest[i];
+                }
+
+                int slot = r * lookback + count % lookback;
+                recent[slot] = i;
+                recentTimes[slot] = t;
+                counts[r] = count + 1;
+                if (times != null) {
+                    times[i] = t;
+                }
+
+                switch (objectiveType) {
+                    case WEIGHTED_DELAY:
+                        cost += ObjectiveType.delayCost(t, target[i], earlyPenalty[i], latePenalty[i]);
+                        break;
+                    case MAKESPAN:
+                        cost = Math.max(cost, t);
+                        break;
+                    default:
+                        cost += ObjectiveType.latenessCost(t, transfer[i][r], target[i]);
+                        break;
+                }
+            }
+            return cost + INFEASIBILITY_PENALTY * violation;
+        }
+
+        boolean isFeasible(int[] times) {
+            for (int i = 0; i < n; i++) {
+                if (times[i] > latest[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * One island: its population, offspring buffers and migration inbox.
+     */
+    private final class Island {
+        private final Decoder decoder;
+        private final Random random;
+        private final int n;
+        private final int m;
+
+        private int[] permutations;
+        private int[] runwayGenes;
+        private double[] fitness;
+        private int[] nextPermutations;
+        private int[] nextRunwayGenes;
+
+        // Scratch arrays
+        private final int[] recent;
+        private final int[] recentTimes;
+        private final int[] counts;
+        private final int[] stamp;
+        private int stampValue;
+
+        Island next;
+        private final AtomicReference<int[]> inbox = new AtomicReference<>();
+
+        Island(Decoder decoder, int[] basePermutation, int[] baseRunways, Random random) {
+            this.decoder = decoder;
+            this.random = random;
+            n = decoder.n;
+            m = decoder.m;
+            permutations = new int[POPULATION_SIZE * n];
+            runwayGenes = new int[POPULATION_SIZE * n];
+            fitness = new double[POPULATION_SIZE];
+            nextPermutations = new int[POPULATION_SIZE * n];
+            nextRunwayGenes = new int[POPULATION_SIZE * n];
+            recent = new int[m * decoder.lookback];
+            recentTimes = new int[m * decoder.lookback];
+            counts = new int[m];
+            stamp = new int[n];
+
+            // The seed individual and perturbed copies of it
+            for (int k = 0; k < POPULATION_SIZE; k++) {
+                System.arraycopy(basePermutation, 0, permutations, k * n, n);
+                System.arraycopy(baseRunways, 0, runwayGenes, k * n, n);
+                if (k > 0) {
+                    for (int s = 0; s < Math.max(1, n / 10); s++) {
+                        mutateSequence(permutations, k);
+                    }
+                    for (int i = 0; i < n; i++) {
+                        if (m > 1 && random.nextDouble() < 0.1) {
+                            runwayGenes[k * n + i] = random.nextInt(m);
+                        }
+                    }
+                }
+            }
+            evaluate();
+        }
+
+        /**
+         * Evolves until the deadline. Returns the number of generations.
+         */
+        long evolve(long deadline) {
+            long generation = 0;
+            while (System.currentTimeMillis() < deadline && !Thread.currentThread().isInterrupted()) {
+                generation++;
+                receiveMigrant();
+
+                // Elites first, then children of tournament winners
+                int[] order = eliteIndices();
+                for (int k = 0; k < ELITE_COUNT; k++) {
+                    System.arraycopy(permutations, order[k] * n, nextPermutations, k * n, n);
+                    System.arraycopy(runwayGenes, order[k] * n, nextRunwayGenes, k * n, n);
+                }
+                for (int k = ELITE_COUNT; k < POPULATION_SIZE; k++) {
+                    int a = tournament();
+                    int b = tournament();
+                    crossover(a, b, k);
+                    if (random.nextDouble() < SEQUENCE_MUTATION_RATE) {
+                        mutateSequence(nextPermutations, k);
+                    }
+                    if (m > 1 && random.nextDouble() < RUNWAY_MUTATION_RATE) {
+                        nextRunwayGenes[k * n + random.nextInt(n)] = random.nextInt(m);
+                    }
+                }
+
+                int[] swap = permutations;
+                permutations = nextPermutations;
+                nextPermutations = swap;
+                swap = runwayGenes;
+                runwayGenes = nextRunwayGenes;
+                nextRunwayGenes = swap;
+                evaluate();
+
+                if (generation % MIGRATION_INTERVAL == 0 && next != this) {
+                    int best = best();
+                    int[] migrant = new int[2 * n];
+                    System.arraycopy(permutations, best * n, migrant, 0, n);
+                    System.arraycopy(runwayGenes, best * n, migrant, n, n);
+                    next.inbox.set(migrant);
+                }
+            }
+            return generation;
+        }
+
+        /**
+         * Evaluates the whole population.
+         */
+        private void evaluate() {
+            for (int k = 0; k < POPULATION_SIZE; k++) {
+                fitness[k] = decoder.decode(permutations, runwayGenes, k, recent, recentTimes, counts, null);
+            }
+        }
+
+        private void receiveMigrant() {
+            int[] migrant = inbox.getAndSet(null);
+            if (migrant == null) {
+                return;
+            }
+            int worst = 0;
+            for (int k = 1; k < POPULATION_SIZE; k++) {
+                if (fitness[k] > fitness[worst]) {
+                    worst = k;
+                }
+            }
+            System.arraycopy(migrant, 0, permutations, worst * n, n);
+            System.arraycopy(migrant, n, runwayGenes, worst * n, n);
+            fitness[worst] = decoder.decode(permutations, runwayGenes, worst, recent, recentTimes, counts, null);
+        }
+
+        private int tournament() {
+            int a = random.nextInt(POPULATION_SIZE);
+            int b = random.nextInt(POPULATION_SIZE);
+            return fitness[a] <= fitness[b] ? a : b;
+        }
+
+        /**
+         * Order crossover: a slice of parent a keeps its positions, the other
+         * positions take the remaining aircraft in the order of parent b.
+         * Runway genes are taken from either parent at random.
+         */
+        private void crossover(int a, int b, int child) {
+            int from = random.nextInt(n);
+            int to = from + random.nextInt(n - from) + 1;
+            int childBase = child * n;
+
+            stampValue++;
+            for (int p = from; p < to; p++) {
+                int i = permutations[a * n + p];
+                nextPermutations[childBase + p] = i;
+                stamp[i] = stampValue;
+            }
+            int p = 0;
+            for (int q = 0; q < n; q++) {
+                int i = permutations[b * n + q];
+                if (stamp[i] == stampValue) {
+                    continue;
+                }
+                if (p == from) {
+                    p = to;
+                }
+                nextPermutations[childBase + p++] = i;
+            }
+
+            long bits = 0;
+            for (int i = 0; i < n; i++) {
+                if (i % 64 == 0) {
+                    bits = random.nextLong();
+                }
+                int parent = (bits & 1) == 0 ? a : b;
+                bits >>>= 1;
+                nextRunwayGenes[childBase + i] = runwayGenes[parent * n + i];
+            }
+        }
+
+        /**
+         * Moves one aircraft of individual k by a few positions.
+         */
+        private void mutateSequence(int[] population, int k) {
+            int base = k * n;
+            int p = random.nextInt(n);
+            int q = Math.max(0, Math.min(n - 1, p + random.nextInt(2 * MUTATION_DISTANCE + 1) - MUTATION_DISTANCE));
+            int value = population[base + p];
+            if (p < q) {
+                System.arraycopy(population, base + p + 1, population, base + p, q - p);
+            } else if (q < p) {
+                System.arraycopy(population, base + q, population, base + q + 1, p - q);
+            }
+            population[base + q] = value;
+        }
+
+        /**
+         * Returns the indices of the ELITE_COUNT best individuals.
+         */
+        private int[] eliteIndices() {
+            int[] order = new int[ELITE_COUNT];
+            for (int e = 0; e < ELITE_COUNT; e++) {
+                int best = -1;
+                for (int k = 0; k < POPULATION_SIZE; k++) {
+                    boolean taken = false;
+                    for (int f = 0; f < e; f++) {
+                        taken |= order[f] == k;
+                    }
+                    if (!taken && (best < 0 || fitness[k] < fitness[best])) {
+                        best = k;
+                    }
+                }
+                order[e] = best;
+            }
+            return order;
+        }
+
+        private int best() {
+            int best = 0;
+            for (int k = 1; k < POPULATION_SIZE; k++) {
+                if (fitness[k] < fitness[best]) {
+                    best = k;
+                }
+            }
+            return best;
+        }
+
+        double bestFitness() {
+            return fitness[best()];
+        }
+
+        /**
+         * Decodes the best individual into the given arrays.
+         */
+        void decodeBest(int[] times, int[] runways) {
+            int best = best();
+            System.arraycopy(runwayGenes, best * n, runways, 0, n);
+            decoder.decode(permutations, runwayGenes, best, recent, recentTimes, counts, times);
+        }
+    }
+}
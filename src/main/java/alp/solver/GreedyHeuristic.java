@@ -0,0 +1,114 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Constructive heuristic: aircraft are taken in order of target time and
+ * appended to the runway where their landing is cheapest for the objective.
+ * 
+ * Each aircraft lands at its target time if separation allows it (Problem 1)
+ * or as early as possible (Problems 2 and 3), after every aircraft already
+ * on the runway. The result is used as MIP start and cutoff for CPLEX, and
+ * as a quick stand-alone solver.
+ */
+public class GreedyHeuristic implements ALPSolver {
+
+    private final ObjectiveType objectiveType;
+
+    public GreedyHeuristic(ObjectiveType objectiveType) {
+        this.objectiveType = objectiveType;
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        ALPSolution solution = construct(instance, objectiveType);
+        if (solution == null) {
+            throw new RuntimeException("Greedy heuristic could not land every aircraft within its window");
+        }
+        return solution;
+    }
+
+    @Override
+    public String getName() {
+        return "Greedy: " + objectiveType.getLabel();
+    }
+
+    /**
+     * Builds a schedule for the given objective.
+     * 
+     * @param instance The ALP instance
+     * @param type     The objective guiding runway choice and landing times
+     * @return The schedule, or null if some aircraft could not be landed
+     *         within its window
+     */
+    public static ALPSolution construct(ALPInstance instance, ObjectiveType type) {
+        long startTime = System.currentTimeMillis();
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+        List<AircraftData> aircraft = instance.getAircraft();
+
+        // Target time order; ties follow the dominance order (E, L, index)
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator
+                .comparingInt((Integer i) -> aircraft.get(i).getTargetLandingTime())
+                .thenComparingInt(i -> aircraft.get(i).getEarliestLandingTime())
+                .thenComparingInt(i -> aircraft.get(i).getLatestLandingTime())
+                .thenComparingInt(i -> i));
+
+        int[] landingTimes = new int[n];
+        int[] runwayAssignments = new int[n];
+        List<List<Integer>> runways = new ArrayList<>();
+        for (int r = 0; r < m; r++) {
+            runways.add(new ArrayList<>());
+        }
+
+        for (int i : order) {
+            AircraftData a = aircraft.get(i);
+            int bestRunway = -1;
+            int bestTime = 0;
+            double bestCost = Double.MAX_VALUE;
+
+            for (int r = 0; r < m; r++) {
+                // Earliest time respecting the separation from everything already on r
+                int earliest = a.getEarliestLandingTime();
+                for (int k : runways.get(r)) {
+                    earliest = Math.max(earliest, landingTimes[k] + instance.getSeparationTime(k, i));
+                }
+                int time = type == ObjectiveType.WEIGHTED_DELAY
+                        ? Math.max(earliest, a.getTargetLandingTime())
+                        : earliest;
+                if (time > a.getLatestLandingTime()) {
+                    continue;
+                }
+
+                double cost = type.landingCost(a, time, r);
+                if (cost < bestCost || (cost == bestCost && time < bestTime)) {
+                    bestRunway = r;
+                    bestTime = time;
+                    bestCost = cost;
+                }
+            }
+
+            if (bestRunway < 0) {
+                return null;
+            }
+            landingTimes[i] = bestTime;
+            runwayAssignments[i] = bestRunway;
+            runways.get(bestRunway).add(i);
+        }
+
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        return new ALPSolution(instance, landingTimes, runwayAssignments,
+                type.evaluate(instance, landingTimes, runwayAssignments), solveTime, type.getLabel());
+    }
+}
@@ -0,0 +1,618 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Lower bounds for the three objectives by Lagrangian relaxation of the
+ * separation rows of the runway-indexed formulation of {@link ALPModel}
+ * (with the per-pair big-M of {@link ALPModel#separationBigM(int, int)}),
+ * computed in plain Java without CPLEX.
+ *
+ * The relaxed rows are, for every pair (i, j) whose separation can bind
+ * (see {@link PairAnalysis}) and every runway r,
+ * x_j - x_i - M_ij (y_ij + z_ir + z_jr) &gt;= s_ij - 3 M_ij (without y_ij when
+ * the order is forced, without z when there is one runway), and z_ir + z_jr
+ * &lt;= 1 for incompatible pairs. Once they are priced into the objective
+ * the problem splits into one subproblem per aircraft (its landing time and
+ * runway, the objective terms being piecewise linear) and one per ambiguous
+ * pair (its order). For the makespan the aircraft stay coupled by the
+ * makespan variable C, and the dual function is minimised over C by a
+ * sweep of the latest landing times.
+ *
+ * The multipliers follow projected subgradient steps towards a target value
+ * (the objective of a known schedule), halving the step scale when the
+ * bound stalls. Each phase of an iteration runs on blocks of aircraft in
+ * parallel. The subproblems keep the binaries integral but have the
+ * integrality property, so the bound approaches the LP relaxation bound of
+ * the formulation: exactly what CPLEX starts from at the root, available
+ * here for schedules found by any heuristic.
+ *
+ * With the big-M rows priced out, aircraft with the same target may land
+ * together, and that bound is often 0 for Problems 1 and 3. The returned
+ * bound is therefore the larger of the dual value and the
+ * {@link CrowdingBound}, which the subgradient loop skips when the latter
+ * already reaches the target value.
+ */
+public class LagrangianBound {
+
+    // Default number of subgradient iterations
+    private static final int DEFAULT_ITERATIONS = 1000;
+
+    // Initial step scale, and iterations without improvement before halving it
+    private static final double INITIAL_STEP_SCALE = 2;
+    private static final int STALL_ITERATIONS = 20;
+    private static final double MIN_STEP_SCALE = 1e-4;
+
+    // Aircraft per block of a parallel phase
+    private static final int MIN_BLOCK_SIZE = 32;
+
+    // Share of a heuristic's time budget spent on the bound of its gap stop
+    private static final double GAP_STOP_TIME_SHARE = 0.25;
+
+    private static final double EPSILON = 1e-6;
+
+    private final ALPInstance instance;
+    private final ObjectiveType objectiveType;
+    private int iterations = DEFAULT_ITERATIONS;
+    private double timeLimit = Double.MAX_VALUE;
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    // Aircraft data
+    private final int n;
+    private final int m;
+    private final int[] earliest;
+    private final int[] target;
+    private final int[] latest;
+    private final double[] earlyPenalty;
+    private final double[] latePenalty;
+    private final int[][] transfer;
+    private final boolean integral; // the objective of any schedule is an integer
+
+    // Relaxed rows, grouped by their first aircraft i (rows of i in
+    // [rowStart[i], rowStart[i + 1])); the second aircraft's rows are listed
+    // in incoming[j]
+    private final int[] rowStart;
+    private final int[] rowI;
+    private final int[] rowJ;
+    private final int[] rowRunway;
+    private final double[] rowM;        // coefficient of the binaries
+    private final double[] rowConstant; // s_ij - |binaries| M_ij, or -1 for incompatible pairs
+    private final boolean[] rowOrder;   // row holds y_ij
+    private final boolean[] rowIncompatible;
+    private final int[][] incoming;
+
+    // Ambiguous pairs by first aircraft: rows of (i, j) and (j, i) that hold y, -1 if none
+    private final int[] pairStart;
+    private final int[] pairI;
+    private final int[] pairJ;
+    private final int[] pairForward;
+    private final int[] pairBackward;
+
+    public LagrangianBound(ALPInstance instance, ObjectiveType objectiveType) {
+        this.instance = instance;
+        this.objectiveType = objectiveType;
+        n = instance.getNumAircraft();
+        m = instance.getNumRunways();
+        earliest = new int[n];
+        target = new int[n];
+        latest = new int[n];
+        earlyPenalty = new double[n];
+        latePenalty = new double[n];
+        transfer = new int[n][];
+        boolean integralPenalties = true;
+        for (int i = 0; i < n; i++) {
+            AircraftData a = instance.getAircraft().get(i);
+            earliest[i] = a.getEarliestLandingTime();
+            target[i] = a.getTargetLandingTime();
+            latest[i] = a.getLatestLandingTime();
+            earlyPenalty[i] = a.getEarlyPenalty();
+            latePenalty[i] = a.getLatePenalty();
+            transfer[i] = a.getRunwayTransferTimes();
+            integralPenalties &= earlyPenalty[i] == Math.rint(earlyPenalty[i])
+                    && latePenalty[i] == Math.rint(latePenalty[i]);
+        }
+        integral = objectiveType != ObjectiveType.WEIGHTED_DELAY || integralPenalties;
+
+        PairAnalysis pairs = new PairAnalysis(instance);
+        List<int[]> rows = new ArrayList<>();
+        List<int[]> ambiguous = new ArrayList<>();
+        rowStart = new int[n + 1];
+        pairStart = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            rowStart[i] = rows.size();
+            pairStart[i] = ambiguous.size();
+            for (int j = 0; j < n; j++) {
+                if (i == j) {
+                    continue;
+                }
+                if (pairs.needsSeparation(i, j)) {
+                    for (int r = 0; r < m; r++) {
+                        rows.add(new int[] { i, j, r, 0 });
+                    }
+                } else if (i < j && pairs.isIncompatible(i, j) && m > 1) {
+                    for (int r = 0; r < m; r++) {
+                        rows.add(new int[] { i, j, r, 1 });
+                    }
+                }
+                if (i < j && pairs.isAmbiguous(i, j)) {
+                    ambiguous.add(new int[] { i, j });
+                }
+            }
+        }
+        rowStart[n] = rows.size();
+        pairStart[n] = ambiguous.size();
+
+        int count = rows.size();
+        rowI = new int[count];
+        rowJ = new int[count];
+        rowRunway = new int[count];
+        rowM = new double[count];
+        rowConstant = new double[count];
+        rowOrder = new boolean[count];
+        rowIncompatible = new boolean[count];
+        int[] incomingCount = new int[n];
+        int[][] firstOrderRow = new int[n][];
+        for (int k = 0; k < count; k++) {
+            int[] row = rows.get(k);
+            int i = row[0];
+            int j = row[1];
+            rowI[k] = i;
+            rowJ[k] = j;
+            rowRunway[k] = row[2];
+            rowIncompatible[k] = row[3] == 1;
+            incomingCount[j]++;
+            if (rowIncompatible[k]) {
+                rowConstant[k] = -1;
+                continue;
+            }
+            rowOrder[k] = pairs.isAmbiguous(i, j);
+            int binaries = (rowOrder[k] ? 1 : 0) + (m > 1 ? 2 : 0);
+            AircraftData a = instance.getAircraft().get(i);
+            AircraftData b = instance.getAircraft().get(j);
+            rowM[k] = Math.max(0, a.getLatestLandingTime() + instance.getSeparationTime(i, j)
+                    - b.getEarliestLandingTime());
+            rowConstant[k] = instance.getSeparationTime(i, j) - binaries * rowM[k];
+        }
+        incoming = new int[n][];
+        for (int j = 0; j < n; j++) {
+            incoming[j] = new int[incomingCount[j]];
+            incomingCount[j] = 0;
+            firstOrderRow[j] = new int[n];
+            Arrays.fill(firstOrderRow[j], -1);
+        }
+        for (int k = 0; k < count; k++) {
+            incoming[rowJ[k]][incomingCount[rowJ[k]]++] = k;
+            if (rowOrder[k] && rowRunway[k] == 0) {
+                firstOrderRow[rowI[k]][rowJ[k]] = k;
+            }
+        }
+
+        int pairCount = ambiguous.size();
+        pairI = new int[pairCount];
+        pairJ = new int[pairCount];
+        pairForward = new int[pairCount];
+        pairBackward = new int[pairCount];
+        for (int p = 0; p < pairCount; p++) {
+            pairI[p] = ambiguous.get(p)[0];
+            pairJ[p] = ambiguous.get(p)[1];
+            pairForward[p] = firstOrderRow[pairI[p]][pairJ[p]];
+            pairBackward[p] = firstOrderRow[pairJ[p]][pairI[p]];
+        }
+    }
+
+    /**
+     * Computes a lower bound on the optimal objective.
+     *
+     * @param upperBound Objective of a known schedule, used as the target of
+     *                   the steps (NaN if none)
+     * @return The best bound found
+     */
+    public double compute(double upperBound) {
+        long startTime = System.currentTimeMillis();
+        double crowding = new CrowdingBound(instance, objectiveType).compute();
+        long deadline = timeLimit >= Double.MAX_VALUE / 1000 ? Long.MAX_VALUE
+                : startTime + (long) (timeLimit * 1000);
+        int rows = rowI.length;
+        double[] multipliers = new double[rows];
+        double[] subgradient = new double[rows];
+        State state = new State();
+
+        int blocks = Math.max(1, Math.min(threads * 4, (n + MIN_BLOCK_SIZE - 1) / MIN_BLOCK_SIZE));
+        ExecutorService executor = threads > 1 && blocks > 1 ? Executors.newFixedThreadPool(threads) : null;
+        double best = Double.NEGATIVE_INFINITY;
+        double scale = INITIAL_STEP_SCALE;
+        int stalled = 0;
+        int iteration = 0;
+        try {
+            boolean reached = crowding >= upperBound - EPSILON * Math.max(1, Math.abs(upperBound));
+            while (!reached && iteration < iterations && scale >= MIN_STEP_SCALE
+                    && System.currentTimeMillis() < deadline) {
+                iteration++;
+
+                // Aircraft and pair subproblems, then the dual value
+                double[] partial = new double[blocks];
+                runBlocks(executor, blocks, (from, to, b) -> partial[b] = solveAircraft(multipliers, state, from, to));
+                double value = 0;
+                for (double v : partial) {
+                    value += v;
+                }
+                if (objectiveType == ObjectiveType.MAKESPAN) {
+                    value += solveMakespan(state);
+                }
+
+                if (value > best + EPSILON) {
+                    best = value;
+                    stalled = 0;
+                } else if (++stalled >= STALL_ITERATIONS) {
+                    scale /= 2;
+                    stalled = 0;
+                }
+                double goal = Double.isNaN(upperBound) || Double.isInfinite(upperBound)
+                        ? best + Math.max(1, 0.1 * Math.abs(best)) : upperBound;
+                if (goal - best <= EPSILON * Math.max(1, Math.abs(goal))) {
+                    break;
+                }
+
+                // Projected subgradient and step
+                runBlocks(executor, blocks, (from, to, b) -> partial[b] = subgradient(multipliers, subgradient, state,
+                        from, to));
+                double norm = 0;
+                for (double v : partial) {
+                    norm += v;
+                }
+                if (norm < EPSILON) {
+                    break; // the subproblem solution satisfies every relaxed row
+                }
+                double step = scale * (goal - value) / norm;
+                runBlocks(executor, blocks, (from, to, b) -> {
+                    for (int k = rowStart[from]; k < rowStart[to]; k++) {
+                        multipliers[k] = Math.max(0, multipliers[k] + step * subgradient[k]);
+                    }
+                    return 0;
+                });
+            }
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+
+        double bound = integral ? Math.ceil(best - EPSILON) : best;
+        bound = Math.max(0, bound); // every objective is non-negative
+        System.out.println("Lagrangian bound for " + objectiveType.getLabel() + ": " + bound + " after " + iteration
+                + " iterations (" + (System.currentTimeMillis() - startTime) / 1000.0 + " s, " + rows
+                + " relaxed rows), crowding bound " + crowding);
+        bound = Math.max(bound, integral ? Math.ceil(crowding - EPSILON) : crowding);
+        return bound;
+    }
+
+    /**
+     * Computes a lower bound, targeting the objective of the given schedule,
+     * and stores it in the solution with the resulting relative gap. A better
+     * bound or gap already stored (from CPLEX) is kept.
+     *
+     * @return The relative gap of the solution
+     */
+    public double attach(ALPSolution solution) {
+        return attach(solution, compute(solution.getObjectiveValue()));
+    }
+
+    /**
+     * Stores an already computed lower bound in the solution with the
+     * resulting relative gap, keeping a better bound or gap already stored.
+     *
+     * @return The relative gap of the solution
+     */
+    public static double attach(ALPSolution solution, double bound) {
+        if (Double.isNaN(solution.getLowerBound()) || bound > solution.getLowerBound()) {
+            solution.setLowerBound(bound);
+        }
+        double objective = solution.getObjectiveValue();
+        double gap = objective > EPSILON ? Math.max(0, (objective - solution.getLowerBound()) / objective) : 0;
+        if (Double.isNaN(solution.getMipGap()) || gap < solution.getMipGap()) {
+            solution.setMipGap(gap);
+        }
+        return solution.getMipGap();
+    }
+
+    /**
+     * Computes the bound a heuristic stops on when it reaches its target
+     * gap, spending at most a quarter of the heuristic's time budget.
+     *
+     * @param upperBound Objective of the heuristic's start schedule
+     * @param timeLimit  Time budget of the heuristic, in seconds
+     */
+    static double forGapStop(ALPInstance instance, ObjectiveType objectiveType, double upperBound,
+            double timeLimit) {
+        LagrangianBound bound = new LagrangianBound(instance, objectiveType);
+        bound.setTimeLimit(timeLimit * GAP_STOP_TIME_SHARE);
+        return bound.compute(upperBound);
+    }
+
+    /**
+     * Returns the objective value at or below which a schedule is within the
+     * relative gap targetGap of the bound.
+     */
+    static double stoppingValue(double bound, double targetGap) {
+        return targetGap >= 1 ? Double.POSITIVE_INFINITY : bound / (1 - targetGap);
+    }
+
+    /**
+     * Subproblem solution of the current iteration.
+     */
+    private final class State {
+        final double[] time = new double[n];
+        final int[] runway = new int[n];
+        final double[] timeCoefficient = new double[n]; // price of x_i (makespan only)
+        final double[] order = new double[rowI.length]; // y_ij of each row holding it
+    }
+
+    /**
+     * Prices and solves the subproblems of aircraft [from, to) and of their
+     * ambiguous pairs. Returns their part of the dual value (the makespan
+     * terms excepted).
+     */
+    private double solveAircraft(double[] multipliers, State state, int from, int to) {
+        double value = 0;
+        double[] runwayPrice = new double[m];
+        for (int i = from; i < to; i++) {
+            // Coefficients of x_i and z_ir, constants of the rows of i
+            double timeCoefficient = 0;
+            Arrays.fill(runwayPrice, 0);
+            for (int k = rowStart[i]; k < rowStart[i + 1]; k++) {
+                double u = multipliers[k];
+                if (u == 0) {
+                    continue;
+                }
+                value += u * rowConstant[k];
+                if (rowIncompatible[k]) {
+                    runwayPrice[rowRunway[k]] += u;
+                } else {
+                    timeCoefficient += u;
+                    if (m > 1) {
+                        runwayPrice[rowRunway[k]] += u * rowM[k];
+                    }
+                }
+            }
+            for (int k : incoming[i]) {
+                double u = multipliers[k];
+                if (u == 0) {
+                    continue;
+                }
+                if (rowIncompatible[k]) {
+                    runwayPrice[rowRunway[k]] += u;
+                } else {
+                    timeCoefficient -= u;
+                    if (m > 1) {
+                        runwayPrice[rowRunway[k]] += u * rowM[k];
+                    }
+                }
+            }
+
+            if (objectiveType == ObjectiveType.MAKESPAN) {
+                // The cost does not depend on the runway; x_i is set with C
+                int bestRunway = 0;
+                for (int r = 1; r < m; r++) {
+                    if (runwayPrice[r] < runwayPrice[bestRunway]) {
+                        bestRunway = r;
+                    }
+                }
+                value += runwayPrice[bestRunway];
+                state.runway[i] = bestRunway;
+                state.timeCoefficient[i] = timeCoefficient;
+                continue;
+            }
+
+            // Piecewise linear in x_i: the minimum is at a bound or at the kink
+            double bestValue = Double.POSITIVE_INFINITY;
+            for (int r = 0; r < m; r++) {
+                int kink = objectiveType == ObjectiveType.WEIGHTED_DELAY ? target[i] : target[i] - transfer[i][r];
+                int[] candidates = { earliest[i], latest[i], Math.max(earliest[i], Math.min(latest[i], kink)) };
+                for (int t : candidates) {
+                    double v = runwayPrice[r] + cost(i, t, r) + timeCoefficient * t;
+                    if (v < bestValue) {
+                        bestValue = v;
+                        state.runway[i] = r;
+                        state.time[i] = t;
+                    }
+                }
+            }
+            value += bestValue;
+        }
+
+        // Order of the ambiguous pairs: y_ij = 1 pays the binaries of the rows (i, j)
+        for (int p = pairStart[from]; p < pairStart[to]; p++) {
+            double forward = orderPrice(multipliers, pairForward[p]);
+            double backward = orderPrice(multipliers, pairBackward[p]);
+            setOrder(state.order, pairForward[p], forward <= backward ? 1 : 0);
+            setOrder(state.order, pairBackward[p], forward <= backward ? 0 : 1);
+            value += Math.min(forward, backward);
+        }
+        return value;
+    }
+
+    /**
+     * Sum of u * M over the rows of an ordered pair, starting at the row of
+     * runway 0 (rows of a pair are consecutive, one per runway).
+     */
+    private double orderPrice(double[] multipliers, int first) {
+        if (first < 0) {
+            return 0;
+        }
+        double price = 0;
+        for (int k = first; k < first + m; k++) {
+            price += multipliers[k] * rowM[k];
+        }
+        return price;
+    }
+
+    /**
+     * Minimises C + sum_i (price of x_i) x_i over C &gt;= x_i, x_i in its
+     * window, and sets the landing times. Returns its part of the dual value.
+     */
+    private double solveMakespan(State state) {
+        // Landing times with a negative price follow C up to their latest time
+        double value = 0;
+        int lowest = 0;
+        double slope = 1;
+        List<Integer> following = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            lowest = Math.max(lowest, earliest[i]);
+            if (state.timeCoefficient[i] < 0) {
+                following.add(i);
+            }
+        }
+        following.sort((i, j) -> Integer.compare(latest[i], latest[j]));
+        for (int i : following) {
+            if (latest[i] > lowest) {
+                slope += state.timeCoefficient[i];
+            }
+        }
+        double makespan = lowest;
+        for (int i : following) {
+            if (latest[i] <= lowest) {
+                continue;
+            }
+            if (slope >= 0) {
+                break;
+            }
+            // Past L_i the time of i stops following C
+            makespan = latest[i];
+            slope -= state.timeCoefficient[i];
+        }
+
+        value += makespan;
+        for (int i = 0; i < n; i++) {
+            double a = state.timeCoefficient[i];
+            state.time[i] = a >= 0 ? earliest[i] : Math.min(latest[i], makespan);
+            value += a * state.time[i];
+        }
+        return value;
+    }
+
+    /**
+     * Fills the projected subgradient of the rows of aircraft [from, to) and
+     * returns the sum of its squares.
+     */
+    private double subgradient(double[] multipliers, double[] subgradient, State state, int from, int to) {
+        double norm = 0;
+        for (int k = rowStart[from]; k < rowStart[to]; k++) {
+            int i = rowI[k];
+            int j = rowJ[k];
+            int r = rowRunway[k];
+            double onRunway = (state.runway[i] == r ? 1 : 0) + (state.runway[j] == r ? 1 : 0);
+            double g;
+            if (rowIncompatible[k]) {
+                g = rowConstant[k] + onRunway;
+            } else {
+                double binaries = (m > 1 ? onRunway : 0) + (rowOrder[k] ? state.order[k] : 0);
+                g = rowConstant[k] + rowM[k] * binaries - state.time[j] + state.time[i];
+            }
+            if (multipliers[k] == 0 && g < 0) {
+                g = 0;
+            }
+            subgradient[k] = g;
+            norm += g * g;
+        }
+        return norm;
+    }
+
+    /**
+     * Sets y_ij in the rows of an ordered pair. The rows (j, i) belong to
+     * another block, but are only read in the next phase.
+     */
+    private void setOrder(double[] order, int first, double value) {
+        if (first < 0) {
+            return;
+        }
+        for (int k = first; k < first + m; k++) {
+            order[k] = value;
+        }
+    }
+
+    private double cost(int i, int t, int r) {
+        switch (objectiveType) {
+            case WEIGHTED_DELAY:
+                return ObjectiveType.delayCost(t, target[i], earlyPenalty[i], latePenalty[i]);
+            case TOTAL_LATENESS:
+                return ObjectiveType.latenessCost(t, transfer[i][r], target[i]);
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * Work on the aircraft range [from, to) of block b.
+     */
+    private interface BlockTask {
+        double run(int from, int to, int block);
+    }
+
+    /**
+     * Runs a task on every block of aircraft, in parallel if an executor is
+     * given.
+     */
+    private void runBlocks(ExecutorService executor, int blocks, BlockTask task) {
+        int size = (n + blocks - 1) / blocks;
+        if (executor == null) {
+            for (int b = 0; b < blocks; b++) {
+                task.run(Math.min(n, b * size), Math.min(n, (b + 1) * size), b);
+            }
+            return;
+        }
+        List<Callable<Double>> calls = new ArrayList<>();
+        for (int b = 0; b < blocks; b++) {
+            int block = b;
+            calls.add(() -> task.run(Math.min(n, block * size), Math.min(n, (block + 1) * size), block));
+        }
+        try {
+            for (Future<Double> future : executor.invokeAll(calls)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Lagrangian bound interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Lagrangian bound failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    public ALPInstance getInstance() {
+        return instance;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public void setIterations(int iterations) {
+        this.iterations = iterations;
+    }
+
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    public void setTimeLimit(double timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+}
@@ -0,0 +1,438 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+import ilog.concert.IloException;
+import ilog.concert.IloNumVar;
+import ilog.cplex.IloCplex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Large neighbourhood search for instances too large for one CPLEX model.
+ *
+ * Starting from the greedy schedule, each iteration frees a small set of
+ * aircraft and re-optimises them with an {@link ALPModel} built on a
+ * sub-instance. The freed aircraft are chosen as a slice of consecutive
+ * landings, a slice of one runway, or the aircraft closest in target and
+ * landing time to a random one. They keep their windows, restricted to the
+ * time span of the slice widened by the largest separation. Fixed aircraft
+ * landing close enough to that span to interact with them are added to the
+ * sub-instance with their window reduced to their landing time and their
+ * runway fixed by bounds; all other aircraft are left out. The sub-model thus
+ * has the constraints of the full model restricted to the slice, and the
+ * current schedule is passed to it as MIP start and cutoff.
+ *
+ * Several workers destroy and repair in parallel, each building its own
+ * models (and IloCplex objects) on its own thread. A repaired schedule is a
+ * complete schedule and replaces the shared incumbent whenever it is better.
+ * With a target gap, the workers also stop once the incumbent is within that
+ * gap of the {@link LagrangianBound}, which is then attached to the solution.
+ */
+public class LargeNeighbourhoodSearchSolver implements ALPSolver {
+
+    // Default wall-clock budget
+    private static final double DEFAULT_TIME_LIMIT_SECONDS = 60;
+
+    // Default number of aircraft freed per iteration; with their fixed
+    // neighbours this keeps sub-models within the Community Edition limits
+    private static final int DEFAULT_FREED_AIRCRAFT = 10;
+
+    // Default CPLEX time limit of one sub-model
+    private static final double DEFAULT_SUBPROBLEM_TIME_LIMIT_SECONDS = 5;
+
+    // Destroy operators
+    static final int TIME_SLICE = 0;
+    static final int RUNWAY_SLICE = 1;
+    static final int RELATED = 2;
+
+    private final ObjectiveType objectiveType;
+    private double timeLimit = DEFAULT_TIME_LIMIT_SECONDS;
+    private double subproblemTimeLimit = DEFAULT_SUBPROBLEM_TIME_LIMIT_SECONDS;
+    private int freedAircraft = DEFAULT_FREED_AIRCRAFT;
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private double targetGap = Double.NaN;
+    private long seed = 42;
+
+    public LargeNeighbourhoodSearchSolver(ObjectiveType objectiveType) {
+        this.objectiveType = objectiveType;
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        long startTime = System.currentTimeMillis();
+        int n = instance.getNumAircraft();
+        ALPSolution start = GreedyHeuristic.construct(instance, objectiveType);
+        if (start == null) {
+            throw new RuntimeException("Large neighbourhood search needs a feasible start, greedy heuristic found none");
+        }
+
+        // Bound of the gap stop, if any
+        double lowerBound = Double.isNaN(targetGap) ? Double.NaN
+                : LagrangianBound.forGapStop(instance, objectiveType, start.getObjectiveValue(), timeLimit);
+        double stoppingValue = Double.isNaN(targetGap) ? Double.NEGATIVE_INFINITY
+                : LagrangianBound.stoppingValue(lowerBound, targetGap);
+
+        // Optimal times for the greedy sequences
+        SeparationAnalysis separations = new SeparationAnalysis(instance);
+        RunwaySequences sequences = new RunwaySequences(instance, objectiveType, separations);
+        sequences.load(start.getLandingTimes(), start.getRunwayAssignments());
+        int[] times = new int[n];
+        int[] runways = new int[n];
+        sequences.copyTo(times, runways);
+        AtomicReference<Incumbent> incumbent = new AtomicReference<>(
+                new Incumbent(times, runways, objectiveType.evaluate(instance, times, runways)));
+
+        System.out.println("Starting large neighbourhood search for " + objectiveType.getLabel() + " ("
+                + workers + " workers, " + freedAircraft + " aircraft per sub-model, start "
+                + incumbent.get().value + ", budget " + timeLimit + " s)...");
+        long deadline = startTime + (long) (timeLimit * 1000);
+
+        // Off-diagonal maximum: the diagonal of the OR-Library files is 99999
+        int maxSeparation = separations.getMaxSeparation();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        int iterations = 0;
+        int improvements = 0;
+        try {
+            List<Future<int[]>> futures = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                Random random = new Random(seed + w);
+                futures.add(executor.submit(() -> runWorker(instance, maxSeparation, incumbent, random, deadline,
+                        stoppingValue)));
+            }
+            for (Future<int[]> future : futures) {
+                int[] counts = future.get();
+                iterations += counts[0];
+                improvements += counts[1];
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Large neighbourhood search worker failed: " + e.getCause().getMessage(),
+                    e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Incumbent best = incumbent.get();
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        System.out.println("Large neighbourhood search finished in " + solveTime + " seconds: " + iterations
+                + " sub-models, " + improvements + " improvements, objective " + best.value);
+
+        if (ScheduleValidator.validate(instance, best.times, best.runways)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Large neighbourhood search schedule validation failed");
+        }
+        ALPSolution solution = new ALPSolution(instance, best.times.clone(), best.runways.clone(), best.value,
+                solveTime, objectiveType.getLabel());
+        if (!Double.isNaN(lowerBound)) {
+            LagrangianBound.attach(solution, lowerBound);
+        }
+        return solution;
+    }
+
+    /**
+     * Destroys and repairs until the deadline or until the incumbent
+     * reaches stoppingValue. Returns the number of sub-models solved and
+     * the number of improvements.
+     */
+    private int[] runWorker(ALPInstance instance, int maxSeparation, AtomicReference<Incumbent> incumbent,
+            Random random, long deadline, double stoppingValue) {
+        int iterations = 0;
+        int improvements = 0;
+        while (System.currentTimeMillis() < deadline && !Thread.currentThread().isInterrupted()
+                && incumbent.get().value > stoppingValue) {
+            Incumbent current = incumbent.get();
+            boolean[] free = destroy(instance, current.times, current.runways, random.nextInt(3), random);
+            Subproblem subproblem = new Subproblem(instance, current.times, current.runways, free,
+                    maxSeparation);
+
+            double remaining = (deadline - System.currentTimeMillis()) / 1000.0;
+            ALPSolution repaired = repair(subproblem, Math.min(subproblemTimeLimit, remaining));
+            iterations++;
+            if (repaired == null) {
+                continue;
+            }
+
+            int[] times = current.times.clone();
+            int[] runways = current.runways.clone();
+            subproblem.merge(repaired, times, runways);
+            double value = objectiveType.evaluate(instance, times, runways);
+            if (value < current.value - 1e-9 && ScheduleValidator.validate(instance, times, runways)
+                    && offer(incumbent, new Incumbent(times, runways, value))) {
+                improvements++;
+                System.out.println("LNS improvement: " + value);
+            }
+        }
+        return new int[] { iterations, improvements };
+    }
+
+    /**
+     * Replaces the incumbent if the candidate is better. Returns true if it
+     * was replaced.
+     */
+    private static boolean offer(AtomicReference<Incumbent> incumbent, Incumbent candidate) {
+        while (true) {
+            Incumbent current = incumbent.get();
+            if (candidate.value >= current.value - 1e-9) {
+                return false;
+            }
+            if (incumbent.compareAndSet(current, candidate)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Chooses the aircraft to free.
+     *
+     * @param operator One of TIME_SLICE, RUNWAY_SLICE, RELATED
+     * @return The freed aircraft, as a mask over all aircraft
+     */
+    boolean[] destroy(ALPInstance instance, int[] times, int[] runways, int operator, Random random) {
+        int n = instance.getNumAircraft();
+        int k = Math.min(freedAircraft, n);
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            order.add(i);
+        }
+        order.sort((i, j) -> times[i] != times[j] ? Integer.compare(times[i], times[j]) : Integer.compare(i, j));
+
+        boolean[] free = new boolean[n];
+        switch (operator) {
+            case TIME_SLICE: {
+                int from = random.nextInt(n - k + 1);
+                for (int p = from; p < from + k; p++) {
+                    free[order.get(p)] = true;
+                }
+                break;
+            }
+            case RUNWAY_SLICE: {
+                int runway = runways[order.get(random.nextInt(n))];
+                order.removeIf(i -> runways[i] != runway);
+                int count = Math.min(k, order.size());
+                int from = random.nextInt(order.size() - count + 1);
+                for (int p = from; p < from + count; p++) {
+                    free[order.get(p)] = true;
+                }
+                break;
+            }
+            default: {
+                // Aircraft closest in target and landing time to a random one
+                List<AircraftData> aircraft = instance.getAircraft();
+                int s = random.nextInt(n);
+                int target = aircraft.get(s).getTargetLandingTime();
+                order.sort((i, j) -> Integer.compare(
+                        Math.abs(aircraft.get(i).getTargetLandingTime() - target) + Math.abs(times[i] - times[s]),
+                        Math.abs(aircraft.get(j).getTargetLandingTime() - target) + Math.abs(times[j] - times[s])));
+                for (int p = 0; p < k; p++) {
+                    free[order.get(p)] = true;
+                }
+                break;
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Solves a sub-instance with CPLEX, starting from the current schedule.
+     * Returns the schedule of the sub-instance, or null if CPLEX found
+     * nothing better.
+     */
+    private ALPSolution repair(Subproblem subproblem, double subTimeLimit) {
+        if (subTimeLimit <= 0) {
+            return null;
+        }
+        ModelOptions options = new ModelOptions()
+                .setSymmetryBreaking(false) // runways of fixed aircraft are fixed
+                .setDominanceFixing(false)
+                .setHeuristicStart(false);
+        ALPModel model = null;
+        try {
+            model = new ALPModel(subproblem.instance, options);
+            IloCplex cplex = model.getCplex();
+            cplex.setParam(IloCplex.Param.Threads, 1);
+            cplex.setParam(IloCplex.Param.MIP.Display, 0);
+            cplex.setParam(IloCplex.Param.TimeLimit, subTimeLimit);
+            cplex.setParam(IloCplex.Param.MIP.Tolerances.MIPGap, 0.0);
+
+            // Fixed aircraft keep their runway
+            IloNumVar[][] z = model.getRunwayAssignment();
+            for (int k = subproblem.freed; k < subproblem.aircraft.length; k++) {
+                z[k][subproblem.runways[k]].setLB(1);
+            }
+
+            ALPSolution start = new ALPSolution(subproblem.instance, subproblem.times, subproblem.runways,
+                    objectiveType.evaluate(subproblem.instance, subproblem.times, subproblem.runways), 0,
+                    objectiveType.getLabel());
+            // An unbeaten start comes back as a copy, so compare the values
+            ALPSolution solution = model.solve(ObjectiveModule.of(objectiveType), start);
+            return solution.getObjectiveValue() < start.getObjectiveValue() - 1e-9 ? solution : null;
+        } catch (IloException e) {
+            System.err.println("❌ CPLEX Error: " + e.getMessage());
+            throw new RuntimeException("CPLEX error: " + e.getMessage(), e);
+        } finally {
+            if (model != null) {
+                model.end();
+            }
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Large Neighbourhood Search: " + objectiveType.getLabel();
+    }
+
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    public void setTimeLimit(double timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    public double getSubproblemTimeLimit() {
+        return subproblemTimeLimit;
+    }
+
+    public void setSubproblemTimeLimit(double subproblemTimeLimit) {
+        this.subproblemTimeLimit = subproblemTimeLimit;
+    }
+
+    public int getFreedAircraft() {
+        return freedAircraft;
+    }
+
+    public void setFreedAircraft(int freedAircraft) {
+        this.freedAircraft = freedAircraft;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public void setWorkers(int workers) {
+        this.workers = workers;
+    }
+
+    public double getTargetGap() {
+        return targetGap;
+    }
+
+    /**
+     * Sets the relative gap to the Lagrangian bound at which the search
+     * stops (NaN, the default, to run the whole budget without a bound).
+     */
+    public void setTargetGap(double targetGap) {
+        this.targetGap = targetGap;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * An immutable complete schedule.
+     */
+    private static final class Incumbent {
+        final int[] times;
+        final int[] runways;
+        final double value;
+
+        Incumbent(int[] times, int[] runways, double value) {
+            this.times = times;
+            this.runways = runways;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The sub-instance of a set of freed aircraft: the freed aircraft first,
+     * then the fixed aircraft they may interact with, with the current
+     * schedule restricted to them.
+     */
+    static final class Subproblem {
+        final ALPInstance instance;
+        final int[] aircraft; // index in the full instance of each sub-instance aircraft
+        final int freed;      // number of freed aircraft, first in the sub-instance
+        final int[] times;
+        final int[] runways;
+
+        Subproblem(ALPInstance full, int[] fullTimes, int[] fullRunways, boolean[] free, int maxSeparation) {
+            int n = full.getNumAircraft();
+
+            // Span the freed aircraft may use: their current span widened by
+            // the largest separation
+            int low = Integer.MAX_VALUE;
+            int high = Integer.MIN_VALUE;
+            List<Integer> members = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                if (free[i]) {
+                    members.add(i);
+                    low = Math.min(low, fullTimes[i]);
+                    high = Math.max(high, fullTimes[i]);
+                }
+            }
+            freed = members.size();
+            low -= maxSeparation;
+            high += maxSeparation;
+
+            // Fixed aircraft within one separation of that span
+            for (int i = 0; i < n; i++) {
+                if (!free[i] && fullTimes[i] >= low - maxSeparation && fullTimes[i] <= high + maxSeparation) {
+                    members.add(i);
+                }
+            }
+
+            int size = members.size();
+            aircraft = new int[size];
+            times = new int[size];
+            runways = new int[size];
+            List<AircraftData> data = new ArrayList<>();
+            int[][] separation = new int[size][size];
+            int[][] transfer = new int[size][];
+            for (int k = 0; k < size; k++) {
+                int i = members.get(k);
+                aircraft[k] = i;
+                times[k] = fullTimes[i];
+                runways[k] = fullRunways[i];
+                AircraftData a = full.getAircraft().get(i);
+                int earliest = k < freed ? Math.max(a.getEarliestLandingTime(), low) : fullTimes[i];
+                int latest = k < freed ? Math.min(a.getLatestLandingTime(), high) : fullTimes[i];
+                data.add(new AircraftData(a.getId(), earliest, a.getTargetLandingTime(), latest,
+                        a.getEarlyPenalty(), a.getLatePenalty()));
+                transfer[k] = a.getRunwayTransferTimes().clone();
+                for (int l = 0; l < size; l++) {
+                    separation[k][l] = full.getSeparationTime(i, members.get(l));
+                }
+            }
+
+            instance = new ALPInstance(data, separation, full.getNumRunways(), full.getInstanceName(), transfer);
+        }
+
+        /**
+         * Copies the schedule of the freed aircraft into a full schedule.
+         */
+        void merge(ALPSolution solution, int[] fullTimes, int[] fullRunways) {
+            for (int k = 0; k < freed; k++) {
+                fullTimes[aircraft[k]] = solution.getLandingTime(k);
+                fullRunways[aircraft[k]] = solution.getRunwayAssignment(k);
+            }
+        }
+    }
+}
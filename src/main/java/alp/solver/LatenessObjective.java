@@ -0,0 +1,117 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.AircraftData;
+import ilog.concert.IloException;
+import ilog.concert.IloLinearNumExpr;
+import ilog.concert.IloNumExpr;
+import ilog.concert.IloNumVar;
+import ilog.concert.IloRange;
+import ilog.cplex.IloCplex;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Objective module for Problem 3: total lateness at the parking positions,
+ * taking the runway-dependent transfer times into account. On a
+ * time-indexed model the lateness of each landing time and runway is put
+ * directly on its variable, without big-M rows.
+ */
+public class LatenessObjective implements ObjectiveModule {
+
+    private IloNumVar[] lateness; // L_i: lateness for aircraft i
+    private IloRange[] constraints;
+
+    @Override
+    public ObjectiveType getType() {
+        return ObjectiveType.TOTAL_LATENESS;
+    }
+
+    @Override
+    public IloNumExpr install(ALPModel model) throws IloException {
+        IloCplex cplex = model.getCplex();
+        ALPInstance instance = model.getInstance();
+        IloNumVar[] landingTimes = model.getLandingTimes();
+        IloNumVar[][] runwayAssignment = model.getRunwayAssignment();
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+
+        if (model.isTimeIndexed()) {
+            // Σ_irt max(0, t + t_ir - A_i) * w_irt
+            IloLinearNumExpr objective = cplex.linearNumExpr();
+            for (int i = 0; i < n; i++) {
+                AircraftData aircraft = instance.getAircraft().get(i);
+                int arrivalTime = aircraft.getTargetLandingTime(); // A_i = T_i as per requirements
+                for (int r = 0; r < m; r++) {
+                    int transferTime = aircraft.getTransferTime(r);
+                    for (int t = aircraft.getEarliestLandingTime(); t <= aircraft.getLatestLandingTime(); t++) {
+                        if (t + transferTime > arrivalTime) {
+                            objective.addTerm(t + transferTime - arrivalTime, model.getSlot(i, r, t));
+                        }
+                    }
+                }
+            }
+            return objective;
+        }
+
+        boolean tight = model.getOptions().isTightBounds();
+
+        // With tight bounds: max(0, E_i + min_r t_ir - A_i) <= L_i <= max(0, L_i + max_r t_ir - A_i)
+        double[] lower = new double[n];
+        double[] upper = new double[n];
+        for (int i = 0; i < n; i++) {
+            AircraftData aircraft = instance.getAircraft().get(i);
+            int arrivalTime = aircraft.getTargetLandingTime(); // A_i = T_i as per requirements
+            int minTransfer = Integer.MAX_VALUE;
+            int maxTransfer = 0;
+            for (int r = 0; r < m; r++) {
+                minTransfer = Math.min(minTransfer, aircraft.getTransferTime(r));
+                maxTransfer = Math.max(maxTransfer, aircraft.getTransferTime(r));
+            }
+            lower[i] = tight ? Math.max(0, aircraft.getEarliestLandingTime() + minTransfer - arrivalTime) : 0;
+            upper[i] = tight ? Math.max(0, aircraft.getLatestLandingTime() + maxTransfer - arrivalTime)
+                    : Double.MAX_VALUE;
+        }
+        lateness = cplex.numVarArray(n, lower, upper);
+
+        List<IloRange> rows = new ArrayList<>();
+        IloLinearNumExpr objective = cplex.linearNumExpr();
+        for (int i = 0; i < n; i++) {
+            AircraftData aircraft = instance.getAircraft().get(i);
+            int arrivalTime = aircraft.getTargetLandingTime(); // A_i = T_i as per requirements
+
+            // Lateness definition: L_i >= x_i + t_ir - A_i - M_ir*(1 - z_ir)
+            for (int r = 0; r < m; r++) {
+                int transferTime = aircraft.getTransferTime(r);
+                // Largest value of x_i + t_ir - A_i over the window; rows that can
+                // never exceed zero are implied by L_i >= 0
+                double bigM = tight ? aircraft.getLatestLandingTime() + transferTime - arrivalTime : ALPModel.BIG_M;
+                if (bigM <= 0) {
+                    continue;
+                }
+                IloLinearNumExpr row = cplex.linearNumExpr();
+                row.addTerm(1, lateness[i]);
+                row.addTerm(-1, landingTimes[i]);
+                row.addTerm(-bigM, runwayAssignment[i][r]);
+                rows.add(cplex.addGe(row, transferTime - arrivalTime - bigM));
+            }
+
+            objective.addTerm(1, lateness[i]);
+        }
+        constraints = rows.toArray(new IloRange[0]);
+        return objective;
+    }
+
+    @Override
+    public void uninstall(ALPModel model) throws IloException {
+        if (constraints == null) {
+            return; // nothing was added on a time-indexed model
+        }
+        IloCplex cplex = model.getCplex();
+        cplex.remove(constraints);
+        cplex.delete(lateness);
+        constraints = null;
+        lateness = null;
+    }
+}
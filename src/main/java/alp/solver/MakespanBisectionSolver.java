@@ -0,0 +1,750 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+import ilog.concert.IloException;
+import ilog.cplex.IloCplex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Dedicated solver for Problem 2: bisection on the makespan with a fast
+ * feasibility oracle.
+ *
+ * A makespan C is feasible when every aircraft can land in its window cut
+ * at C, [E_i, min(L_i, C)], so feasibility is monotone in C and the optimum
+ * is found by bisection between the largest earliest landing time and the
+ * makespan of the greedy and beam search schedules. Each candidate C is
+ * tested in increasing order of cost:
+ *
+ * 1. Propagation on the cut windows. On one runway, a pair that fits in one
+ *    order only tightens both windows, until a fixpoint or an empty window.
+ *    On several runways, a clique of more than m pairwise incompatible
+ *    aircraft (neither order fits) proves infeasibility. On any number of
+ *    runways, k aircraft whose windows lie in an interval of length D need
+ *    (ceil(k/m) - 1) minimum separations within D, and on small instances
+ *    the separations within the set bound D as well.
+ * 2. List scheduling: aircraft are appended in a few priority orders
+ *    (deadline, earliest time, target, window middle, then randomly
+ *    perturbed deadlines) to the runway where they land first.
+ * 3. A depth-first search over runway landing sequences under a node
+ *    limit: a partial schedule fails as soon as an unscheduled aircraft can
+ *    no longer meet its deadline, an aircraft only opens the first empty
+ *    runway (runways are interchangeable for the makespan), and on one
+ *    runway failed (landed set, last aircraft) states are remembered with
+ *    their time when the triangle inequality holds. If the search runs out
+ *    of nodes, beam search on the cut windows.
+ * 4. A CPLEX model of the cut windows, stopped at its first solution, only
+ *    when the candidate is still undecided.
+ *
+ * The reported lower bound is one above the largest makespan proven
+ * infeasible (or the largest earliest landing time); candidates left
+ * undecided by the oracle are searched above, and the gap reports them.
+ */
+public class MakespanBisectionSolver implements ALPSolver {
+
+    // Default wall-clock budget
+    private static final double DEFAULT_TIME_LIMIT_SECONDS = 60;
+
+    // Time limit of one CPLEX feasibility check
+    private static final double CHECK_TIME_LIMIT_SECONDS = 10;
+
+    // List scheduling passes with randomly perturbed deadlines
+    private static final int RANDOM_PASSES = 20;
+
+    // Largest instance whose density check uses the separations within each set (cubic)
+    private static final int DENSITY_SET_LIMIT = 200;
+
+    // Node limit of the single-runway sequencing search
+    private static final int SEARCH_NODES = 200000;
+
+    private enum Verdict {
+        FEASIBLE, INFEASIBLE, UNKNOWN
+    }
+
+    private double timeLimit = DEFAULT_TIME_LIMIT_SECONDS;
+    private boolean beamSearch = true;
+    private boolean cplexCheck = true;
+    private long seed = 42;
+
+    // Checks decided by each stage of the oracle during the last solve
+    private int propagationDecisions;
+    private int listDecisions;
+    private int searchDecisions;
+    private int beamDecisions;
+    private int cplexDecisions;
+    private int undecided;
+
+    // State of the current solve
+    private ALPInstance instance;
+    private int n;
+    private int m;
+    private int[][] separation;
+    private int minSeparation;
+    private int maxSeparation;
+    private int lookback;
+    private Random random;
+    private long deadline;
+    private int[] foundTimes;
+    private int[] foundRunways;
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        long startTime = System.currentTimeMillis();
+        deadline = startTime + (long) (timeLimit * 1000);
+        this.instance = instance;
+        n = instance.getNumAircraft();
+        m = instance.getNumRunways();
+        separation = instance.getSeparationTimes();
+        SeparationAnalysis separations = new SeparationAnalysis(instance);
+        lookback = separations.getLookback();
+        minSeparation = separations.getMinSeparation();
+        maxSeparation = separations.getMaxSeparation();
+        random = new Random(seed);
+        propagationDecisions = 0;
+        listDecisions = 0;
+        searchDecisions = 0;
+        beamDecisions = 0;
+        cplexDecisions = 0;
+        undecided = 0;
+
+        System.out.println("Starting makespan bisection for " + n + " aircraft on " + m + " runways...");
+
+        // Bounds: the last earliest landing time, and the best heuristic schedule
+        int lower = 0;
+        int latest = 0;
+        for (AircraftData a : instance.getAircraft()) {
+            lower = Math.max(lower, a.getEarliestLandingTime());
+            latest = Math.max(latest, a.getLatestLandingTime());
+        }
+        int[] bestTimes = null;
+        int[] bestRunways = null;
+        int upper = Integer.MAX_VALUE;
+        ALPSolution greedy = GreedyHeuristic.construct(instance, ObjectiveType.MAKESPAN);
+        if (greedy != null) {
+            bestTimes = greedy.getLandingTimes();
+            bestRunways = greedy.getRunwayAssignments();
+            upper = makespan(bestTimes);
+        }
+        if (beamSearch) {
+            try {
+                ALPSolution beam = new BeamSearchSolver(ObjectiveType.MAKESPAN).solve(instance);
+                if (makespan(beam.getLandingTimes()) < upper) {
+                    bestTimes = beam.getLandingTimes();
+                    bestRunways = beam.getRunwayAssignments();
+                    upper = makespan(bestTimes);
+                }
+            } catch (RuntimeException e) {
+                System.out.println("Beam search found no initial schedule");
+            }
+        }
+        if (bestTimes == null) {
+            Verdict verdict = check(latest);
+            if (verdict == Verdict.INFEASIBLE) {
+                throw new RuntimeException("Instance has no feasible schedule");
+            } else if (verdict == Verdict.UNKNOWN) {
+                throw new RuntimeException("Makespan bisection found no feasible schedule");
+            }
+            bestTimes = foundTimes;
+            bestRunways = foundRunways;
+            upper = makespan(bestTimes);
+        }
+        System.out.println("Makespan bisection: initial bounds [" + lower + ", " + upper + "]");
+
+        // Bisection: lo is the smallest candidate not yet excluded, hi the best makespan
+        int provenLower = lower;
+        int lo = lower;
+        int hi = upper;
+        int checks = 0;
+        while (lo < hi && System.currentTimeMillis() < deadline) {
+            int mid = lo + (hi - lo) / 2;
+            Verdict verdict = check(mid);
+            checks++;
+            if (verdict == Verdict.FEASIBLE) {
+                bestTimes = foundTimes;
+                bestRunways = foundRunways;
+                hi = makespan(bestTimes);
+            } else {
+                lo = mid + 1;
+                if (verdict == Verdict.INFEASIBLE) {
+                    provenLower = mid + 1;
+                }
+            }
+            System.out.println("Makespan " + mid + ": " + verdict + ", bounds [" + provenLower + ", " + hi + "]");
+        }
+
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        int objectiveValue = makespan(bestTimes);
+        provenLower = Math.min(provenLower, objectiveValue);
+        System.out.println("Makespan bisection finished in " + solveTime + " seconds: makespan " + objectiveValue
+                + (provenLower == objectiveValue ? " (optimal)" : ", lower bound " + provenLower) + ", " + checks
+                + " checks decided by propagation " + propagationDecisions + ", list scheduling " + listDecisions
+                + ", search " + searchDecisions + ", beam search " + beamDecisions + ", CPLEX " + cplexDecisions
+                + ", undecided " + undecided);
+
+        if (ScheduleValidator.validate(instance, bestTimes, bestRunways)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Makespan bisection schedule validation failed");
+        }
+        ALPSolution solution = new ALPSolution(instance, bestTimes, bestRunways, objectiveValue, solveTime,
+                ObjectiveType.MAKESPAN.getLabel());
+        solution.setLowerBound(provenLower);
+        solution.setMipGap(objectiveValue > 0 ? (double) (objectiveValue - provenLower) / objectiveValue : 0);
+        return solution;
+    }
+
+    /**
+     * Tests whether every aircraft can land by the given makespan. A
+     * feasible verdict leaves its schedule in foundTimes and foundRunways.
+     */
+    private Verdict check(int makespan) {
+        int[] earliest = new int[n];
+        int[] latest = new int[n];
+        for (int i = 0; i < n; i++) {
+            AircraftData a = instance.getAircraft().get(i);
+            earliest[i] = a.getEarliestLandingTime();
+            latest[i] = Math.min(a.getLatestLandingTime(), makespan);
+            if (earliest[i] > latest[i]) {
+                propagationDecisions++;
+                return Verdict.INFEASIBLE;
+            }
+        }
+
+        if (!propagate(earliest, latest)) {
+            propagationDecisions++;
+            return Verdict.INFEASIBLE;
+        }
+
+        if (listSchedule(earliest, latest)) {
+            listDecisions++;
+            return Verdict.FEASIBLE;
+        }
+
+        Verdict searched = searchSequences(earliest, latest);
+        if (searched != Verdict.UNKNOWN) {
+            searchDecisions++;
+            return searched;
+        }
+
+        ALPInstance cut = null;
+        if (beamSearch || cplexCheck) {
+            cut = cutInstance(earliest, latest);
+        }
+        if (beamSearch) {
+            try {
+                ALPSolution beam = new BeamSearchSolver(ObjectiveType.MAKESPAN).solve(cut);
+                if (makespan(beam.getLandingTimes()) <= makespan) {
+                    foundTimes = beam.getLandingTimes();
+                    foundRunways = beam.getRunwayAssignments();
+                    beamDecisions++;
+                    return Verdict.FEASIBLE;
+                }
+            } catch (RuntimeException e) {
+                // No schedule found: undecided
+            }
+        }
+
+        if (cplexCheck && System.currentTimeMillis() < deadline) {
+            Verdict verdict = solveFeasibility(cut);
+            if (verdict != Verdict.UNKNOWN) {
+                cplexDecisions++;
+                return verdict;
+            }
+        }
+        undecided++;
+        return Verdict.UNKNOWN;
+    }
+
+    /**
+     * Tightens the windows and looks for a proof of infeasibility. Returns
+     * false if the windows cannot all be met.
+     */
+    private boolean propagate(int[] earliest, int[] latest) {
+        if (m == 1) {
+            // A pair that fits in one order only is landed in that order
+            boolean changed = true;
+            for (int round = 0; changed && round <= n; round++) {
+                changed = false;
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j < n; j++) {
+                        if (i == j) {
+                            continue;
+                        }
+                        boolean before = earliest[i] + separation[i][j] <= latest[j];
+                        boolean after = earliest[j] + separation[j][i] <= latest[i];
+                        if (!before && !after) {
+                            return false;
+                        }
+                        if (before && !after) {
+                            if (earliest[j] < earliest[i] + separation[i][j]) {
+                                earliest[j] = earliest[i] + separation[i][j];
+                                changed = true;
+                            }
+                            if (latest[i] > latest[j] - separation[i][j]) {
+                                latest[i] = latest[j] - separation[i][j];
+                                changed = true;
+                            }
+                            if (earliest[j] > latest[j] || earliest[i] > latest[i]) {
+                                return false;
+                            }
+                        }
+                    }
+                }
+            }
+        } else if (hasIncompatibleClique(earliest, latest)) {
+            return false;
+        }
+        return fitsDensity(earliest, latest);
+    }
+
+    /**
+     * Looks greedily for more than m aircraft that pairwise cannot share a
+     * runway.
+     */
+    private boolean hasIncompatibleClique(int[] earliest, int[] latest) {
+        List<List<Integer>> neighbours = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            neighbours.add(new ArrayList<>());
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (earliest[i] + separation[i][j] > latest[j] && earliest[j] + separation[j][i] > latest[i]) {
+                    neighbours.get(i).add(j);
+                    neighbours.get(j).add(i);
+                }
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            if (neighbours.get(v).size() < m) {
+                continue;
+            }
+            List<Integer> candidates = new ArrayList<>(neighbours.get(v));
+            candidates.sort(Comparator.comparingInt((Integer u) -> -neighbours.get(u).size()));
+            List<Integer> clique = new ArrayList<>();
+            clique.add(v);
+            for (int u : candidates) {
+                boolean adjacent = true;
+                for (int w : clique) {
+                    if (!neighbours.get(u).contains(w)) {
+                        adjacent = false;
+                        break;
+                    }
+                }
+                if (adjacent) {
+                    clique.add(u);
+                    if (clique.size() > m) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns false if some k aircraft with windows inside an interval of
+     * length D cannot be landed there. One runway gets ceil(k/m) of them,
+     * which needs (ceil(k/m) - 1) minimum separations. On small instances
+     * the separations of the set itself are used as well: every aircraft but
+     * the first of each runway follows another one of the set, at least by
+     * its smallest separation from them, so the sum of these separations
+     * without the m largest is spread over m runways.
+     */
+    private boolean fitsDensity(int[] earliest, int[] latest) {
+        Integer[] byLatest = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            byLatest[i] = i;
+        }
+        Arrays.sort(byLatest, Comparator.comparingInt(i -> latest[i]));
+        boolean setSeparations = n <= DENSITY_SET_LIMIT;
+        int[] members = new int[n];
+        int[] minIncoming = new int[n];
+        long[] largest = new long[m];
+        for (int a = 0; a < n; a++) {
+            int start = earliest[a];
+            boolean seen = false;
+            for (int b = 0; b < a; b++) {
+                seen |= earliest[b] == start;
+            }
+            if (seen) {
+                continue;
+            }
+            int count = 0;
+            for (int i : byLatest) {
+                if (earliest[i] < start) {
+                    continue;
+                }
+                long span = latest[i] - start;
+                int perRunway = (count + 1 + m - 1) / m;
+                if ((long) (perRunway - 1) * minSeparation > span) {
+                    return false;
+                }
+                if (!setSeparations) {
+                    count++;
+                    continue;
+                }
+                minIncoming[i] = Integer.MAX_VALUE;
+                for (int k = 0; k < count; k++) {
+                    int j = members[k];
+                    minIncoming[i] = Math.min(minIncoming[i], separation[j][i]);
+                    minIncoming[j] = Math.min(minIncoming[j], separation[i][j]);
+                }
+                members[count++] = i;
+                if (count <= m) {
+                    continue;
+                }
+                long total = 0;
+                Arrays.fill(largest, 0);
+                for (int k = 0; k < count; k++) {
+                    long value = minIncoming[members[k]];
+                    total += value;
+                    for (int q = 0; q < m; q++) {
+                        if (value > largest[q]) {
+                            long swap = largest[q];
+                            largest[q] = value;
+                            value = swap;
+                        }
+                    }
+                }
+                for (long value : largest) {
+                    total -= value;
+                }
+                if (total > m * span) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends the aircraft, in a few priority orders, to the runway where
+     * they can land first. Returns true and keeps the schedule if one order
+     * lands every aircraft in its window.
+     */
+    private boolean listSchedule(int[] earliest, int[] latest) {
+        List<double[]> keys = new ArrayList<>();
+        double[] due = new double[n];
+        double[] release = new double[n];
+        double[] target = new double[n];
+        double[] middle = new double[n];
+        for (int i = 0; i < n; i++) {
+            due[i] = latest[i];
+            release[i] = earliest[i];
+            int targetTime = instance.getAircraft().get(i).getTargetLandingTime();
+            target[i] = Math.max(earliest[i], Math.min(latest[i], targetTime));
+            middle[i] = (earliest[i] + latest[i]) / 2.0;
+        }
+        keys.add(due);
+        keys.add(release);
+        keys.add(target);
+        keys.add(middle);
+        for (double[] key : keys) {
+            if (appendInOrder(key, earliest, latest)) {
+                return true;
+            }
+        }
+        for (int pass = 0; pass < RANDOM_PASSES; pass++) {
+            double[] key = new double[n];
+            for (int i = 0; i < n; i++) {
+                key[i] = latest[i] + random.nextDouble() * maxSeparation;
+            }
+            if (appendInOrder(key, earliest, latest)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean appendInOrder(double[] key, int[] earliest, int[] latest) {
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> key[i]).thenComparingInt(i -> earliest[i]));
+
+        int[][] sequences = new int[m][n];
+        int[] lengths = new int[m];
+        int[] times = new int[n];
+        int[] runways = new int[n];
+        for (int i : order) {
+            int bestRunway = -1;
+            int bestTime = Integer.MAX_VALUE;
+            for (int r = 0; r < m; r++) {
+                int t = earliest[i];
+                for (int p = lengths[r] - 1; p >= Math.max(0, lengths[r] - lookback); p--) {
+                    int previous = sequences[r][p];
+                    t = Math.max(t, times[previous] + separation[previous][i]);
+                }
+                if (t < bestTime) {
+                    bestTime = t;
+                    bestRunway = r;
+                }
+            }
+            if (bestTime > latest[i]) {
+                return false;
+            }
+            sequences[bestRunway][lengths[bestRunway]++] = i;
+            times[i] = bestTime;
+            runways[i] = bestRunway;
+        }
+        foundTimes = times;
+        foundRunways = runways;
+        return true;
+    }
+
+    /**
+     * Searches the runway landing sequences depth first, landing every
+     * aircraft as early as possible. Returns UNKNOWN when the node limit is
+     * reached.
+     */
+    private Verdict searchSequences(int[] earliest, int[] latest) {
+        SequenceSearch search = new SequenceSearch(earliest, latest);
+        if (search.extend(0)) {
+            foundTimes = search.times;
+            foundRunways = search.runways;
+            return Verdict.FEASIBLE;
+        }
+        return search.nodes > SEARCH_NODES ? Verdict.UNKNOWN : Verdict.INFEASIBLE;
+    }
+
+    /**
+     * Depth-first search state of {@link #searchSequences(int[], int[])}.
+     */
+    private class SequenceSearch {
+        final int[] earliest;
+        final int[] latest;
+        final Integer[] byLatest;
+        final int[][] sequences = new int[m][n];
+        final int[] lengths = new int[m];
+        final int[] times = new int[n];
+        final int[] runways = new int[n];
+        final long[] landed = new long[(n + 63) / 64];
+        final Map<FailedState, Integer> failed = new HashMap<>();
+        int nodes;
+
+        SequenceSearch(int[] earliest, int[] latest) {
+            this.earliest = earliest;
+            this.latest = latest;
+            byLatest = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                byLatest[i] = i;
+            }
+            Arrays.sort(byLatest, Comparator.comparingInt((Integer i) -> latest[i]).thenComparingInt(i -> earliest[i]));
+        }
+
+        /**
+         * Earliest landing time of aircraft j appended to runway r.
+         */
+        int landingTime(int j, int r) {
+            int t = earliest[j];
+            int[] sequence = sequences[r];
+            for (int p = lengths[r] - 1; p >= Math.max(0, lengths[r] - lookback); p--) {
+                t = Math.max(t, times[sequence[p]] + separation[sequence[p]][j]);
+            }
+            return t;
+        }
+
+        boolean extend(int depth) {
+            if (depth == n) {
+                return true;
+            }
+            if (++nodes > SEARCH_NODES) {
+                return false;
+            }
+            FailedState state = null;
+            if (m == 1 && lookback == 1 && depth > 0) {
+                int last = sequences[0][depth - 1];
+                state = new FailedState(landed.clone(), last);
+                Integer failedTime = failed.get(state);
+                if (failedTime != null && failedTime <= times[last]) {
+                    return false;
+                }
+            }
+
+            // Every unscheduled aircraft must still fit before its deadline
+            for (int j = 0; j < n; j++) {
+                if ((landed[j >>> 6] & 1L << j) == 0) {
+                    int t = Integer.MAX_VALUE;
+                    for (int r = 0; r < m && t > latest[j]; r++) {
+                        t = Math.min(t, landingTime(j, r));
+                    }
+                    if (t > latest[j]) {
+                        return fail(state);
+                    }
+                }
+            }
+            for (int j : byLatest) {
+                if ((landed[j >>> 6] & 1L << j) != 0) {
+                    continue;
+                }
+                for (int r = 0; r < m; r++) {
+                    if (r > 0 && lengths[r - 1] == 0) {
+                        break; // only the first empty runway is opened
+                    }
+                    int t = landingTime(j, r);
+                    if (t > latest[j]) {
+                        continue;
+                    }
+                    sequences[r][lengths[r]++] = j;
+                    times[j] = t;
+                    runways[j] = r;
+                    landed[j >>> 6] |= 1L << j;
+                    boolean found = extend(depth + 1);
+                    landed[j >>> 6] &= ~(1L << j);
+                    lengths[r]--;
+                    if (found) {
+                        return true;
+                    }
+                    if (nodes > SEARCH_NODES) {
+                        return false;
+                    }
+                }
+            }
+            return fail(state);
+        }
+
+        private boolean fail(FailedState state) {
+            if (state != null) {
+                failed.merge(state, times[state.last], Math::min);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Landed set and last aircraft of a failed prefix of the sequencing
+     * search.
+     */
+    private static final class FailedState {
+        private final long[] landed;
+        private final int last;
+
+        FailedState(long[] landed, int last) {
+            this.landed = landed;
+            this.last = last;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof FailedState)) {
+                return false;
+            }
+            FailedState other = (FailedState) o;
+            return last == other.last && Arrays.equals(landed, other.landed);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(landed) + last;
+        }
+    }
+
+    /**
+     * Builds a copy of the instance with the given windows, targets clamped
+     * into them.
+     */
+    private ALPInstance cutInstance(int[] earliest, int[] latest) {
+        List<AircraftData> aircraft = new ArrayList<>();
+        int[][] transfer = new int[n][];
+        for (int i = 0; i < n; i++) {
+            AircraftData a = instance.getAircraft().get(i);
+            int target = Math.max(earliest[i], Math.min(latest[i], a.getTargetLandingTime()));
+            aircraft.add(new AircraftData(a.getId(), earliest[i], target, latest[i], a.getEarlyPenalty(),
+                    a.getLatePenalty()));
+            transfer[i] = a.getRunwayTransferTimes();
+        }
+        return new ALPInstance(aircraft, separation, m, instance.getInstanceName(), transfer);
+    }
+
+    /**
+     * Solves the model of the cut windows until its first solution.
+     */
+    private Verdict solveFeasibility(ALPInstance cut) {
+        ALPModel model = null;
+        try {
+            model = new ALPModel(cut, new ModelOptions().setHeuristicStart(false));
+            IloCplex cplex = model.getCplex();
+            cplex.setParam(IloCplex.Param.TimeLimit, Math.max(1,
+                    Math.min(CHECK_TIME_LIMIT_SECONDS, (deadline - System.currentTimeMillis()) / 1000.0)));
+            cplex.setParam(IloCplex.Param.MIP.Limits.Solutions, 1);
+            try {
+                ALPSolution solution = model.solve(ObjectiveModule.of(ObjectiveType.MAKESPAN));
+                foundTimes = solution.getLandingTimes();
+                foundRunways = solution.getRunwayAssignments();
+                return Verdict.FEASIBLE;
+            } catch (RuntimeException e) {
+                return cplex.getStatus() == IloCplex.Status.Infeasible ? Verdict.INFEASIBLE : Verdict.UNKNOWN;
+            }
+        } catch (IloException e) {
+            System.err.println("❌ CPLEX Error: " + e.getMessage());
+            throw new RuntimeException("CPLEX error: " + e.getMessage(), e);
+        } finally {
+            if (model != null) {
+                model.end();
+            }
+        }
+    }
+
+    private static int makespan(int[] times) {
+        int makespan = 0;
+        for (int t : times) {
+            makespan = Math.max(makespan, t);
+        }
+        return makespan;
+    }
+
+    @Override
+    public String getName() {
+        return "Makespan Bisection";
+    }
+
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    public void setTimeLimit(double timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    /**
+     * Returns true if candidates left undecided by list scheduling are
+     * tried with beam search on the cut windows.
+     */
+    public boolean isBeamSearch() {
+        return beamSearch;
+    }
+
+    public void setBeamSearch(boolean beamSearch) {
+        this.beamSearch = beamSearch;
+    }
+
+    /**
+     * Returns true if candidates left undecided by the heuristics are
+     * decided by a CPLEX model of the cut windows.
+     */
+    public boolean isCplexCheck() {
+        return cplexCheck;
+    }
+
+    public void setCplexCheck(boolean cplexCheck) {
+        this.cplexCheck = cplexCheck;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+}
@@ -0,0 +1,60 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.AircraftData;
+import ilog.concert.IloException;
+import ilog.concert.IloNumExpr;
+import ilog.concert.IloNumVar;
+import ilog.concert.IloRange;
+import ilog.cplex.IloCplex;
+
+/**
+ * Objective module for Problem 2: completion time of the last landing.
+ */
+public class MakespanObjective implements ObjectiveModule {
+
+    private IloNumVar makespan; // Maximum landing time of all aircraft
+    private IloRange[] constraints;
+
+    @Override
+    public ObjectiveType getType() {
+        return ObjectiveType.MAKESPAN;
+    }
+
+    @Override
+    public IloNumExpr install(ALPModel model) throws IloException {
+        IloCplex cplex = model.getCplex();
+        ALPInstance instance = model.getInstance();
+        IloNumVar[] landingTimes = model.getLandingTimes();
+        int n = instance.getNumAircraft();
+
+        if (model.getOptions().isTightBounds()) {
+            // The last landing lies between the largest earliest and latest landing times
+            int lower = 0;
+            int upper = 0;
+            for (AircraftData aircraft : instance.getAircraft()) {
+                lower = Math.max(lower, aircraft.getEarliestLandingTime());
+                upper = Math.max(upper, aircraft.getLatestLandingTime());
+            }
+            makespan = cplex.numVar(lower, upper, "makespan");
+        } else {
+            makespan = cplex.numVar(0, Double.MAX_VALUE, "makespan");
+        }
+        constraints = new IloRange[n];
+
+        // Makespan definition: makespan >= x_i for all i
+        for (int i = 0; i < n; i++) {
+            constraints[i] = cplex.addLe(cplex.diff(landingTimes[i], makespan), 0);
+        }
+        return makespan;
+    }
+
+    @Override
+    public void uninstall(ALPModel model) throws IloException {
+        IloCplex cplex = model.getCplex();
+        cplex.remove(constraints);
+        cplex.delete(makespan);
+        constraints = null;
+        makespan = null;
+    }
+}
@@ -0,0 +1,180 @@
+package alp.solver;
+
+/**
+ * Options controlling how {@link ALPModel} builds and solves its CPLEX model.
+ */
+public class ModelOptions {
+
+    /**
+     * How separation between aircraft on the same runway is modelled.
+     */
+    public enum Formulation {
+        /** One big-M separation row per ordered pair and runway (n²·m rows). */
+        RUNWAY_INDEXED,
+        /** One "same runway" binary per pair and one separation row per ordered pair. */
+        SAME_RUNWAY,
+        /**
+         * One binary per aircraft, runway and landing time of its window, and
+         * conflict rows instead of big-M separation rows.
+         */
+        TIME_INDEXED
+    }
+
+    private Formulation formulation = Formulation.RUNWAY_INDEXED;
+    private boolean tightBounds = true;
+    private boolean lazySeparation = false;
+    private boolean nameVariables = false;
+    private boolean symmetryBreaking = true;
+    private boolean dominanceFixing = true;
+    private boolean heuristicStart = true;
+    private boolean beamSearchStart = false;
+    private boolean computeRootBound = false;
+    private boolean automaticFormulation = false;
+    private double memoryBudgetMB = 2048;
+
+    public Formulation getFormulation() {
+        return formulation;
+    }
+
+    public ModelOptions setFormulation(Formulation formulation) {
+        this.formulation = formulation;
+        return this;
+    }
+
+    /**
+     * Returns true if the formulation is chosen per instance by
+     * {@link FormulationSelector}: time-indexed for narrow windows, the
+     * configured big-M formulation otherwise.
+     */
+    public boolean isAutomaticFormulation() {
+        return automaticFormulation;
+    }
+
+    public ModelOptions setAutomaticFormulation(boolean automaticFormulation) {
+        this.automaticFormulation = automaticFormulation;
+        return this;
+    }
+
+    /**
+     * Returns the estimated model memory, in megabytes, above which the
+     * time-indexed formulation is not selected automatically.
+     */
+    public double getMemoryBudgetMB() {
+        return memoryBudgetMB;
+    }
+
+    public ModelOptions setMemoryBudgetMB(double memoryBudgetMB) {
+        this.memoryBudgetMB = memoryBudgetMB;
+        return this;
+    }
+
+    /**
+     * Returns true if separation rows are left out of the initial model and
+     * generated by a lazy-constraint callback when a candidate incumbent
+     * violates them.
+     */
+    public boolean isLazySeparation() {
+        return lazySeparation;
+    }
+
+    public ModelOptions setLazySeparation(boolean lazySeparation) {
+        this.lazySeparation = lazySeparation;
+        return this;
+    }
+
+    /**
+     * Returns true if model variables get readable names (x_i, z_ir, y_ij,
+     * d_ij). Off by default: naming every variable costs a string per column
+     * and is only useful when exporting or debugging the model.
+     */
+    public boolean isNameVariables() {
+        return nameVariables;
+    }
+
+    public ModelOptions setNameVariables(boolean nameVariables) {
+        this.nameVariables = nameVariables;
+        return this;
+    }
+
+    /**
+     * Returns true if runway symmetry-breaking rows are added whenever the
+     * objective does not depend on the runway.
+     */
+    public boolean isSymmetryBreaking() {
+        return symmetryBreaking;
+    }
+
+    public ModelOptions setSymmetryBreaking(boolean symmetryBreaking) {
+        this.symmetryBreaking = symmetryBreaking;
+        return this;
+    }
+
+    /**
+     * Returns true if the precedence binaries of interchangeable aircraft are
+     * fixed by dominance before each solve. The time-indexed formulation has
+     * no precedence binaries and ignores it.
+     */
+    public boolean isDominanceFixing() {
+        return dominanceFixing;
+    }
+
+    public ModelOptions setDominanceFixing(boolean dominanceFixing) {
+        this.dominanceFixing = dominanceFixing;
+        return this;
+    }
+
+    /**
+     * Returns true if each solve starts from the schedule of
+     * {@link GreedyHeuristic}, passed as MIP start and objective cutoff.
+     */
+    public boolean isHeuristicStart() {
+        return heuristicStart;
+    }
+
+    public ModelOptions setHeuristicStart(boolean heuristicStart) {
+        this.heuristicStart = heuristicStart;
+        return this;
+    }
+
+    /**
+     * Returns true if each solve also starts from the schedule of
+     * {@link BeamSearchSolver}, passed as MIP start (and cutoff if it is the
+     * best start).
+     */
+    public boolean isBeamSearchStart() {
+        return beamSearchStart;
+    }
+
+    public ModelOptions setBeamSearchStart(boolean beamSearchStart) {
+        this.beamSearchStart = beamSearchStart;
+        return this;
+    }
+
+    /**
+     * Returns true if per-pair big-M coefficients and tight variable bounds
+     * derived from the time windows are used. When false, the original global
+     * big-M with unbounded variables is used, mainly to measure the effect on
+     * the root relaxation.
+     */
+    public boolean isTightBounds() {
+        return tightBounds;
+    }
+
+    public ModelOptions setTightBounds(boolean tightBounds) {
+        this.tightBounds = tightBounds;
+        return this;
+    }
+
+    /**
+     * Returns true if the LP relaxation is solved before each MIP solve so that
+     * its bound can be reported with the solution.
+     */
+    public boolean isComputeRootBound() {
+        return computeRootBound;
+    }
+
+    public ModelOptions setComputeRootBound(boolean computeRootBound) {
+        this.computeRootBound = computeRootBound;
+        return this;
+    }
+}
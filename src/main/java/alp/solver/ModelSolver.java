@@ -0,0 +1,77 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import ilog.concert.IloException;
+
+/**
+ * Base class for the CPLEX solvers built on the shared {@link ALPModel}.
+ * Subclasses only choose the objective; the model itself can either be
+ * built per call or shared between several solvers on the same instance.
+ */
+public abstract class ModelSolver implements ALPSolver {
+
+    private final ObjectiveType objectiveType;
+    private ModelOptions options = new ModelOptions();
+
+    protected ModelSolver(ObjectiveType objectiveType) {
+        this.objectiveType = objectiveType;
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        ALPModel model;
+        try {
+            model = new ALPModel(instance, options);
+        } catch (IloException e) {
+            System.err.println("❌ CPLEX Error: " + e.getMessage());
+            throw new RuntimeException("CPLEX error: " + e.getMessage(), e);
+        }
+
+        try {
+            return solve(model);
+        } finally {
+            model.end();
+        }
+    }
+
+    /**
+     * Solves this problem variant on an already built model. The model is
+     * left alive so that other objectives can be solved on it afterwards.
+     * 
+     * @param model The shared model
+     * @return The computed solution
+     */
+    public ALPSolution solve(ALPModel model) {
+        try {
+            System.out.println("Starting " + getName());
+            return model.solve(ObjectiveModule.of(objectiveType));
+        } catch (IloException e) {
+            System.err.println("❌ CPLEX Error: " + e.getMessage());
+            throw new RuntimeException("CPLEX error: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the options used when this solver builds its own model.
+     */
+    public ModelOptions getOptions() {
+        return options;
+    }
+
+    public void setOptions(ModelOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * Returns the objective minimised by this solver.
+     */
+    public ObjectiveType getObjectiveType() {
+        return objectiveType;
+    }
+
+    @Override
+    public String getName() {
+        return objectiveType.getLabel();
+    }
+}
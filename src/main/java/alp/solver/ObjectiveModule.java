@@ -0,0 +1,50 @@
+package alp.solver;
+
+import ilog.concert.IloException;
+import ilog.concert.IloNumExpr;
+
+/**
+ * Objective plugged into a shared {@link ALPModel}. A module adds the
+ * auxiliary variables and constraints its objective needs on top of the
+ * common landing/assignment/separation core, and removes them again when
+ * the model switches to another objective.
+ */
+public interface ObjectiveModule {
+
+    /**
+     * Returns the objective implemented by this module.
+     */
+    ObjectiveType getType();
+
+    /**
+     * Adds the auxiliary variables and constraints of this objective to the
+     * model.
+     * 
+     * @param model The model to extend
+     * @return The expression to minimise
+     */
+    IloNumExpr install(ALPModel model) throws IloException;
+
+    /**
+     * Removes everything added by {@link #install(ALPModel)}.
+     * 
+     * @param model The model this module was installed on
+     */
+    void uninstall(ALPModel model) throws IloException;
+
+    /**
+     * Creates the module for the given objective.
+     */
+    static ObjectiveModule of(ObjectiveType type) {
+        switch (type) {
+            case WEIGHTED_DELAY:
+                return new WeightedDelayObjective();
+            case MAKESPAN:
+                return new MakespanObjective();
+            case TOTAL_LATENESS:
+                return new LatenessObjective();
+            default:
+                throw new IllegalArgumentException("Unknown objective " + type);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.AircraftData;
+
+/**
+ * The three objectives studied in this project. Each constant knows its
+ * display label and how to evaluate a complete schedule, so that solvers
+ * which do not go through CPLEX can report the same objective values.
+ */
+public enum ObjectiveType {
+
+    /** Problem 1: weighted earliness/tardiness with respect to target times. */
+    WEIGHTED_DELAY("Problem 1: Minimizing Weighted Delay", false),
+
+    /** Problem 2: completion time of the last landing. */
+    MAKESPAN("Problem 2: Minimizing Makespan", false),
+
+    /** Problem 3: total lateness at the parking positions. */
+    TOTAL_LATENESS("Problem 3: Minimizing Total Lateness", true);
+
+    private final String label;
+    private final boolean runwayDependent;
+
+    ObjectiveType(String label, boolean runwayDependent) {
+        this.label = label;
+        this.runwayDependent = runwayDependent;
+    }
+
+    /**
+     * Returns the label used as problem variant in {@link alp.model.ALPSolution}.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns true if the cost of a landing depends on the runway it uses
+     * (through the transfer times of Problem 3).
+     */
+    public boolean isRunwayDependent() {
+        return runwayDependent;
+    }
+
+    /**
+     * Evaluates this objective for a complete schedule.
+     * 
+     * @param instance          The ALP instance
+     * @param landingTimes      Landing times for each aircraft
+     * @param runwayAssignments Runway assignments for each aircraft
+     * @return The objective value
+     */
+    public double evaluate(ALPInstance instance, int[] landingTimes, int[] runwayAssignments) {
+        int n = instance.getNumAircraft();
+        double value = 0;
+
+        for (int i = 0; i < n; i++) {
+            AircraftData aircraft = instance.getAircraft().get(i);
+            double cost = landingCost(aircraft, landingTimes[i], runwayAssignments[i]);
+            value = (this == MAKESPAN) ? Math.max(value, cost) : value + cost;
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the contribution of a single landing to a sum objective
+     * (Problems 1 and 3). For the makespan the landing time itself is returned.
+     */
+    public double landingCost(AircraftData aircraft, int landingTime, int runway) {
+        switch (this) {
+            case WEIGHTED_DELAY:
+                return delayCost(landingTime, aircraft.getTargetLandingTime(), aircraft.getEarlyPenalty(),
+                        aircraft.getLatePenalty());
+            case MAKESPAN:
+                return landingTime;
+            case TOTAL_LATENESS:
+                // A_i = T_i as per requirements
+                return latenessCost(landingTime, aircraft.getTransferTime(runway), aircraft.getTargetLandingTime());
+            default:
+                throw new IllegalStateException("Unknown objective " + this);
+        }
+    }
+
+    /**
+     * Problem 1 cost of a landing at time t, for the solvers that keep the
+     * aircraft data in arrays.
+     */
+    static double delayCost(int t, int target, double earlyPenalty, double latePenalty) {
+        return t < target ? earlyPenalty * (target - t) : latePenalty * (t - target);
+    }
+
+    /**
+     * Problem 3 cost of a landing at time t, with the transfer time of its
+     * runway.
+     */
+    static double latenessCost(int t, int transferTime, int target) {
+        return Math.max(0, t + transferTime - target);
+    }
+}
@@ -0,0 +1,143 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.AircraftData;
+
+/**
+ * Preprocessing of aircraft pairs from their time windows.
+ * 
+ * For two aircraft i and j sharing a runway, "i before j" is only possible
+ * if E_i + s_ij <= L_j. When only one order is possible the precedence
+ * variable can be fixed; when neither is, the two aircraft can never share a
+ * runway. Independently, the separation row for i before j can never bind
+ * when L_i + s_ij <= E_j and is dropped.
+ */
+public class PairAnalysis {
+
+    /**
+     * Classification of an unordered pair of aircraft.
+     */
+    public enum PairStatus {
+        /** Both orders are possible: a precedence variable is needed. */
+        AMBIGUOUS,
+        /** Only one order is possible and its separation can still bind. */
+        FORCED_ORDER,
+        /** Only one order is possible and its separation is always satisfied. */
+        SEPARATION_IRRELEVANT,
+        /** Neither order is possible: the aircraft must use different runways. */
+        INCOMPATIBLE
+    }
+
+    private final int n;
+    private final boolean[][] canPrecede; // i can land before j on the same runway
+    private final boolean[][] separationBinds; // x_j >= x_i + s_ij can be violated
+    private final PairStatus[][] status;
+    private final int[] statusCounts = new int[PairStatus.values().length];
+
+    /**
+     * Classifies all pairs of the given instance.
+     */
+    public PairAnalysis(ALPInstance instance) {
+        n = instance.getNumAircraft();
+        canPrecede = new boolean[n][n];
+        separationBinds = new boolean[n][n];
+        status = new PairStatus[n][n];
+
+        for (int i = 0; i < n; i++) {
+            AircraftData a = instance.getAircraft().get(i);
+            for (int j = 0; j < n; j++) {
+                if (i == j) {
+                    continue;
+                }
+                AircraftData b = instance.getAircraft().get(j);
+                int sepTime = instance.getSeparationTime(i, j);
+                canPrecede[i][j] = a.getEarliestLandingTime() + sepTime <= b.getLatestLandingTime();
+                separationBinds[i][j] = a.getLatestLandingTime() + sepTime > b.getEarliestLandingTime();
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                PairStatus s;
+                if (canPrecede[i][j] && canPrecede[j][i]) {
+                    s = PairStatus.AMBIGUOUS;
+                } else if (!canPrecede[i][j] && !canPrecede[j][i]) {
+                    s = PairStatus.INCOMPATIBLE;
+                } else {
+                    boolean binds = canPrecede[i][j] ? separationBinds[i][j] : separationBinds[j][i];
+                    s = binds ? PairStatus.FORCED_ORDER : PairStatus.SEPARATION_IRRELEVANT;
+                }
+                status[i][j] = s;
+                status[j][i] = s;
+                statusCounts[s.ordinal()]++;
+            }
+        }
+    }
+
+    /**
+     * Returns the classification of the pair (i, j).
+     */
+    public PairStatus getStatus(int i, int j) {
+        return status[i][j];
+    }
+
+    /**
+     * Returns true if a precedence variable y_ij is needed for the pair.
+     */
+    public boolean isAmbiguous(int i, int j) {
+        return status[i][j] == PairStatus.AMBIGUOUS;
+    }
+
+    /**
+     * Returns true if i and j can never use the same runway.
+     */
+    public boolean isIncompatible(int i, int j) {
+        return status[i][j] == PairStatus.INCOMPATIBLE;
+    }
+
+    /**
+     * Returns true if i can land before j on the same runway.
+     */
+    public boolean canPrecede(int i, int j) {
+        return canPrecede[i][j];
+    }
+
+    /**
+     * Returns true if i must land before j whenever they share a runway.
+     */
+    public boolean mustPrecede(int i, int j) {
+        return canPrecede[i][j] && !canPrecede[j][i];
+    }
+
+    /**
+     * Returns true if the separation row "j lands at least s_ij after i" is
+     * needed in the model: i can precede j and the row can bind.
+     */
+    public boolean needsSeparation(int i, int j) {
+        return canPrecede[i][j] && separationBinds[i][j];
+    }
+
+    /**
+     * Returns the number of unordered pairs with the given status.
+     */
+    public int count(PairStatus s) {
+        return statusCounts[s.ordinal()];
+    }
+
+    /**
+     * Returns the number of aircraft of the analysed instance.
+     */
+    public int getNumAircraft() {
+        return n;
+    }
+
+    @Override
+    public String toString() {
+        int pairs = n * (n - 1) / 2;
+        return "Pair preprocessing: " + pairs + " pairs, "
+                + count(PairStatus.FORCED_ORDER) + " forced order, "
+                + count(PairStatus.SEPARATION_IRRELEVANT) + " separation irrelevant, "
+                + count(PairStatus.INCOMPATIBLE) + " incompatible, "
+                + count(PairStatus.AMBIGUOUS) + " ambiguous";
+    }
+}
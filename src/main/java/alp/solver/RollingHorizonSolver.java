@@ -0,0 +1,315 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Rolling-horizon decomposition for long planning horizons.
+ *
+ * Aircraft are taken in order of target time. Each window holds the first
+ * windowSize aircraft not yet committed and is solved by an inner
+ * {@link ALPSolver} as an instance of its own. The commitLength earliest
+ * landings of the window are then frozen; the other aircraft of the window
+ * (the overlap) are solved again with the next one. Solve time thus grows
+ * linearly with the number of aircraft for a fixed window size.
+ *
+ * The committed schedule reaches the window through the last committed
+ * landing of each runway, added to the window instance as a fixed aircraft
+ * whose window is reduced to its landing time. Fixed aircraft of different
+ * runways get a separation that keeps them on different runways, and window
+ * aircraft one that keeps them behind the fixed aircraft of their runway, so
+ * that any inner solver respects the boundary. The runways of the inner
+ * schedule are then renumbered to match the committed ones. When the
+ * separation times violate the triangle inequality, earlier committed
+ * landings of a runway that still constrain a window aircraft raise its
+ * separation from the fixed aircraft of that runway, so that they only
+ * apply if it lands there.
+ */
+public class RollingHorizonSolver implements ALPSolver {
+
+    private static final int DEFAULT_WINDOW_SIZE = 20;
+    private static final int DEFAULT_COMMIT_LENGTH = 10;
+
+    private final ALPSolver innerSolver;
+    private final ObjectiveType objectiveType;
+    private int windowSize = DEFAULT_WINDOW_SIZE;
+    private int commitLength = DEFAULT_COMMIT_LENGTH;
+
+    /**
+     * @param innerSolver   Solver used for every window; it must minimise
+     *                      objectiveType
+     * @param objectiveType The objective of the complete schedule
+     */
+    public RollingHorizonSolver(ALPSolver innerSolver, ObjectiveType objectiveType) {
+        this.innerSolver = innerSolver;
+        this.objectiveType = objectiveType;
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        if (commitLength < 1 || commitLength > windowSize) {
+            throw new IllegalArgumentException("Commit length must be between 1 and the window size " + windowSize);
+        }
+        long startTime = System.currentTimeMillis();
+        int n = instance.getNumAircraft();
+        int m = instance.getNumRunways();
+        List<AircraftData> aircraft = instance.getAircraft();
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            pending.add(i);
+        }
+        pending.sort(Comparator.comparingInt((Integer i) -> aircraft.get(i).getTargetLandingTime())
+                .thenComparingInt(i -> aircraft.get(i).getEarliestLandingTime())
+                .thenComparingInt(i -> i));
+
+        System.out.println("Starting rolling horizon for " + objectiveType.getLabel() + " with "
+                + innerSolver.getName() + " (windows of " + windowSize + ", overlap " + getOverlap() + ")...");
+
+        int[] landingTimes = new int[n];
+        int[] runwayAssignments = new int[n];
+        List<List<Integer>> committed = new ArrayList<>();
+        for (int r = 0; r < m; r++) {
+            committed.add(new ArrayList<>());
+        }
+
+        SeparationAnalysis analysis = new SeparationAnalysis(instance);
+
+        int windows = 0;
+        while (!pending.isEmpty()) {
+            List<Integer> window = new ArrayList<>(pending.subList(0, Math.min(windowSize, pending.size())));
+            Window sub = new Window(instance, window, committed, landingTimes, analysis);
+            ALPSolution solution = innerSolver.solve(sub.instance);
+            windows++;
+
+            // Runway of the inner schedule -> runway of the full schedule
+            int[] runwayOf = sub.runwayMapping(solution.getRunwayAssignments());
+
+            // Commit the earliest landings of the window, or all of them at the end
+            int count = pending.size() <= windowSize ? window.size() : Math.min(commitLength, window.size());
+            Integer[] order = new Integer[window.size()];
+            for (int k = 0; k < order.length; k++) {
+                order[k] = k;
+            }
+            Arrays.sort(order, Comparator.comparingInt((Integer k) -> solution.getLandingTime(k))
+                    .thenComparingInt(k -> k));
+            for (int c = 0; c < count; c++) {
+                int k = order[c];
+                int i = window.get(k);
+                landingTimes[i] = solution.getLandingTime(k);
+                runwayAssignments[i] = runwayOf[solution.getRunwayAssignment(k)];
+                committed.get(runwayAssignments[i]).add(i);
+                pending.remove(Integer.valueOf(i));
+            }
+        }
+
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        double objectiveValue = objectiveType.evaluate(instance, landingTimes, runwayAssignments);
+        System.out.println("Rolling horizon finished in " + solveTime + " seconds: " + windows
+                + " windows, objective " + objectiveValue);
+
+        if (ScheduleValidator.validate(instance, landingTimes, runwayAssignments)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Rolling horizon schedule validation failed");
+        }
+        return new ALPSolution(instance, landingTimes, runwayAssignments, objectiveValue, solveTime,
+                objectiveType.getLabel());
+    }
+
+    @Override
+    public String getName() {
+        return "Rolling Horizon (" + innerSolver.getName() + ")";
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Returns the number of aircraft committed after each window.
+     */
+    public int getCommitLength() {
+        return commitLength;
+    }
+
+    public void setCommitLength(int commitLength) {
+        this.commitLength = commitLength;
+    }
+
+    /**
+     * Returns the number of aircraft of a window solved again with the next
+     * one.
+     */
+    public int getOverlap() {
+        return windowSize - commitLength;
+    }
+
+    public void setOverlap(int overlap) {
+        this.commitLength = windowSize - overlap;
+    }
+
+    /**
+     * The instance of one window: its aircraft first, then the last committed
+     * landing of each runway.
+     */
+    private static final class Window {
+        final ALPInstance instance;
+        final int size;
+        final int[] fixedRunway; // runway of each fixed aircraft, by position after the window
+
+        Window(ALPInstance full, List<Integer> window, List<List<Integer>> committed, int[] landingTimes,
+                SeparationAnalysis analysis) {
+            int m = full.getNumRunways();
+            size = window.size();
+            List<Integer> members = new ArrayList<>(window);
+            List<Integer> runways = new ArrayList<>();
+            for (int r = 0; r < m; r++) {
+                List<Integer> onRunway = committed.get(r);
+                if (!onRunway.isEmpty()) {
+                    members.add(onRunway.get(onRunway.size() - 1));
+                    runways.add(r);
+                }
+            }
+            fixedRunway = runways.stream().mapToInt(Integer::intValue).toArray();
+            int total = members.size();
+
+            // Earliest landing of each window aircraft behind the committed landings of each fixed runway
+            int[][] behind = new int[size][fixedRunway.length];
+            for (int k = 0; k < size; k++) {
+                int i = window.get(k);
+                AircraftData a = full.getAircraft().get(i);
+                boolean blocked = fixedRunway.length == m;
+                for (int f = 0; f < fixedRunway.length; f++) {
+                    behind[k][f] = runwayEarliest(full, i, committed.get(fixedRunway[f]), landingTimes,
+                            analysis);
+                    if (Math.max(a.getEarliestLandingTime(), behind[k][f]) <= a.getLatestLandingTime()) {
+                        blocked = false;
+                    }
+                }
+                if (blocked) {
+                    throw new RuntimeException("Rolling horizon: aircraft " + i
+                            + " cannot land after the committed schedule on any runway");
+                }
+            }
+
+            int minTarget = Integer.MAX_VALUE;
+            int maxLatest = 0;
+            for (int i : window) {
+                minTarget = Math.min(minTarget, full.getAircraft().get(i).getTargetLandingTime());
+                maxLatest = Math.max(maxLatest, full.getAircraft().get(i).getLatestLandingTime());
+            }
+
+            List<AircraftData> data = new ArrayList<>();
+            int[][] separation = new int[total][total];
+            int[][] transfer = new int[total][];
+            for (int k = 0; k < total; k++) {
+                int i = members.get(k);
+                AircraftData a = full.getAircraft().get(i);
+                transfer[k] = a.getRunwayTransferTimes().clone();
+                if (k < size) {
+                    data.add(new AircraftData(a.getId(), a.getEarliestLandingTime(), a.getTargetLandingTime(),
+                            a.getLatestLandingTime(), a.getEarlyPenalty(), a.getLatePenalty()));
+                } else {
+                    // Fixed at its landing time, first in target order (its cost is constant)
+                    int t = landingTimes[i];
+                    data.add(new AircraftData(a.getId(), t, Math.min(t, minTarget - 1), t, a.getEarlyPenalty(),
+                            a.getLatePenalty()));
+                    // ... and pushed towards its own runway
+                    for (int r = 0; r < m; r++) {
+                        if (r != fixedRunway[k - size]) {
+                            transfer[k][r] += maxLatest;
+                        }
+                    }
+                }
+            }
+
+            for (int k = 0; k < total; k++) {
+                for (int l = 0; l < total; l++) {
+                    int i = members.get(k);
+                    int j = members.get(l);
+                    if (k == l) {
+                        continue;
+                    }
+                    if (k >= size && l >= size) {
+                        // Fixed aircraft of different runways cannot share one
+                        separation[k][l] = Math.abs(landingTimes[i] - landingTimes[j]) + 1;
+                    } else if (k < size && l >= size) {
+                        // A window aircraft cannot land before a fixed one on its runway
+                        separation[k][l] = Math.max(full.getSeparationTime(i, j),
+                                landingTimes[j] - data.get(k).getEarliestLandingTime() + 1);
+                    } else if (k >= size) {
+                        // ... and lands behind every committed landing of that runway
+                        separation[k][l] = behind[l][k - size] - landingTimes[i];
+                    } else {
+                        separation[k][l] = full.getSeparationTime(i, j);
+                    }
+                }
+            }
+
+            instance = new ALPInstance(data, separation, m, full.getInstanceName(), transfer);
+        }
+
+        /**
+         * Earliest landing time of window aircraft i behind the committed
+         * landings of one runway. With the triangle inequality the last
+         * landing always dominates; otherwise earlier landings are scanned
+         * until they are more than the largest separation before it.
+         */
+        private int runwayEarliest(ALPInstance full, int i, List<Integer> onRunway, int[] landingTimes,
+                SeparationAnalysis analysis) {
+            int last = onRunway.get(onRunway.size() - 1);
+            int earliest = landingTimes[last] + full.getSeparationTime(last, i);
+            if (analysis.isTriangle()) {
+                return earliest;
+            }
+            int maxSeparation = analysis.getMaxSeparation();
+            for (int p = onRunway.size() - 2; p >= 0; p--) {
+                int c = onRunway.get(p);
+                earliest = Math.max(earliest, landingTimes[c] + full.getSeparationTime(c, i));
+                if (landingTimes[last] - landingTimes[c] > maxSeparation) {
+                    break;
+                }
+            }
+            return earliest;
+        }
+
+        /**
+         * Maps the runways of the inner schedule to the full schedule: the
+         * runway of each fixed aircraft to its committed runway, the others in
+         * order to the remaining ones.
+         */
+        int[] runwayMapping(int[] innerRunways) {
+            int m = instance.getNumRunways();
+            int[] mapping = new int[m];
+            Arrays.fill(mapping, -1);
+            boolean[] used = new boolean[m];
+            for (int f = 0; f < fixedRunway.length; f++) {
+                mapping[innerRunways[size + f]] = fixedRunway[f];
+                used[fixedRunway[f]] = true;
+            }
+            int next = 0;
+            for (int r = 0; r < m; r++) {
+                if (mapping[r] < 0) {
+                    while (used[next]) {
+                        next++;
+                    }
+                    mapping[r] = next;
+                    used[next] = true;
+                }
+            }
+            return mapping;
+        }
+    }
+}
@@ -0,0 +1,459 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.AircraftData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Per-runway landing sequences with their landing times and runway costs,
+ * shared by the local search solvers.
+ *
+ * A move is applied to the sequences in place and the touched runways are
+ * retimed by the {@link TimingEngine} into a candidate buffer; the caller
+ * then either commits or undoes it. For Problems 2 and 3 only the suffix
+ * of a touched runway is retimed, up to the first landing that keeps its
+ * time, and the runway cost is updated by difference. For Problem 1 the
+ * optimal times of a prefix depend on the aircraft behind it, so touched
+ * runways are retimed completely, in linear time.
+ *
+ * The search works on an energy: the objective, plus for Problem 2 the sum
+ * of the runway makespans scaled to less than one time unit, so that moves
+ * shortening a runway other than the longest one are not neutral.
+ */
+class RunwaySequences {
+
+    // Move types
+    static final int SWAP = 0;         // two aircraft of one runway
+    static final int INSERT = 1;       // one aircraft to another position of its runway
+    static final int SWAP_RUNWAYS = 2; // two aircraft of different runways
+    static final int MOVE_RUNWAY = 3;  // one aircraft to another runway
+
+    private final ObjectiveType type;
+    private final List<AircraftData> aircraft;
+    private final TimingEngine engine;
+    private final int n;
+    private final int m;
+    private final double secondaryWeight;
+
+    private final int[][] sequences;
+    private final int[] lengths;
+    private final int[] landingTimes;
+    private final int[] runwayOf;
+    private final double[] runwayCost;
+
+    // Candidate times and the retimed position range of each touched runway
+    private final int[] newTimes;
+    private final int[] retimedFrom;
+    private final int[] retimedTo;
+    private final double[] newCost;
+
+    // Last move, for commit and undo
+    private int moveType = -1;
+    private int moveRunway1;
+    private int movePosition1;
+    private int moveRunway2;
+    private int movePosition2;
+    private int moveAircraft1;
+    private int moveAircraft2;
+
+    RunwaySequences(ALPInstance instance, ObjectiveType type) {
+        this(instance, type, new SeparationAnalysis(instance));
+    }
+
+    RunwaySequences(ALPInstance instance, ObjectiveType type, SeparationAnalysis separations) {
+        this.type = type;
+        aircraft = instance.getAircraft();
+        n = instance.getNumAircraft();
+        m = instance.getNumRunways();
+        engine = new TimingEngine(instance, type, separations);
+
+        int maxLatest = 0;
+        for (AircraftData a : aircraft) {
+            maxLatest = Math.max(maxLatest, a.getLatestLandingTime());
+        }
+        secondaryWeight = 1.0 / (m * (maxLatest + 1.0));
+
+        sequences = new int[m][n];
+        lengths = new int[m];
+        landingTimes = new int[n];
+        runwayOf = new int[n];
+        runwayCost = new double[m];
+        newTimes = new int[n];
+        retimedFrom = new int[m];
+        retimedTo = new int[m];
+        newCost = new double[m];
+    }
+
+    /**
+     * Replaces the state by the sequences of a schedule (in the order of its
+     * landing times) and retimes every runway. Runways that the engine cannot
+     * time (only possible without the triangle inequality) keep the given
+     * times.
+     */
+    void load(int[] times, int[] runways) {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            order.add(i);
+        }
+        order.sort((i, j) -> times[i] != times[j] ? Integer.compare(times[i], times[j]) : Integer.compare(i, j));
+
+        for (int r = 0; r < m; r++) {
+            lengths[r] = 0;
+        }
+        for (int i : order) {
+            int r = runways[i];
+            runwayOf[i] = r;
+            sequences[r][lengths[r]++] = i;
+        }
+
+        for (int r = 0; r < m; r++) {
+            runwayCost[r] = engine.timeRunway(sequences[r], lengths[r], r, landingTimes);
+            if (runwayCost[r] == Double.POSITIVE_INFINITY) {
+                runwayCost[r] = 0;
+                for (int p = 0; p < lengths[r]; p++) {
+                    int j = sequences[r][p];
+                    landingTimes[j] = times[j];
+                    double cost = type.landingCost(aircraft.get(j), times[j], r);
+                    runwayCost[r] = type == ObjectiveType.MAKESPAN ? Math.max(runwayCost[r], cost)
+                            : runwayCost[r] + cost;
+                }
+            }
+        }
+        moveType = -1;
+    }
+
+    int getNumAircraft() {
+        return n;
+    }
+
+    int getNumRunways() {
+        return m;
+    }
+
+    int getLength(int r) {
+        return lengths[r];
+    }
+
+    int getLandingTime(int i) {
+        return landingTimes[i];
+    }
+
+    /**
+     * Copies the current schedule into the given arrays.
+     */
+    void copyTo(int[] times, int[] runways) {
+        System.arraycopy(landingTimes, 0, times, 0, n);
+        System.arraycopy(runwayOf, 0, runways, 0, n);
+    }
+
+    double objective() {
+        return type == ObjectiveType.MAKESPAN ? max(runwayCost) : sum(runwayCost);
+    }
+
+    double energy() {
+        return energy(runwayCost);
+    }
+
+    int getMoveType() {
+        return moveType;
+    }
+
+    int getMoveRunway1() {
+        return moveRunway1;
+    }
+
+    int getMovePosition1() {
+        return movePosition1;
+    }
+
+    int getMoveRunway2() {
+        return moveRunway2;
+    }
+
+    int getMovePosition2() {
+        return movePosition2;
+    }
+
+    /**
+     * Returns the aircraft taken from (runway1, position1) by the last move.
+     */
+    int getMoveAircraft1() {
+        return moveAircraft1;
+    }
+
+    /**
+     * Returns the other aircraft moved by the last swap, or -1.
+     */
+    int getMoveAircraft2() {
+        return moveAircraft2;
+    }
+
+    /**
+     * Applies a random move: an aircraft is chosen uniformly; with the given
+     * probability (and more than one runway) it goes to another runway near
+     * its landing time, otherwise it is swapped or moved within at most
+     * neighbourhood positions of its runway. Swaps and insertions are
+     * equally likely.
+     *
+     * @return The energy after the move, or positive infinity if it is
+     *         infeasible; commit() or undo() must follow
+     */
+    double randomMove(Random random, int neighbourhood, double runwayProbability) {
+        int k = random.nextInt(n);
+        int r1 = 0;
+        while (k >= lengths[r1]) {
+            k -= lengths[r1++];
+        }
+        int p = k;
+        boolean swap = random.nextBoolean();
+
+        if (m > 1 && random.nextDouble() < runwayProbability) {
+            int r2 = random.nextInt(m - 1);
+            if (r2 >= r1) {
+                r2++;
+            }
+            int q = insertionPoint(r2, landingTimes[sequences[r1][p]]) + random.nextInt(5) - 2;
+            if (swap && lengths[r2] > 0) {
+                return apply(SWAP_RUNWAYS, r1, p, r2, Math.max(0, Math.min(lengths[r2] - 1, q)));
+            }
+            return apply(MOVE_RUNWAY, r1, p, r2, Math.max(0, Math.min(lengths[r2], q)));
+        }
+
+        int q = Math.max(0, Math.min(lengths[r1] - 1, p + random.nextInt(2 * neighbourhood + 1) - neighbourhood));
+        return apply(swap ? SWAP : INSERT, r1, p, r1, q);
+    }
+
+    /**
+     * Applies a move and retimes the touched runways.
+     *
+     * @param moveType One of SWAP, INSERT, SWAP_RUNWAYS, MOVE_RUNWAY
+     * @param r1       Runway of the moved aircraft
+     * @param p        Its position
+     * @param r2       Target runway (r1 for SWAP and INSERT)
+     * @param q        Target position
+     * @return The energy after the move, or positive infinity if it is
+     *         infeasible or void; commit() or undo() must follow
+     */
+    double apply(int moveType, int r1, int p, int r2, int q) {
+        boolean sameRunway = moveType == SWAP || moveType == INSERT;
+        if ((sameRunway && (r1 != r2 || p == q)) || (!sameRunway && r1 == r2)) {
+            this.moveType = -1;
+            return Double.POSITIVE_INFINITY;
+        }
+
+        this.moveType = moveType;
+        moveRunway1 = r1;
+        movePosition1 = p;
+        moveRunway2 = r2;
+        movePosition2 = q;
+        moveAircraft1 = sequences[r1][p];
+        moveAircraft2 = -1;
+        retimedTo[r1] = -1;
+        retimedTo[r2] = -1;
+        System.arraycopy(runwayCost, 0, newCost, 0, m);
+        int a = moveAircraft1;
+
+        switch (moveType) {
+            case SWAP:
+            case INSERT: {
+                if (moveType == SWAP) {
+                    moveAircraft2 = sequences[r1][q];
+                    swap(sequences[r1], p, sequences[r1], q);
+                } else {
+                    move(sequences[r1], p, q);
+                }
+                boolean feasible = retime(r1, Math.min(p, q), Math.max(p, q) + 1, -1);
+                return feasible ? energy(newCost) : Double.POSITIVE_INFINITY;
+            }
+            case SWAP_RUNWAYS: {
+                int b = sequences[r2][q];
+                moveAircraft2 = b;
+                swap(sequences[r1], p, sequences[r2], q);
+                runwayOf[b] = r1;
+                runwayOf[a] = r2;
+                if (type == ObjectiveType.TOTAL_LATENESS) {
+                    newCost[r1] -= type.landingCost(aircraft.get(a), landingTimes[a], r1);
+                    newCost[r2] -= type.landingCost(aircraft.get(b), landingTimes[b], r2);
+                }
+                boolean feasible = retime(r1, p, p + 1, b) && retime(r2, q, q + 1, a);
+                return feasible ? energy(newCost) : Double.POSITIVE_INFINITY;
+            }
+            default: {
+                System.arraycopy(sequences[r1], p + 1, sequences[r1], p, lengths[r1] - p - 1);
+                lengths[r1]--;
+                System.arraycopy(sequences[r2], q, sequences[r2], q + 1, lengths[r2] - q);
+                sequences[r2][q] = a;
+                lengths[r2]++;
+                runwayOf[a] = r2;
+
+                // The aircraft leaves the cost of its former runway
+                if (type == ObjectiveType.TOTAL_LATENESS) {
+                    newCost[r1] -= type.landingCost(aircraft.get(a), landingTimes[a], r1);
+                }
+                boolean feasible = retime(r1, p, p, -1) && retime(r2, q, q + 1, a);
+                return feasible ? energy(newCost) : Double.POSITIVE_INFINITY;
+            }
+        }
+    }
+
+    /**
+     * Retimes runway r after a change starting at position from, and stores
+     * its new cost in newCost. The aircraft arriving from another runway, if
+     * any, had no cost on r (its cost on its former runway is removed by the
+     * caller). Returns false if infeasible.
+     */
+    private boolean retime(int r, int from, int stableFrom, int arriving) {
+        int[] sequence = sequences[r];
+        if (type == ObjectiveType.WEIGHTED_DELAY) {
+            double cost = engine.timeRunway(sequence, lengths[r], r, newTimes);
+            retimedFrom[r] = 0;
+            retimedTo[r] = lengths[r];
+            newCost[r] = cost;
+            return cost != Double.POSITIVE_INFINITY;
+        }
+
+        int to = engine.retimeSuffix(sequence, lengths[r], from, stableFrom, landingTimes, newTimes);
+        if (to < 0) {
+            return false;
+        }
+        retimedFrom[r] = from;
+        retimedTo[r] = to;
+
+        if (type == ObjectiveType.MAKESPAN) {
+            int length = lengths[r];
+            if (length == 0) {
+                newCost[r] = 0;
+            } else {
+                int last = sequence[length - 1];
+                newCost[r] = to == length && length > from ? newTimes[last] : landingTimes[last];
+            }
+        } else {
+            for (int p = from; p < to; p++) {
+                int j = sequence[p];
+                newCost[r] += type.landingCost(aircraft.get(j), newTimes[j], r);
+                if (j != arriving) {
+                    newCost[r] -= type.landingCost(aircraft.get(j), landingTimes[j], r);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Keeps the last move and its landing times.
+     */
+    void commit() {
+        commitRunway(moveRunway1);
+        if (moveRunway2 != moveRunway1) {
+            commitRunway(moveRunway2);
+        }
+        System.arraycopy(newCost, 0, runwayCost, 0, m);
+        moveType = -1;
+    }
+
+    private void commitRunway(int r) {
+        for (int p = retimedFrom[r]; p < retimedTo[r]; p++) {
+            int j = sequences[r][p];
+            landingTimes[j] = newTimes[j];
+        }
+    }
+
+    /**
+     * Restores the sequences as they were before the last move.
+     */
+    void undo() {
+        int r1 = moveRunway1;
+        int r2 = moveRunway2;
+        int p = movePosition1;
+        int q = movePosition2;
+        switch (moveType) {
+            case SWAP:
+                swap(sequences[r1], p, sequences[r1], q);
+                break;
+            case INSERT:
+                move(sequences[r1], q, p);
+                break;
+            case SWAP_RUNWAYS:
+                swap(sequences[r1], p, sequences[r2], q);
+                runwayOf[sequences[r1][p]] = r1;
+                runwayOf[sequences[r2][q]] = r2;
+                break;
+            case MOVE_RUNWAY: {
+                int a = sequences[r2][q];
+                System.arraycopy(sequences[r2], q + 1, sequences[r2], q, lengths[r2] - q - 1);
+                lengths[r2]--;
+                System.arraycopy(sequences[r1], p, sequences[r1], p + 1, lengths[r1] - p);
+                sequences[r1][p] = a;
+                lengths[r1]++;
+                runwayOf[a] = r1;
+                break;
+            }
+            default:
+                break;
+        }
+        moveType = -1;
+    }
+
+    /**
+     * Returns the first position of runway r whose landing is after time.
+     */
+    int insertionPoint(int r, int time) {
+        int low = 0;
+        int high = lengths[r];
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (landingTimes[sequences[r][mid]] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private double energy(double[] costs) {
+        if (type == ObjectiveType.MAKESPAN) {
+            return max(costs) + secondaryWeight * sum(costs);
+        }
+        return sum(costs);
+    }
+
+    private static void swap(int[] a, int i, int[] b, int j) {
+        int tmp = a[i];
+        a[i] = b[j];
+        b[j] = tmp;
+    }
+
+    /**
+     * Moves the element at position from to position to, shifting the ones
+     * in between.
+     */
+    private static void move(int[] a, int from, int to) {
+        int value = a[from];
+        if (from < to) {
+            System.arraycopy(a, from + 1, a, from, to - from);
+        } else {
+            System.arraycopy(a, to, a, to + 1, from - to);
+        }
+        a[to] = value;
+    }
+
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double v : values) {
+            total += v;
+        }
+        return total;
+    }
+
+    private static double max(double[] values) {
+        double result = 0;
+        for (double v : values) {
+            result = Math.max(result, v);
+        }
+        return result;
+    }
+}
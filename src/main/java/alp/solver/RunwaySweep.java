@@ -0,0 +1,171 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+import alp.model.AircraftData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Solves an instance for 1, 2, ..., maxRunways runways incrementally.
+ * 
+ * A schedule for r runways is feasible for r+1 runways, so each solution is
+ * passed to the next runway count as MIP start and cutoff. For Problems 1
+ * and 2 the optimum can only decrease with more runways: once a schedule
+ * reaches the trivial lower bound of the objective, the remaining runway
+ * counts are answered without solving. For each runway count a single
+ * {@link ALPModel} is shared by all requested objectives, and results are
+ * streamed to a listener as soon as they are available. A solve that fails
+ * is recorded in {@link #getFailures()} and the sweep goes on with the next
+ * objective or runway count, warm-started from the last schedule found.
+ */
+public class RunwaySweep {
+
+    // Tolerance used when comparing a schedule to the lower bound
+    private static final double EPSILON = 1e-6;
+
+    private final ModelOptions options;
+    private final ObjectiveType[] types;
+    private final List<String> failures = new ArrayList<>();
+
+    /**
+     * @param options Options for the models of every runway count
+     * @param types   The objectives to solve for each runway count
+     */
+    public RunwaySweep(ModelOptions options, ObjectiveType... types) {
+        this.options = options;
+        this.types = types;
+    }
+
+    /**
+     * Runs the sweep. The thread's interrupt flag is checked between solves.
+     * 
+     * @param base       The instance (its own runway count is ignored)
+     * @param maxRunways The largest runway count to solve
+     * @param listener   Receives each solution as soon as it is found
+     * @return All solutions, by runway count then objective
+     */
+    public List<ALPSolution> sweep(ALPInstance base, int maxRunways, Consumer<ALPSolution> listener) {
+        return sweep(base, maxRunways, listener, () -> Thread.currentThread().isInterrupted());
+    }
+
+    /**
+     * Runs the sweep, stopping between solves once cancelled returns true.
+     * 
+     * @param base       The instance (its own runway count is ignored)
+     * @param maxRunways The largest runway count to solve
+     * @param listener   Receives each solution as soon as it is found
+     * @param cancelled  Checked before each runway count and objective
+     * @return All solutions, by runway count then objective
+     */
+    public List<ALPSolution> sweep(ALPInstance base, int maxRunways, Consumer<ALPSolution> listener,
+            BooleanSupplier cancelled) {
+        List<ALPSolution> results = new ArrayList<>();
+        ALPSolution[] previous = new ALPSolution[types.length];
+        long startTime = System.currentTimeMillis();
+        failures.clear();
+
+        for (int r = 1; r <= maxRunways && !cancelled.getAsBoolean(); r++) {
+            ALPInstance instance = base.withRunways(r);
+            ALPModel model = null;
+
+            try {
+                for (int t = 0; t < types.length && !cancelled.getAsBoolean(); t++) {
+                    ObjectiveType type = types[t];
+                    ALPSolution carried = previous[t] != null ? carryOver(previous[t], instance, type) : null;
+                    ALPSolution solution;
+
+                    if (carried != null && isProvenOptimal(previous[t])
+                            && carried.getObjectiveValue() <= lowerBound(instance, type) + EPSILON) {
+                        // Already at the lower bound: more runways cannot help
+                        System.out.println("Runway sweep: " + r + " runways, " + type.getLabel()
+                                + " reaches its lower bound, reusing the previous schedule");
+                        carried.setMipGap(0);
+                        solution = carried;
+                    } else {
+                        try {
+                            if (model == null) {
+                                model = new ALPModel(instance, options);
+                            }
+                            solution = model.solve(ObjectiveModule.of(type), carried);
+                        } catch (Exception e) {
+                            String failure = r + " runways, " + type.getLabel() + ": " + e.getMessage();
+                            System.out.println("❌ Runway sweep failed for " + failure);
+                            failures.add(failure);
+                            continue;
+                        }
+                    }
+
+                    previous[t] = solution;
+                    results.add(solution);
+                    listener.accept(solution);
+                }
+            } finally {
+                if (model != null) {
+                    model.end();
+                }
+            }
+        }
+
+        System.out.println("Runway sweep finished in " + (System.currentTimeMillis() - startTime) / 1000.0
+                + " seconds");
+        return results;
+    }
+
+    /**
+     * Returns the solves of the last sweep that failed, as "runway count,
+     * objective: error" messages.
+     */
+    public List<String> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Re-evaluates a schedule of the previous runway count on the new
+     * instance (Problem 3 transfer times differ between runway counts).
+     * The gap is left unknown: the previous proof does not carry over.
+     */
+    private static ALPSolution carryOver(ALPSolution solution, ALPInstance instance, ObjectiveType type) {
+        int[] landingTimes = solution.getLandingTimes().clone();
+        int[] runwayAssignments = solution.getRunwayAssignments().clone();
+        return new ALPSolution(instance, landingTimes, runwayAssignments,
+                type.evaluate(instance, landingTimes, runwayAssignments), 0, type.getLabel());
+    }
+
+    private static boolean isProvenOptimal(ALPSolution solution) {
+        return !Double.isNaN(solution.getMipGap()) && solution.getMipGap() <= EPSILON;
+    }
+
+    /**
+     * Returns a lower bound valid for any runway count: no penalty for
+     * Problem 1, the largest earliest landing time for Problem 2, and each
+     * aircraft landing at its earliest time on its fastest runway for
+     * Problem 3.
+     */
+    static double lowerBound(ALPInstance instance, ObjectiveType type) {
+        double bound = 0;
+        for (AircraftData aircraft : instance.getAircraft()) {
+            switch (type) {
+                case WEIGHTED_DELAY:
+                    break;
+                case MAKESPAN:
+                    bound = Math.max(bound, aircraft.getEarliestLandingTime());
+                    break;
+                case TOTAL_LATENESS: {
+                    int fastest = Integer.MAX_VALUE;
+                    for (int r = 0; r < instance.getNumRunways(); r++) {
+                        fastest = Math.min(fastest, aircraft.getTransferTime(r));
+                    }
+                    bound += Math.max(0, aircraft.getEarliestLandingTime() + fastest
+                            - aircraft.getTargetLandingTime());
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown objective " + type);
+            }
+        }
+        return bound;
+    }
+}
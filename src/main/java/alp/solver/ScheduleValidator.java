@@ -0,0 +1,72 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.AircraftData;
+
+/**
+ * Feasibility checks shared by all solvers.
+ */
+public class ScheduleValidator {
+
+    /**
+     * Validates that a solution respects all time window and separation time
+     * constraints.
+     * 
+     * @param instance          The ALP instance
+     * @param landingTimes      Landing times for each aircraft
+     * @param runwayAssignments Runway assignments for each aircraft
+     * @return true if the solution is valid, false otherwise
+     */
+    public static boolean validate(ALPInstance instance, int[] landingTimes, int[] runwayAssignments) {
+        int n = instance.getNumAircraft();
+
+        // Check time window constraints
+        for (int i = 0; i < n; i++) {
+            AircraftData aircraft = instance.getAircraft().get(i);
+            if (landingTimes[i] < aircraft.getEarliestLandingTime() ||
+                    landingTimes[i] > aircraft.getLatestLandingTime()) {
+                System.err.println("Time window violation for aircraft " + i + ": " +
+                        landingTimes[i] + " not in [" +
+                        aircraft.getEarliestLandingTime() + ", " +
+                        aircraft.getLatestLandingTime() + "]");
+                return false;
+            }
+        }
+
+        // Check separation constraints
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j && runwayAssignments[i] == runwayAssignments[j]) {
+                    // Aircraft on the same runway need separation
+                    if (landingTimes[i] < landingTimes[j]) {
+                        int sepTime = instance.getSeparationTime(i, j);
+                        if (landingTimes[j] < landingTimes[i] + sepTime) {
+                            System.err.println("Separation time violation between aircraft " +
+                                    i + " and " + j + " on runway " + runwayAssignments[i] +
+                                    ": " + landingTimes[j] + " < " + landingTimes[i] +
+                                    " + " + sepTime);
+                            return false;
+                        }
+                    } else if (landingTimes[j] < landingTimes[i]) {
+                        int sepTime = instance.getSeparationTime(j, i);
+                        if (landingTimes[i] < landingTimes[j] + sepTime) {
+                            System.err.println("Separation time violation between aircraft " +
+                                    j + " and " + i + " on runway " + runwayAssignments[i] +
+                                    ": " + landingTimes[i] + " < " + landingTimes[j] +
+                                    " + " + sepTime);
+                            return false;
+                        }
+                    } else {
+                        // Same landing time is always a violation
+                        System.err.println("Aircraft " + i + " and " + j +
+                                " have same landing time " + landingTimes[i] +
+                                " on runway " + runwayAssignments[i]);
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+}
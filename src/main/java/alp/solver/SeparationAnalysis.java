@@ -0,0 +1,107 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+
+/**
+ * Structure of the separation matrix of an instance: whether it satisfies
+ * the triangle inequality, and otherwise how many previous landings of a
+ * runway each landing must be checked against.
+ *
+ * The triangle check is cubic, so it is done once per instance and the
+ * analysis is passed to every {@link TimingEngine} and solver that needs
+ * it instead of being repeated.
+ */
+public class SeparationAnalysis {
+
+    // Largest instance whose separation matrix is checked for the triangle
+    // inequality; larger ones use the lookback
+    private static final int TRIANGLE_CHECK_LIMIT = 1000;
+
+    private final int numAircraft;
+    private final boolean triangle;
+    private final int lookback;
+    private final int minSeparation;
+    private final int maxSeparation;
+
+    /**
+     * Analyses the separation matrix of the given instance.
+     */
+    public SeparationAnalysis(ALPInstance instance) {
+        int[][] separation = instance.getSeparationTimes();
+        int n = instance.getNumAircraft();
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (i != j) {
+                    min = Math.min(min, separation[i][j]);
+                    max = Math.max(max, separation[i][j]);
+                }
+            }
+        }
+        numAircraft = n;
+        minSeparation = min == Integer.MAX_VALUE ? 0 : min;
+        maxSeparation = max;
+
+        triangle = n <= TRIANGLE_CHECK_LIMIT && satisfiesTriangleInequality(separation);
+        if (triangle || n < 2) {
+            lookback = 1;
+        } else if (minSeparation <= 0) {
+            lookback = n;
+        } else {
+            lookback = Math.min(n, (maxSeparation + minSeparation - 1) / minSeparation);
+        }
+    }
+
+    /**
+     * Returns true if s_ik <= s_ij + s_jk for all distinct i, j and k.
+     */
+    public static boolean satisfiesTriangleInequality(int[][] separation) {
+        int n = separation.length;
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                if (j == i) {
+                    continue;
+                }
+                for (int k = 0; k < n; k++) {
+                    if (k != i && k != j && separation[i][k] > separation[i][j] + separation[j][k]) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the triangle inequality was checked and holds, so that
+     * only consecutive landings of a runway need to be checked.
+     */
+    public boolean isTriangle() {
+        return triangle;
+    }
+
+    /**
+     * Returns the number of previous landings of a runway that each landing
+     * is checked against: 1 under the triangle inequality, otherwise the
+     * distance at which the minimum separations add up to the maximum one.
+     */
+    public int getLookback() {
+        return lookback;
+    }
+
+    public int getMinSeparation() {
+        return minSeparation;
+    }
+
+    public int getMaxSeparation() {
+        return maxSeparation;
+    }
+
+    /**
+     * Returns the number of aircraft of the analysed instance.
+     */
+    public int getNumAircraft() {
+        return numAircraft;
+    }
+}
@@ -0,0 +1,232 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+
+import java.util.Random;
+
+/**
+ * Simulated annealing over per-runway landing sequences, for the three
+ * objectives.
+ *
+ * The neighbourhoods are: swapping two aircraft (on one runway or across
+ * two), moving an aircraft to another position of its runway, and moving it
+ * to another runway near the same landing time. Moves are evaluated
+ * incrementally by {@link RunwaySequences}.
+ *
+ * The search starts from the greedy schedule and cools geometrically over
+ * a budget of moves, so that the seed and the move budget fix the whole
+ * run. The wall-clock budget only stops it early: a run cut by the clock
+ * is a prefix of the full one. With a target gap, the run also stops once
+ * the best schedule is within that gap of the {@link LagrangianBound},
+ * which is then attached to the solution.
+ */
+public class SimulatedAnnealingSolver implements ALPSolver {
+
+    // Default wall-clock budget, for operational re-planning
+    private static final double DEFAULT_TIME_LIMIT_SECONDS = 1.0;
+
+    // Largest position distance of a move on one runway
+    private static final int NEIGHBOURHOOD = 8;
+
+    // Share of moves sending an aircraft to another runway
+    private static final double RUNWAY_MOVE_PROBABILITY = 1.0 / 3;
+
+    // Probability of accepting an average uphill move at the start
+    private static final double INITIAL_ACCEPTANCE = 0.3;
+
+    // Default number of moves over which the temperature cools
+    private static final long DEFAULT_MOVE_LIMIT = 500_000;
+
+    // Final temperature relative to the initial one
+    private static final double FINAL_TEMPERATURE_RATIO = 1e-4;
+
+    // Number of moves between two temperature updates and clock readings
+    private static final int CLOCK_INTERVAL = 256;
+
+    private final ObjectiveType objectiveType;
+    private double timeLimit = DEFAULT_TIME_LIMIT_SECONDS;
+    private long moveLimit = DEFAULT_MOVE_LIMIT;
+    private double targetGap = Double.NaN;
+    private long seed = 42;
+
+    public SimulatedAnnealingSolver(ObjectiveType objectiveType) {
+        this.objectiveType = objectiveType;
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        long startTime = System.currentTimeMillis();
+        ALPSolution start = GreedyHeuristic.construct(instance, objectiveType);
+        if (start == null) {
+            throw new RuntimeException("Simulated annealing needs a feasible start, greedy heuristic found none");
+        }
+
+        // Bound of the gap stop, if any
+        double lowerBound = Double.isNaN(targetGap) ? Double.NaN
+                : LagrangianBound.forGapStop(instance, objectiveType, start.getObjectiveValue(), timeLimit);
+        double stoppingValue = Double.isNaN(targetGap) ? Double.NEGATIVE_INFINITY
+                : LagrangianBound.stoppingValue(lowerBound, targetGap);
+
+        Annealer annealer = new Annealer(instance, objectiveType, start, new Random(seed));
+        System.out.println("Starting simulated annealing for " + objectiveType.getLabel() + " (start "
+                + annealer.objective() + ", budget " + moveLimit + " moves or " + timeLimit + " s, seed " + seed
+                + ")...");
+        long moves = annealer.run(moveLimit, startTime + (long) (timeLimit * 1000), stoppingValue);
+
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        int[] landingTimes = annealer.bestTimes;
+        int[] runwayAssignments = annealer.bestRunways;
+        double objectiveValue = objectiveType.evaluate(instance, landingTimes, runwayAssignments);
+        System.out.println("Simulated annealing finished in " + solveTime + " seconds: " + moves
+                + " moves, objective " + objectiveValue);
+
+        if (ScheduleValidator.validate(instance, landingTimes, runwayAssignments)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Simulated annealing schedule validation failed");
+        }
+        ALPSolution solution = new ALPSolution(instance, landingTimes, runwayAssignments, objectiveValue, solveTime,
+                objectiveType.getLabel());
+        if (!Double.isNaN(lowerBound)) {
+            LagrangianBound.attach(solution, lowerBound);
+        }
+        return solution;
+    }
+
+    @Override
+    public String getName() {
+        return "Simulated Annealing: " + objectiveType.getLabel();
+    }
+
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    public void setTimeLimit(double timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    public long getMoveLimit() {
+        return moveLimit;
+    }
+
+    /**
+     * Sets the number of moves over which the temperature cools.
+     */
+    public void setMoveLimit(long moveLimit) {
+        this.moveLimit = moveLimit;
+    }
+
+    public double getTargetGap() {
+        return targetGap;
+    }
+
+    /**
+     * Sets the relative gap to the Lagrangian bound at which the run stops
+     * (NaN, the default, to run the whole budget without a bound).
+     */
+    public void setTargetGap(double targetGap) {
+        this.targetGap = targetGap;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Annealing loop over the sequences of one schedule.
+     */
+    private static final class Annealer {
+        private final RunwaySequences state;
+        private final Random random;
+        private final int n;
+
+        int[] bestTimes;
+        int[] bestRunways;
+        private double bestEnergy;
+        private double bestObjective; // differs from the energy for the makespan
+
+        Annealer(ALPInstance instance, ObjectiveType type, ALPSolution start, Random random) {
+            this.random = random;
+            n = instance.getNumAircraft();
+            state = new RunwaySequences(instance, type);
+            state.load(start.getLandingTimes(), start.getRunwayAssignments());
+
+            bestTimes = new int[n];
+            bestRunways = new int[n];
+            state.copyTo(bestTimes, bestRunways);
+            bestEnergy = state.energy();
+            bestObjective = state.objective();
+        }
+
+        double objective() {
+            return state.objective();
+        }
+
+        /**
+         * Runs the annealing for the given number of moves, until the
+         * deadline, or until the best objective reaches stoppingValue. Returns
+         * the number of moves.
+         */
+        long run(long moveLimit, long deadline, double stoppingValue) {
+            double initial = initialTemperature();
+            double temperature = initial;
+            long moves = 0;
+
+            while (moves < moveLimit) {
+                if (moves % CLOCK_INTERVAL == 0) {
+                    if (System.currentTimeMillis() >= deadline || bestObjective <= stoppingValue) {
+                        return moves;
+                    }
+                    double progress = (double) moves / moveLimit;
+                    temperature = initial * Math.pow(FINAL_TEMPERATURE_RATIO, progress);
+                }
+                moves++;
+
+                double current = state.energy();
+                double candidate = state.randomMove(random, NEIGHBOURHOOD, RUNWAY_MOVE_PROBABILITY);
+                if (candidate == Double.POSITIVE_INFINITY) {
+                    state.undo();
+                    continue;
+                }
+                double delta = candidate - current;
+                if (delta <= 0 || random.nextDouble() < Math.exp(-delta / temperature)) {
+                    state.commit();
+                    if (candidate < bestEnergy - 1e-9) {
+                        bestEnergy = candidate;
+                        bestObjective = state.objective();
+                        state.copyTo(bestTimes, bestRunways);
+                    }
+                } else {
+                    state.undo();
+                }
+            }
+            return moves;
+        }
+
+        /**
+         * Temperature at which an average uphill move among random samples is
+         * accepted with probability INITIAL_ACCEPTANCE.
+         */
+        private double initialTemperature() {
+            double current = state.energy();
+            double uphill = 0;
+            int count = 0;
+            for (int k = 0; k < 200; k++) {
+                double candidate = state.randomMove(random, NEIGHBOURHOOD, RUNWAY_MOVE_PROBABILITY);
+                if (candidate != Double.POSITIVE_INFINITY && candidate > current) {
+                    uphill += candidate - current;
+                    count++;
+                }
+                state.undo();
+            }
+            return count == 0 ? 1 : -(uphill / count) / Math.log(INITIAL_ACCEPTANCE);
+        }
+    }
+}
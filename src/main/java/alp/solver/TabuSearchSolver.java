@@ -0,0 +1,361 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.ALPSolution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Parallel tabu search over per-runway landing sequences, for the three
+ * objectives.
+ *
+ * One search thread runs per core (by default). At each iteration a thread
+ * samples candidate moves from the neighbourhoods of {@link RunwaySequences}
+ * and applies the best one whose aircraft are not tabu; a tabu move is
+ * still allowed if it beats the best known schedule (aspiration). Threads
+ * differ by tabu tenure, move distance and share of runway moves, so that
+ * some intensify and others diversify.
+ *
+ * Every improvement of a thread is offered to a lock-free elite pool shared
+ * by all threads. A thread that has not improved for a while restarts from
+ * a random elite schedule with an empty tabu list.
+ *
+ * With a target gap, the threads also stop once the best elite schedule is
+ * within that gap of the {@link LagrangianBound}, which is then attached to
+ * the solution.
+ */
+public class TabuSearchSolver implements ALPSolver {
+
+    // Default wall-clock budget
+    private static final double DEFAULT_TIME_LIMIT_SECONDS = 10;
+
+    // Number of schedules kept in the elite pool
+    private static final int ELITE_SIZE = 10;
+
+    // Iterations without improvement before a restart from the elite pool
+    private static final int RESTART_ITERATIONS = 1000;
+
+    private final ObjectiveType objectiveType;
+    private double timeLimit = DEFAULT_TIME_LIMIT_SECONDS;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private double targetGap = Double.NaN;
+    private long seed = 42;
+
+    public TabuSearchSolver(ObjectiveType objectiveType) {
+        this.objectiveType = objectiveType;
+    }
+
+    @Override
+    public ALPSolution solve(ALPInstance instance) {
+        long startTime = System.currentTimeMillis();
+        ALPSolution start = GreedyHeuristic.construct(instance, objectiveType);
+        if (start == null) {
+            throw new RuntimeException("Tabu search needs a feasible start, greedy heuristic found none");
+        }
+
+        // Bound of the gap stop, if any
+        double lowerBound = Double.isNaN(targetGap) ? Double.NaN
+                : LagrangianBound.forGapStop(instance, objectiveType, start.getObjectiveValue(), timeLimit);
+        double stoppingValue = Double.isNaN(targetGap) ? Double.NEGATIVE_INFINITY
+                : LagrangianBound.stoppingValue(lowerBound, targetGap);
+
+        SeparationAnalysis separations = new SeparationAnalysis(instance);
+        RunwaySequences initial = new RunwaySequences(instance, objectiveType, separations);
+        initial.load(start.getLandingTimes(), start.getRunwayAssignments());
+        ElitePool pool = new ElitePool(ELITE_SIZE);
+        int[] times = new int[instance.getNumAircraft()];
+        int[] runways = new int[instance.getNumAircraft()];
+        initial.copyTo(times, runways);
+        pool.offer(new Elite(times, runways, initial.energy(), initial.objective()));
+
+        System.out.println("Starting tabu search for " + objectiveType.getLabel() + " (" + threads
+                + " threads, start " + initial.objective() + ", budget " + timeLimit + " s)...");
+        long deadline = startTime + (long) (timeLimit * 1000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long iterations = 0;
+        try {
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                SearchThread thread = new SearchThread(instance, separations, pool, t, new Random(seed + t),
+                        deadline, stoppingValue);
+                futures.add(executor.submit(thread::run));
+            }
+            for (Future<Long> future : futures) {
+                iterations += future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Tabu search thread failed: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Elite best = pool.best();
+        double solveTime = (System.currentTimeMillis() - startTime) / 1000.0;
+        double objectiveValue = objectiveType.evaluate(instance, best.times, best.runways);
+        System.out.println("Tabu search finished in " + solveTime + " seconds: " + iterations
+                + " iterations, objective " + objectiveValue);
+
+        if (ScheduleValidator.validate(instance, best.times, best.runways)) {
+            System.out.println("Solution validation passed");
+        } else {
+            System.out.println("⚠️ Solution validation failed");
+            throw new RuntimeException("Tabu search schedule validation failed");
+        }
+        ALPSolution solution = new ALPSolution(instance, best.times.clone(), best.runways.clone(), objectiveValue,
+                solveTime, objectiveType.getLabel());
+        if (!Double.isNaN(lowerBound)) {
+            LagrangianBound.attach(solution, lowerBound);
+        }
+        return solution;
+    }
+
+    @Override
+    public String getName() {
+        return "Tabu Search: " + objectiveType.getLabel();
+    }
+
+    public double getTimeLimit() {
+        return timeLimit;
+    }
+
+    public void setTimeLimit(double timeLimit) {
+        this.timeLimit = timeLimit;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public double getTargetGap() {
+        return targetGap;
+    }
+
+    /**
+     * Sets the relative gap to the Lagrangian bound at which the search
+     * stops (NaN, the default, to run the whole budget without a bound).
+     */
+    public void setTargetGap(double targetGap) {
+        this.targetGap = targetGap;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * One search thread. Its parameters are derived from its index.
+     */
+    private final class SearchThread {
+        private final RunwaySequences state;
+        private final ElitePool pool;
+        private final Random random;
+        private final long deadline;
+        private final double stoppingValue;
+        private final int n;
+
+        private final int tenure;
+        private final int neighbourhood;
+        private final double runwayProbability;
+        private final int candidates;
+
+        private final int[] tabuUntil;
+        private final int[] times;
+        private final int[] runways;
+
+        SearchThread(ALPInstance instance, SeparationAnalysis separations, ElitePool pool, int index, Random random,
+                long deadline, double stoppingValue) {
+            this.pool = pool;
+            this.random = random;
+            this.deadline = deadline;
+            this.stoppingValue = stoppingValue;
+            n = instance.getNumAircraft();
+            state = new RunwaySequences(instance, objectiveType, separations);
+
+            // Tenures from n/20 to n/4, move distances 4, 8 or 16, runway moves from 20% to 50%
+            tenure = Math.max(2, n * (1 + index % 5) / 20);
+            neighbourhood = 4 << (index % 3);
+            runwayProbability = 0.2 + 0.15 * ((index / 3) % 3);
+            candidates = Math.max(20, 2 * n);
+
+            tabuUntil = new int[n];
+            times = new int[n];
+            runways = new int[n];
+        }
+
+        /**
+         * Searches until the deadline or until the objective of the best
+         * elite reaches stoppingValue. Returns the number of iterations.
+         */
+        long run() {
+            Elite start = pool.best();
+            state.load(start.times, start.runways);
+            double best = state.energy();
+            int iteration = 0;
+            int stall = 0;
+
+            while (System.currentTimeMillis() < deadline && !Thread.currentThread().isInterrupted()) {
+                iteration++;
+                Elite elite = pool.best();
+                if (elite.objective <= stoppingValue) {
+                    break;
+                }
+                double aspiration = Math.min(best, elite.energy);
+
+                // Best admissible candidate
+                double chosen = Double.POSITIVE_INFINITY;
+                int type = -1;
+                int r1 = 0;
+                int p = 0;
+                int r2 = 0;
+                int q = 0;
+                for (int c = 0; c < candidates; c++) {
+                    double energy = state.randomMove(random, neighbourhood, runwayProbability);
+                    if (energy < chosen) {
+                        int a = state.getMoveAircraft1();
+                        int b = state.getMoveAircraft2();
+                        boolean tabu = tabuUntil[a] > iteration || (b >= 0 && tabuUntil[b] > iteration);
+                        if (!tabu || energy < aspiration - 1e-9) {
+                            chosen = energy;
+                            type = state.getMoveType();
+                            r1 = state.getMoveRunway1();
+                            p = state.getMovePosition1();
+                            r2 = state.getMoveRunway2();
+                            q = state.getMovePosition2();
+                        }
+                    }
+                    state.undo();
+                }
+
+                if (type >= 0) {
+                    state.apply(type, r1, p, r2, q);
+                    int a = state.getMoveAircraft1();
+                    int b = state.getMoveAircraft2();
+                    state.commit();
+                    tabuUntil[a] = iteration + tenure + random.nextInt(tenure + 1);
+                    if (b >= 0) {
+                        tabuUntil[b] = iteration + tenure + random.nextInt(tenure + 1);
+                    }
+                }
+
+                if (type >= 0 && chosen < best - 1e-9) {
+                    best = chosen;
+                    stall = 0;
+                    state.copyTo(times, runways);
+                    pool.offer(new Elite(times.clone(), runways.clone(), chosen, state.objective()));
+                } else if (++stall >= RESTART_ITERATIONS) {
+                    Elite restart = pool.random(random);
+                    state.load(restart.times, restart.runways);
+                    Arrays.fill(tabuUntil, 0);
+                    stall = 0;
+                }
+            }
+            return iteration;
+        }
+    }
+
+    /**
+     * An immutable schedule of the elite pool.
+     */
+    private static final class Elite {
+        final int[] times;
+        final int[] runways;
+        final double energy;
+        final double objective; // differs from the energy for the makespan
+
+        Elite(int[] times, int[] runways, double energy, double objective) {
+            this.times = times;
+            this.runways = runways;
+            this.energy = energy;
+            this.objective = objective;
+        }
+
+        boolean sameSchedule(Elite other) {
+            return Arrays.equals(times, other.times) && Arrays.equals(runways, other.runways);
+        }
+    }
+
+    /**
+     * Fixed-size pool of the best distinct schedules found by all threads.
+     * Insertions replace the worst entry by compare-and-set, without locks.
+     */
+    private static final class ElitePool {
+        private final AtomicReferenceArray<Elite> slots;
+
+        ElitePool(int size) {
+            slots = new AtomicReferenceArray<>(size);
+        }
+
+        /**
+         * Adds a schedule if it is better than the worst one of the pool and
+         * not already in it. Returns true if it was added.
+         */
+        boolean offer(Elite elite) {
+            while (true) {
+                int worst = -1;
+                Elite worstElite = null;
+                for (int k = 0; k < slots.length(); k++) {
+                    Elite e = slots.get(k);
+                    if (e != null && e.energy == elite.energy && e.sameSchedule(elite)) {
+                        return false;
+                    }
+                    if (e == null) {
+                        worst = k;
+                        worstElite = null;
+                        break;
+                    }
+                    if (worstElite == null || e.energy > worstElite.energy) {
+                        worst = k;
+                        worstElite = e;
+                    }
+                }
+                if (worstElite != null && worstElite.energy <= elite.energy) {
+                    return false;
+                }
+                if (slots.compareAndSet(worst, worstElite, elite)) {
+                    return true;
+                }
+            }
+        }
+
+        Elite best() {
+            Elite best = null;
+            for (int k = 0; k < slots.length(); k++) {
+                Elite e = slots.get(k);
+                if (e != null && (best == null || e.energy < best.energy)) {
+                    best = e;
+                }
+            }
+            return best;
+        }
+
+        Elite random(Random random) {
+            int start = random.nextInt(slots.length());
+            for (int k = 0; k < slots.length(); k++) {
+                Elite e = slots.get((start + k) % slots.length());
+                if (e != null) {
+                    return e;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.AircraftData;
+
+/**
+ * Computes landing times for fixed per-runway landing sequences.
+ *
+ * For Problem 1 the times minimise the weighted earliness and tardiness of
+ * the sequence. Aircraft are appended in order; an aircraft that cannot land
+ * at its target is pushed against the last block of tight landings, and the
+ * block then moves earlier while its tardiness weight exceeds its earliness
+ * weight, merging with the previous block when it reaches it. Each aircraft
+ * enters and leaves the block stack once, so a runway is timed in linear
+ * time up to the number of target and window breakpoints crossed. For
+ * Problems 2 and 3 the cost of a landing never decreases with its time, and
+ * every aircraft lands as early as possible.
+ *
+ * When the separation times satisfy the triangle inequality only
+ * consecutive landings need to be checked and the times are optimal.
+ * Otherwise (or when the instance is too large for the cubic check) each
+ * aircraft is checked against the previous aircraft up to the distance at
+ * which the minimum separations add up to the maximum one: the times stay
+ * feasible, but may not be optimal for Problem 1.
+ *
+ * All buffers are allocated by the constructor, so timing does not allocate.
+ * An engine is not thread-safe; use one per thread.
+ */
+public class TimingEngine {
+
+    private final ObjectiveType type;
+    private final int n;
+    private final int[] earliest;
+    private final int[] target;
+    private final int[] latest;
+    private final double[] earlyPenalty;
+    private final double[] latePenalty;
+    private final int[][] transfer;   // transfer time per aircraft and runway
+    private final int[][] separation;
+    private final boolean triangle;
+    private final int lookback;       // number of previous landings to check
+
+    private final int[] times;        // landing times by position
+    private final int[] blockStart;   // first position of each block
+
+    public TimingEngine(ALPInstance instance, ObjectiveType type) {
+        this(instance, type, new SeparationAnalysis(instance));
+    }
+
+    /**
+     * Creates an engine reusing the separation analysis of the instance, so
+     * that engines built per thread or per solve do not repeat the cubic
+     * triangle check.
+     */
+    public TimingEngine(ALPInstance instance, ObjectiveType type, SeparationAnalysis separations) {
+        this.type = type;
+        n = instance.getNumAircraft();
+        earliest = new int[n];
+        target = new int[n];
+        latest = new int[n];
+        earlyPenalty = new double[n];
+        latePenalty = new double[n];
+        transfer = new int[n][];
+        separation = new int[n][n];
+
+        for (int i = 0; i < n; i++) {
+            AircraftData a = instance.getAircraft().get(i);
+            earliest[i] = a.getEarliestLandingTime();
+            target[i] = a.getTargetLandingTime();
+            latest[i] = a.getLatestLandingTime();
+            earlyPenalty[i] = a.getEarlyPenalty();
+            latePenalty[i] = a.getLatePenalty();
+            transfer[i] = new int[instance.getNumRunways()];
+            for (int r = 0; r < instance.getNumRunways(); r++) {
+                transfer[i][r] = a.getTransferTime(r);
+            }
+            for (int j = 0; j < n; j++) {
+                if (i != j) {
+                    separation[i][j] = instance.getSeparationTime(i, j);
+                }
+            }
+        }
+
+        triangle = separations.isTriangle();
+        lookback = separations.getLookback();
+
+        times = new int[n];
+        blockStart = new int[n];
+    }
+
+    /**
+     * Returns true if s_ik <= s_ij + s_jk for all distinct i, j and k.
+     *
+     * @see SeparationAnalysis#satisfiesTriangleInequality(int[][])
+     */
+    public static boolean satisfiesTriangleInequality(int[][] separation) {
+        return SeparationAnalysis.satisfiesTriangleInequality(separation);
+    }
+
+    public ObjectiveType getObjectiveType() {
+        return type;
+    }
+
+    /**
+     * Returns the number of previous landings of a runway that each landing
+     * is checked against.
+     */
+    int getLookback() {
+        return lookback;
+    }
+
+    /**
+     * Returns true if the computed times are optimal for every sequence.
+     */
+    public boolean isExact() {
+        return triangle || type != ObjectiveType.WEIGHTED_DELAY;
+    }
+
+    /**
+     * Times every runway of a schedule.
+     *
+     * @param sequences    Landing order on each runway, indexed by runway
+     * @param lengths      Number of aircraft on each runway
+     * @param landingTimes Receives the landing time of each aircraft
+     * @return The objective value, or positive infinity if some aircraft
+     *         cannot land within its window
+     */
+    public double timeSchedule(int[][] sequences, int[] lengths, int[] landingTimes) {
+        double value = 0;
+        for (int r = 0; r < sequences.length; r++) {
+            double cost = timeRunway(sequences[r], lengths[r], r, landingTimes);
+            if (cost == Double.POSITIVE_INFINITY) {
+                return cost;
+            }
+            value = type == ObjectiveType.MAKESPAN ? Math.max(value, cost) : value + cost;
+        }
+        return value;
+    }
+
+    /**
+     * Times one runway.
+     *
+     * @param sequence     Aircraft in landing order
+     * @param length       Number of aircraft of the sequence to time
+     * @param runway       The runway (used for transfer times)
+     * @param landingTimes Receives the landing time of each aircraft of the
+     *                     sequence
+     * @return The cost of the runway (its last landing time for the
+     *         makespan), or positive infinity if some aircraft cannot land
+     *         within its window
+     */
+    public double timeRunway(int[] sequence, int length, int runway, int[] landingTimes) {
+        int blocks = 0;
+        for (int p = 0; p < length; p++) {
+            int j = sequence[p];
+            int lower = earliest[j];
+            for (int q = Math.max(0, p - lookback); q < p; q++) {
+                lower = Math.max(lower, times[q] + separation[sequence[q]][j]);
+            }
+            if (lower > latest[j] && type != ObjectiveType.WEIGHTED_DELAY) {
+                return Double.POSITIVE_INFINITY;
+            }
+
+            if (type != ObjectiveType.WEIGHTED_DELAY) {
+                times[p] = lower;
+                continue;
+            }
+
+            int desired = Math.max(earliest[j], Math.min(target[j], latest[j]));
+            if (desired >= lower) {
+                times[p] = desired;
+                blockStart[blocks++] = p;
+            } else {
+                times[p] = lower;
+                blocks = shiftLastBlock(sequence, times, blockStart, p, blocks, lookback);
+                if (blocks < 0) {
+                    return Double.POSITIVE_INFINITY;
+                }
+            }
+        }
+
+        double cost = 0;
+        for (int p = 0; p < length; p++) {
+            int j = sequence[p];
+            landingTimes[j] = times[p];
+            switch (type) {
+                case WEIGHTED_DELAY:
+                    cost += ObjectiveType.delayCost(times[p], target[j], earlyPenalty[j], latePenalty[j]);
+                    break;
+                case MAKESPAN:
+                    cost = Math.max(cost, times[p]);
+                    break;
+                case TOTAL_LATENESS:
+                    cost += ObjectiveType.latenessCost(times[p], transfer[j][runway], target[j]);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown objective " + type);
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Retimes the landings of a runway from a given position after its
+     * sequence changed, for Problems 2 and 3 where every aircraft lands as
+     * early as possible. Landings before from keep the times given in
+     * landingTimes. From position stableFrom on, the sequence must be the
+     * previous one (possibly shifted by one position) with its times in
+     * landingTimes: once enough consecutive landings there keep their time,
+     * every later landing keeps it too and retiming stops.
+     *
+     * @param sequence     Aircraft in landing order
+     * @param length       Number of aircraft on the runway
+     * @param from         First position whose aircraft or predecessors changed
+     * @param stableFrom   First position of the unchanged tail
+     * @param landingTimes Current landing time of each aircraft
+     * @param newTimes     Receives the new times of the retimed aircraft
+     * @return The position where retiming stopped (aircraft from there on
+     *         keep their time), or -1 if some aircraft cannot land within
+     *         its window
+     */
+    public int retimeSuffix(int[] sequence, int length, int from, int stableFrom, int[] landingTimes,
+            int[] newTimes) {
+        if (type == ObjectiveType.WEIGHTED_DELAY) {
+            throw new IllegalStateException("Problem 1 landings depend on the aircraft behind them, use timeRunway");
+        }
+        for (int q = Math.max(0, from - lookback); q < from; q++) {
+            times[q] = landingTimes[sequence[q]];
+        }
+
+        int unchanged = 0;
+        for (int p = from; p < length; p++) {
+            int j = sequence[p];
+            int t = earliest[j];
+            for (int q = Math.max(0, p - lookback); q < p; q++) {
+                t = Math.max(t, times[q] + separation[sequence[q]][j]);
+            }
+            if (t > latest[j]) {
+                return -1;
+            }
+            times[p] = t;
+            newTimes[j] = t;
+
+            if (p >= stableFrom && t == landingTimes[j]) {
+                if (++unchanged == lookback) {
+                    return p + 1;
+                }
+            } else {
+                unchanged = 0;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Moves the last block (ending at position last) earlier until every
+     * aircraft is within its window and moving further would not decrease
+     * the weighted delay. Also used by {@link BranchAndBoundSolver} on its
+     * own prefix arrays.
+     *
+     * @param sequence   Aircraft in landing order
+     * @param times      Landing times by position, updated in place
+     * @param blockStart First position of each block, updated in place
+     * @param last       Position of the last landing
+     * @param blocks     Number of blocks
+     * @param lookback   Number of previous landings checked for separation
+     * @return The new number of blocks, or -1 if the block cannot be made
+     *         feasible
+     */
+    int shiftLastBlock(int[] sequence, int[] times, int[] blockStart, int last, int blocks, int lookback) {
+        while (true) {
+            int start = blockStart[blocks - 1];
+            double gain = 0; // cost decrease per unit of left shift
+            int excess = 0;
+            int toEarliest = Integer.MAX_VALUE;
+            int toTarget = Integer.MAX_VALUE;
+            for (int p = start; p <= last; p++) {
+                int j = sequence[p];
+                excess = Math.max(excess, times[p] - latest[j]);
+                toEarliest = Math.min(toEarliest, times[p] - earliest[j]);
+                if (times[p] > target[j]) {
+                    gain += latePenalty[j];
+                    toTarget = Math.min(toTarget, times[p] - target[j]);
+                } else {
+                    gain -= earlyPenalty[j];
+                }
+            }
+            if (excess <= 0 && gain <= 0) {
+                return blocks;
+            }
+            if (toEarliest == 0) {
+                return excess <= 0 ? blocks : -1;
+            }
+
+            // Slack to the landings before the block
+            int gap = Integer.MAX_VALUE;
+            for (int p = start; p <= last && p - lookback < start; p++) {
+                for (int q = Math.max(0, p - lookback); q < start; q++) {
+                    gap = Math.min(gap, times[p] - times[q] - separation[sequence[q]][sequence[p]]);
+                }
+            }
+            if (gap == 0) {
+                blocks--;
+                continue;
+            }
+
+            int step = Math.min(Math.min(toEarliest, gain > 0 ? toTarget : excess), gap);
+            for (int p = start; p <= last; p++) {
+                times[p] -= step;
+            }
+            if (step == gap) {
+                blocks--;
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package alp.solver;
+
+import alp.model.ALPInstance;
+import alp.model.AircraftData;
+import ilog.concert.IloException;
+import ilog.concert.IloLinearNumExpr;
+import ilog.concert.IloNumExpr;
+import ilog.concert.IloNumVar;
+import ilog.concert.IloRange;
+import ilog.cplex.IloCplex;
+
+/**
+ * Objective module for Problem 1: weighted sum of early and late penalties.
+ * On a time-indexed model the penalty of each landing time is put directly
+ * on its variable, without auxiliary variables.
+ */
+public class WeightedDelayObjective implements ObjectiveModule {
+
+    private IloNumVar[] earlyPenalty; // alpha_i: early penalty for aircraft i
+    private IloNumVar[] latePenalty; // beta_i: late penalty for aircraft i
+    private IloRange[] constraints;
+
+    @Override
+    public ObjectiveType getType() {
+        return ObjectiveType.WEIGHTED_DELAY;
+    }
+
+    @Override
+    public IloNumExpr install(ALPModel model) throws IloException {
+        IloCplex cplex = model.getCplex();
+        ALPInstance instance = model.getInstance();
+        IloNumVar[] landingTimes = model.getLandingTimes();
+        int n = instance.getNumAircraft();
+
+        if (model.isTimeIndexed()) {
+            // Σ_irt (c_i^- * max(0, T_i - t) + c_i^+ * max(0, t - T_i)) * w_irt
+            IloLinearNumExpr objective = cplex.linearNumExpr();
+            for (int i = 0; i < n; i++) {
+                AircraftData aircraft = instance.getAircraft().get(i);
+                int targetTime = aircraft.getTargetLandingTime();
+                for (int r = 0; r < instance.getNumRunways(); r++) {
+                    for (int t = aircraft.getEarliestLandingTime(); t <= aircraft.getLatestLandingTime(); t++) {
+                        double cost = ObjectiveType.delayCost(t, targetTime, aircraft.getEarlyPenalty(),
+                                aircraft.getLatePenalty());
+                        if (cost != 0) {
+                            objective.addTerm(cost, model.getSlot(i, r, t));
+                        }
+                    }
+                }
+            }
+            return objective;
+        }
+
+        // alpha_i <= T_i - E_i and beta_i <= L_i - T_i when tight bounds are used
+        double[] lower = new double[n];
+        double[] maxEarly = new double[n];
+        double[] maxLate = new double[n];
+        for (int i = 0; i < n; i++) {
+            AircraftData aircraft = instance.getAircraft().get(i);
+            if (model.getOptions().isTightBounds()) {
+                maxEarly[i] = Math.max(0, aircraft.getTargetLandingTime() - aircraft.getEarliestLandingTime());
+                maxLate[i] = Math.max(0, aircraft.getLatestLandingTime() - aircraft.getTargetLandingTime());
+            } else {
+                maxEarly[i] = Double.MAX_VALUE;
+                maxLate[i] = Double.MAX_VALUE;
+            }
+        }
+        earlyPenalty = cplex.numVarArray(n, lower, maxEarly);
+        latePenalty = cplex.numVarArray(n, lower, maxLate);
+        constraints = new IloRange[2 * n];
+
+        IloLinearNumExpr objective = cplex.linearNumExpr();
+        for (int i = 0; i < n; i++) {
+            AircraftData aircraft = instance.getAircraft().get(i);
+            int targetTime = aircraft.getTargetLandingTime();
+
+            // Early penalty: alpha_i >= T_i - x_i
+            constraints[2 * i] = cplex.addGe(cplex.sum(earlyPenalty[i], landingTimes[i]), targetTime);
+
+            // Late penalty: beta_i >= x_i - T_i
+            constraints[2 * i + 1] = cplex.addGe(cplex.diff(latePenalty[i], landingTimes[i]), -targetTime);
+
+            objective.addTerm(aircraft.getEarlyPenalty(), earlyPenalty[i]); // c_i^- * alpha_i
+            objective.addTerm(aircraft.getLatePenalty(), latePenalty[i]); // c_i^+ * beta_i
+        }
+        return objective;
+    }
+
+    @Override
+    public void uninstall(ALPModel model) throws IloException {
+        if (constraints == null) {
+            return; // nothing was added on a time-indexed model
+        }
+        IloCplex cplex = model.getCplex();
+        cplex.remove(constraints);
+        cplex.delete(earlyPenalty);
+        cplex.delete(latePenalty);
+        constraints = null;
+        earlyPenalty = null;
+        latePenalty = null;
+    }
+}
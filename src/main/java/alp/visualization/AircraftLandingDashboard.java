@@ -3,10 +3,14 @@ package alp.visualization;
 import alp.io.InstanceReader;
 import alp.model.ALPInstance;
 import alp.model.ALPSolution;
-import alp.solver.ALPSolver;
+import alp.solver.ALPModel;
+import alp.solver.ModelSolver;
+import alp.solver.ModelOptions;
+import alp.solver.ObjectiveType;
 import alp.solver.Problem1Solver;
 import alp.solver.Problem2Solver;
 import alp.solver.Problem3Solver;
+import alp.solver.RunwaySweep;
 
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
@@ -229,7 +233,8 @@ public class AircraftLandingDashboard extends JFrame {
         resultsPanel.add(resultsHeaderPanel, BorderLayout.NORTH);
 
         // Tableau des solutions
-        String[] columnNames = { "Instance", "Pistes", "Solveur", "Objectif", "Temps (s)", "Statut" };
+        String[] columnNames = { "Instance", "Pistes", "Solveur", "Objectif", "Temps (s)", "Construction (s)",
+                "Statut" };
         solutionsTableModel = new DefaultTableModel(columnNames, 0) {
             @Override
             public boolean isCellEditable(int row, int column) {
@@ -238,7 +243,7 @@ public class AircraftLandingDashboard extends JFrame {
 
             @Override
             public Class<?> getColumnClass(int columnIndex) {
-                if (columnIndex == 3 || columnIndex == 4) {
+                if (columnIndex == 3 || columnIndex == 4 || columnIndex == 5) {
                     return Double.class;
                 }
                 return String.class;
@@ -301,6 +306,7 @@ public class AircraftLandingDashboard extends JFrame {
         rightRenderer.setHorizontalAlignment(JLabel.RIGHT);
         solutionsTable.getColumnModel().getColumn(3).setCellRenderer(rightRenderer); // Objectif
         solutionsTable.getColumnModel().getColumn(4).setCellRenderer(rightRenderer); // Temps
+        solutionsTable.getColumnModel().getColumn(5).setCellRenderer(rightRenderer); // Construction
 
         // ScrollPane avec coins arrondis
         JScrollPane scrollPane = new JScrollPane(solutionsTable);
@@ -724,43 +730,78 @@ public class AircraftLandingDashboard extends JFrame {
                     solverIndices.add(solverSelector.getSelectedIndex());
                 }
 
+                if (runwayConfigs.size() > 1) {
+                    // Balayage incrémental : chaque solution sert de point de départ à la suivante
+                    ObjectiveType[] types = new ObjectiveType[solverIndices.size()];
+                    for (int k = 0; k < types.length; k++) {
+                        types[k] = ObjectiveType.values()[solverIndices.get(k)];
+                    }
+                    ALPInstance base = InstanceReader.readInstance(instanceFile.getAbsolutePath(), 1);
+                    publish("Balayage de 1 à " + numRunways + " pistes...");
+                    RunwaySweep sweep = new RunwaySweep(new ModelOptions(), types);
+                    sweep.sweep(base, numRunways, solution -> {
+                        results.add(solution);
+                        publish(solution.getInstance().getNumRunways() + " pistes, " + solution.getProblemVariant()
+                                + " : objectif " + solution.getObjectiveValue());
+                    }, this::isCancelled);
+                    for (String failure : sweep.getFailures()) {
+                        publish("Erreur: " + failure);
+                    }
+                    return results;
+                }
+
                 for (int r : runwayConfigs) {
                     // Charger l'instance avec le bon nombre de pistes
                     ALPInstance instance = InstanceReader.readInstance(instanceFile.getAbsolutePath(), r);
 
                     publish("Configuration avec " + r + " pistes...");
 
-                    // Pour chaque solveur...
-                    for (int solverIdx : solverIndices) {
-                        if (isCancelled()) {
-                            return results;
-                        }
+                    // Plusieurs solveurs sur la même instance : construire le modèle une seule fois
+                    ALPModel sharedModel = null;
+                    if (solverIndices.size() > 1) {
+                        publish("Construction du modèle partagé...");
+                        sharedModel = new ALPModel(instance);
+                    }
 
-                        ALPSolver solver;
-                        switch (solverIdx) {
-                            case 0:
-                                publish("Résolution avec Problem1Solver (délai pondéré)...");
-                                solver = new Problem1Solver();
-                                break;
-                            case 1:
-                                publish("Résolution avec Problem2Solver (makespan)...");
-                                solver = new Problem2Solver();
-                                break;
-                            case 2:
-                                publish("Résolution avec Problem3Solver (temps d'arrivée)...");
-                                solver = new Problem3Solver();
-                                break;
-                            default:
-                                solver = new Problem1Solver();
+                    try {
+                        // Pour chaque solveur...
+                        for (int solverIdx : solverIndices) {
+                            if (isCancelled()) {
+                                return results;
+                            }
+
+                            ModelSolver solver;
+                            switch (solverIdx) {
+                                case 0:
+                                    publish("Résolution avec Problem1Solver (délai pondéré)...");
+                                    solver = new Problem1Solver();
+                                    break;
+                                case 1:
+                                    publish("Résolution avec Problem2Solver (makespan)...");
+                                    solver = new Problem2Solver();
+                                    break;
+                                case 2:
+                                    publish("Résolution avec Problem3Solver (temps d'arrivée)...");
+                                    solver = new Problem3Solver();
+                                    break;
+                                default:
+                                    solver = new Problem1Solver();
+                            }
+
+                            try {
+                                ALPSolution solution = sharedModel != null
+                                        ? solver.solve(sharedModel)
+                                        : solver.solve(instance);
+                                results.add(solution);
+                                publish("Solution trouvée avec objectif: " + solution.getObjectiveValue());
+                            } catch (Exception e) {
+                                publish("Erreur: " + e.getMessage());
+                                e.printStackTrace();
+                            }
                         }
-
-                        try {
-                            ALPSolution solution = solver.solve(instance);
-                            results.add(solution);
-                            publish("Solution trouvée avec objectif: " + solution.getObjectiveValue());
-                        } catch (Exception e) {
-                            publish("Erreur: " + e.getMessage());
-                            e.printStackTrace();
+                    } finally {
+                        if (sharedModel != null) {
+                            sharedModel.end();
                         }
                     }
                 }
@@ -820,10 +861,18 @@ public class AircraftLandingDashboard extends JFrame {
         String solverName = solution.getProblemVariant();
         double objective = solution.getObjectiveValue();
         double time = solution.getSolveTime();
-        String status = "Optimal";
+        double buildTime = solution.getModelBuildTime();
+        String status;
+        if (Double.isNaN(solution.getMipGap())) {
+            status = "Réalisable";
+        } else if (solution.getMipGap() <= 1e-6) {
+            status = "Optimal";
+        } else {
+            status = String.format("Écart %.2f%%", 100 * solution.getMipGap());
+        }
 
         solutionsTableModel.addRow(new Object[] {
-                instanceName, numRunways, solverName, objective, time, status
+                instanceName, numRunways, solverName, objective, time, buildTime, status
         });
     }
 
@@ -960,6 +1009,7 @@ public class AircraftLandingDashboard extends JFrame {
         addInfoRow(infoPanel, "Avions", String.valueOf(solution.getInstance().getNumAircraft()));
         addInfoRow(infoPanel, "Pistes", String.valueOf(solution.getInstance().getNumRunways()));
         addInfoRow(infoPanel, "Temps de calcul", String.format("%.2f s", solution.getSolveTime()));
+        addInfoRow(infoPanel, "Construction du modèle", String.format("%.2f s", solution.getModelBuildTime()));
 
         // Stats spécifiques au type de problème
         if (solution.getProblemVariant().contains("Problem 1")) {